@@ -0,0 +1,78 @@
+package aslib.benchmark.document;
+
+import aslib.document.ColumnarValidator;
+import aslib.document.bra.BrazilianDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p style="text-align:justify">
+ * Measures the validation of CPF columns, with the plain loop and with the
+ * kernel of the Vector API, which runs in its own forks with the incubator
+ * module resolved.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The score is the time to validate the whole range of {@code rows} rows.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ColumnarValidatorBenchmark {
+
+    @Param({"1048576"})
+    private int rows;
+
+    private byte[][]          columns;
+    private ColumnarValidator validator;
+
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+
+        columns = new byte[11][rows];
+        for (int position = 0; position < 9; position++) {
+            for (int row = 0; row < rows; row++) {
+                columns[position][row] = (byte) random.nextInt(10);
+            }
+        }
+
+        validator = ColumnarValidator.of(BrazilianDocument.cpf());
+        validator.calculate(columns, 0, rows);
+    }
+
+
+    @Benchmark
+    public BitSet validatePlain() {
+        return validator.validate(columns, 0, rows);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public BitSet validateVector() {
+        return validator.validate(columns, 0, rows);
+    }
+}
@@ -0,0 +1,77 @@
+package aslib.benchmark.hash;
+
+import aslib.security.hash.HashChecksumGenerator;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * <p style="text-align:justify">
+ * Resolves the {@link HashChecksumGenerator} of an algorithm by the name of
+ * its factory method, such as {@code sha256} or {@code blake3}, and toggles
+ * its optional modes.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The methods are looked up by reflection, so the benchmarks compile against
+ * older versions of ASLib that lack some of them. Requesting a missing one
+ * fails the trial instead of the build.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class Algorithms {
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link Algorithms} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private Algorithms() {}
+
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the generator of the algorithm.
+     * </p>
+     *
+     * @param name Name of the factory method of the algorithm.
+     *
+     * @return The generator of the algorithm.
+     *
+     * @throws IllegalArgumentException If this version of ASLib does not
+     *                                  provide the algorithm.
+     * @since 1.0.0
+     */
+    static HashChecksumGenerator of(String name)
+    throws IllegalArgumentException {
+        try {
+            return (HashChecksumGenerator) HashChecksumGenerator.class.getMethod(name).invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Algorithm not available: '" + name + '\'', e);
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Enables the direct I/O mode of the generator.
+     * </p>
+     *
+     * @param generator Generator whose mode will be changed.
+     *
+     * @throws IllegalArgumentException If this version of ASLib does not
+     *                                  provide the direct I/O mode.
+     * @since 1.0.0
+     */
+    static void enableDirectIO(HashChecksumGenerator generator)
+    throws IllegalArgumentException {
+        try {
+            HashChecksumGenerator.class.getMethod("directIO", boolean.class).invoke(generator, true);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Direct I/O not available.", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package aslib.benchmark.hash;
+
+import aslib.security.hash.HashChecksumGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p style="text-align:justify">
+ * Compares the ways of hashing many small messages with SHA-256: one call
+ * per message, one call for the whole batch reusing the message digest of the
+ * platform, and one call for the whole batch hashed over the Vector API.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The Vector API batch runs in its own forks, with the incubator module
+ * resolved and the {@code aslib.security.hash.vector} property set. On
+ * processors with the SHA extensions the platform digest is intrinsified and
+ * usually wins; pass {@code -XX:-UseSHA256Intrinsics} to the forks with
+ * {@code -jvmArgsPrepend} to see the processors without them.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The score is the time to hash the whole batch of {@code count} messages.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchHashBenchmark {
+
+    @Param({"64", "256", "1024"})
+    private int size;
+
+    @Param({"10000"})
+    private int count;
+
+    private List<byte[]>          messages;
+    private HashChecksumGenerator platform;
+
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+
+        messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] message = new byte[size];
+            random.nextBytes(message);
+            messages.add(message);
+        }
+
+        platform = HashChecksumGenerator.sha256();
+    }
+
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) {
+        for (byte[] message : messages) {
+            blackhole.consume(platform.generate(message));
+        }
+    }
+
+    @Benchmark
+    public List<String> batchPlatform() {
+        return platform.generate(messages);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Daslib.security.hash.vector=true"})
+    public List<String> batchVector() {
+        return platform.generate(messages);
+    }
+}
@@ -0,0 +1,100 @@
+package aslib.benchmark.hash;
+
+import aslib.security.hash.HashChecksumGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p style="text-align:justify">
+ * Measures {@link HashChecksumGenerator#generate(File)} and
+ * {@link HashChecksumGenerator#generate(Path)} for every algorithm, with
+ * files from 16 B to 1 GiB. The score is the time to hash one file, including
+ * opening it and the hexadecimal encoding of the digest.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The file is written once per trial in the default temporary directory, so
+ * after the first read it is usually served by the page cache. Set the
+ * {@code directIO} parameter to TRUE to measure reads that bypass it.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileHashBenchmark {
+
+    @Param({"md5", "sha1", "sha224", "sha256", "sha384", "sha512", "blake2b", "blake3"})
+    private String algorithm;
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "1073741824"})
+    private int size;
+
+    @Param({"false"})
+    private boolean directIO;
+
+    private HashChecksumGenerator generator;
+    private Path                  path;
+    private File                  file;
+
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        generator = Algorithms.of(algorithm);
+        if (directIO) Algorithms.enableDirectIO(generator);
+
+        path = Files.createTempFile("aslib-benchmark-", ".bin");
+        file = path.toFile();
+
+        Random random = new Random(42);
+        byte[] chunk  = new byte[1024 * 1024];
+
+        try (OutputStream stream = Files.newOutputStream(path)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                stream.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+
+    @Benchmark
+    public String file() {
+        return generator.generate(file);
+    }
+
+    @Benchmark
+    public String path() {
+        return generator.generate(path);
+    }
+}
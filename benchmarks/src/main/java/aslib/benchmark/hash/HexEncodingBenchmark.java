@@ -0,0 +1,63 @@
+package aslib.benchmark.hash;
+
+import aslib.security.hash.HashChecksumGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p style="text-align:justify">
+ * Measures the fixed cost of a hash checksum, which is dominated by the
+ * hexadecimal encoding of the digest. The input is empty, so the digest is a
+ * single block and the score reflects the encoding of 16 to 64 bytes into a
+ * String.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The encoder is not public, so it is measured through
+ * {@link HashChecksumGenerator#generate(byte[])}. Run with {@code -prof gc} to
+ * compare the bytes allocated per checksum between versions.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HexEncodingBenchmark {
+
+    @Param({"md5", "sha1", "sha224", "sha256", "sha384", "sha512", "blake2b", "blake3"})
+    private String algorithm;
+
+    private HashChecksumGenerator generator;
+    private byte[]                input;
+
+
+    @Setup(Level.Trial)
+    public void setup() {
+        generator = Algorithms.of(algorithm);
+        input     = new byte[0];
+    }
+
+
+    @Benchmark
+    public String emptyInput() {
+        return generator.generate(input);
+    }
+}
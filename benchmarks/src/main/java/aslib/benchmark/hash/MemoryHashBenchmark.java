@@ -0,0 +1,82 @@
+package aslib.benchmark.hash;
+
+import aslib.security.hash.HashChecksumGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p style="text-align:justify">
+ * Measures {@link HashChecksumGenerator#generate(String)} and
+ * {@link HashChecksumGenerator#generate(byte[])} for every algorithm, with
+ * inputs from 16 B to 1 GiB. The score is the time to hash one input,
+ * including the hexadecimal encoding of the digest.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The largest inputs need a big heap, so the forks run with 4 GiB. Run with
+ * {@code -prof gc} to see the allocation rate: the String overload copies the
+ * whole input to a byte array before hashing it.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MemoryHashBenchmark {
+
+    @Param({"md5", "sha1", "sha224", "sha256", "sha384", "sha512", "blake2b", "blake3"})
+    private String algorithm;
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "1073741824"})
+    private int size;
+
+    private HashChecksumGenerator generator;
+    private byte[]                bytes;
+    private String                string;
+
+
+    @Setup(Level.Trial)
+    public void setup() {
+        generator = Algorithms.of(algorithm);
+
+        // Printable ASCII, so the String has exactly one byte per char
+        Random random = new Random(42);
+        bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (' ' + random.nextInt(95));
+        }
+
+        string = new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+
+    @Benchmark
+    public String bytes() {
+        return generator.generate(bytes);
+    }
+
+    @Benchmark
+    public String string() {
+        return generator.generate(string);
+    }
+}
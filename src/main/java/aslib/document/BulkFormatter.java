@@ -0,0 +1,162 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Formats large amounts of documents at once, such as the columns of a
+ * report. The documents may be formatted into an array, using all the cores
+ * of the machine for large inputs, or written to an {@link Appendable}, one
+ * per line, through a single reusable buffer.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link BulkFormatter#of(Document)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class BulkFormatter {
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int BUFFER_SIZE        = 64 * 1024;
+
+    private final Document document;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link BulkFormatter} class.
+     * </p>
+     *
+     * @param document Document implementation used to format the documents.
+     *
+     * @since 1.0.0
+     */
+    private BulkFormatter(Document document) {
+        this.document = document;
+    }
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link BulkFormatter} that formats the documents
+     * with the provided implementation, such as
+     * {@code BrazilianDocument.cpf()}. The implementation must be safe to use
+     * from many threads, as the implementations of the API are.
+     * </p>
+     *
+     * @param document Document implementation used to format the documents.
+     *
+     * @return An instance of BulkFormatter.
+     *
+     * @throws NullPointerException If the document is null.
+     * @since 1.0.0
+     */
+    public static BulkFormatter of(Document document)
+    throws NullPointerException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        return new BulkFormatter(document);
+    }
+
+
+    /**
+     * <p>
+     * Formats an array of documents.
+     * </p>
+     *
+     * @param documents Documents that will be formatted.
+     *
+     * @return An array with the documents formatted, in the same order.
+     *
+     * @throws NullPointerException  If the array is null.
+     * @throws NullDocumentException If any document is null.
+     * @since 1.0.0
+     */
+    public String[] format(CharSequence[] documents)
+    throws NullPointerException, NullDocumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+
+        String[]  formatted = new String[documents.length];
+        IntStream indexes   = IntStream.range(0, documents.length);
+
+        if (documents.length >= PARALLEL_THRESHOLD) indexes = indexes.parallel();
+
+        indexes.forEach(i -> {
+            CharSequence value = documents[i];
+            if (value == null) throw new NullDocumentException();
+
+            formatted[i] = document.format(value.toString());
+        });
+
+        return formatted;
+    }
+
+    /**
+     * <p>
+     * Formats a list of documents. The list is copied to an array first.
+     * </p>
+     *
+     * @param documents Documents that will be formatted.
+     *
+     * @return An array with the documents formatted, in the same order.
+     *
+     * @throws NullPointerException  If the list is null.
+     * @throws NullDocumentException If any document is null.
+     * @since 1.0.0
+     */
+    public String[] format(List<? extends CharSequence> documents)
+    throws NullPointerException, NullDocumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+
+        return format(documents.toArray(new CharSequence[0]));
+    }
+
+    /**
+     * <p>
+     * Writes the documents to the destination, one per line, ended by
+     * {@code '\n'}. The documents are formatted into a buffer that is written
+     * whenever it is full, so the destination receives a few large writes.
+     * </p>
+     *
+     * @param documents   Documents that will be formatted.
+     * @param destination Where the documents will be appended, such as a
+     *                    {@link java.io.Writer}.
+     *
+     * @return The amount of documents written.
+     *
+     * @throws NullPointerException  If the documents or the destination are
+     *                               null.
+     * @throws NullDocumentException If any document is null. The documents
+     *                               before it may have been written.
+     * @throws IOException           If the destination cannot be written.
+     * @since 1.0.0
+     */
+    public long formatTo(Iterable<? extends CharSequence> documents, Appendable destination)
+    throws NullPointerException, NullDocumentException, IOException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 64);
+        long          amount = 0;
+
+        for (CharSequence value : documents) {
+            document.formatTo(value, buffer);
+            buffer.append('\n');
+            amount++;
+
+            if (buffer.length() >= BUFFER_SIZE) {
+                destination.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+
+        destination.append(buffer);
+        return amount;
+    }
+}
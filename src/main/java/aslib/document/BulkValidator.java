@@ -0,0 +1,186 @@
+package aslib.document;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Validates large amounts of documents at once, using all the cores of the
+ * machine. The result is a {@link BitSet} whose bit {@code i} is set when the
+ * document at the position {@code i} is valid.
+ * </p>
+ *
+ * <p>
+ * The documents are split in blocks of 64, and each block fills a single
+ * word of the result, so the threads never write to the same memory. Inputs
+ * smaller than a few thousands documents are validated in the calling thread,
+ * where the parallelism would not pay off.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link BulkValidator#of(Document)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class BulkValidator {
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final Document document;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link BulkValidator} class.
+     * </p>
+     *
+     * @param document Document implementation used to validate the documents.
+     *
+     * @since 1.0.0
+     */
+    private BulkValidator(Document document) {
+        this.document = document;
+    }
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link BulkValidator} that validates the
+     * documents with the provided implementation, such as
+     * {@code BrazilianDocument.cpf()}. The implementation must be safe to use
+     * from many threads, as the implementations of the API are.
+     * </p>
+     *
+     * @param document Document implementation used to validate the documents.
+     *
+     * @return An instance of BulkValidator.
+     *
+     * @throws NullPointerException If the document is null.
+     * @since 1.0.0
+     */
+    public static BulkValidator of(Document document)
+    throws NullPointerException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        return new BulkValidator(document);
+    }
+
+
+    /**
+     * <p>
+     * Validates an array of documents.
+     * </p>
+     *
+     * @param documents Documents that will be validated.
+     *
+     * @return A BitSet with the positions of the valid documents set.
+     *
+     * @throws NullPointerException  If the array is null.
+     * @throws NullDocumentException If any document is null.
+     * @since 1.0.0
+     */
+    public BitSet validate(CharSequence[] documents)
+    throws NullPointerException, NullDocumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+
+        return validate(documents.length, index -> documents[index]);
+    }
+
+    /**
+     * <p>
+     * Validates a list of documents. Lists without random access are copied
+     * to an array first.
+     * </p>
+     *
+     * @param documents Documents that will be validated.
+     *
+     * @return A BitSet with the positions of the valid documents set.
+     *
+     * @throws NullPointerException  If the list is null.
+     * @throws NullDocumentException If any document is null.
+     * @since 1.0.0
+     */
+    public BitSet validate(List<? extends CharSequence> documents)
+    throws NullPointerException, NullDocumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+        if (!(documents instanceof RandomAccess)) return validate(documents.toArray(new CharSequence[0]));
+
+        return validate(documents.size(), index -> documents.get(index));
+    }
+
+    /**
+     * <p>
+     * Validates a stream of documents. The stream is collected to an array
+     * first, so the bits of the result follow its encounter order.
+     * </p>
+     *
+     * @param documents Documents that will be validated.
+     *
+     * @return A BitSet with the positions of the valid documents set.
+     *
+     * @throws NullPointerException  If the stream is null.
+     * @throws NullDocumentException If any document is null.
+     * @since 1.0.0
+     */
+    public BitSet validate(Stream<? extends CharSequence> documents)
+    throws NullPointerException, NullDocumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+
+        return validate(documents.toArray(CharSequence[]::new));
+    }
+
+
+    /**
+     * <p>
+     * Validates the documents of the source, one word of the result per
+     * block of 64 documents.
+     * </p>
+     *
+     * @param size   Amount of documents of the source.
+     * @param source Source of the documents.
+     *
+     * @return A BitSet with the positions of the valid documents set.
+     *
+     * @since 1.0.0
+     */
+    private BitSet validate(int size, Source source) {
+        long[]    words  = new long[(size + 63) >>> 6];
+        IntStream blocks = IntStream.range(0, words.length);
+
+        if (size >= PARALLEL_THRESHOLD) blocks = blocks.parallel();
+
+        blocks.forEach(block -> {
+            int  first = block << 6;
+            int  last  = Math.min(size, first + 64);
+            long word  = 0;
+
+            for (int i = first; i < last; i++) {
+                if (document.isValid(source.get(i))) word |= 1L << (i - first);
+            }
+
+            words[block] = word;
+        });
+
+        return BitSet.valueOf(words);
+    }
+
+
+    /**
+     * <p>
+     * Gives indexed access to the documents, regardless of the container
+     * that holds them.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private interface Source {
+
+        CharSequence get(int index);
+    }
+}
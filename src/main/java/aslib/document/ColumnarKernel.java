@@ -0,0 +1,71 @@
+package aslib.document;
+
+/**
+ * <p>
+ * Accumulates the weighted digits of a column into the sums of the rows, the
+ * inner loop of {@link ColumnarValidator}.
+ * </p>
+ *
+ * <p>
+ * The implementation uses the incubating Vector API, so it lives in the Java
+ * 17 layer of the multi-release jar and is looked up by reflection. It is only
+ * available when the {@code jdk.incubator.vector} module is resolved, such as
+ * with {@code --add-modules jdk.incubator.vector}. Otherwise the lookup gives
+ * null, and the validator runs its plain loop.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+interface ColumnarKernel {
+
+    /**
+     * <p>
+     * Kernel of the Java 17 layer, or null if it is not available.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    ColumnarKernel VECTOR = find("aslib.document.VectorColumnarKernel");
+
+
+    /**
+     * <p>
+     * Adds the digit of each row, multiplied by the weight, to its sum.
+     * </p>
+     *
+     * @param column Column of the digits.
+     * @param start  First row of the block in the column.
+     * @param weight Weight of the column.
+     * @param sums   Sums of the rows of the block.
+     * @param size   Amount of rows of the block.
+     *
+     * @since 1.0.0
+     */
+    void multiplyAdd(byte[] column, int start, int weight, int[] sums, int size);
+
+
+    /**
+     * <p>
+     * Looks up an implementation of the Java 17 layer.
+     * </p>
+     *
+     * @param name Name of the class of the implementation.
+     *
+     * @return An instance of the implementation, or null if the platform
+     * does not provide the Vector API.
+     *
+     * @since 1.0.0
+     */
+    private static ColumnarKernel find(String name) {
+        try {
+            return (ColumnarKernel) Class.forName(name)
+                                         .getDeclaredConstructor()
+                                         .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException ignored) {
+            // The validator falls back to its plain loop
+            return null;
+        }
+    }
+}
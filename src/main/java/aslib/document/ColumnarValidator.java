@@ -0,0 +1,335 @@
+package aslib.document;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Calculates and validates the verification digits of documents stored in
+ * columns, as in the columnar databases: one {@code byte[]} per position of
+ * the document, holding the value of that digit for every row. The row
+ * {@code r} of a CPF is {@code columns[0][r]} to {@code columns[10][r]}, and
+ * the symbol of the digit 10, such as the 'X' of the RG, is stored as 10.
+ * </p>
+ *
+ * <p>
+ * The rows are processed in blocks, one column at a time. For each
+ * verification digit, the weighted sums of all the rows of a block are
+ * accumulated with the weight of each column over primitive arrays. The
+ * accumulation runs on the {@link ColumnarKernel} of the Vector API when the
+ * {@code jdk.incubator.vector} module is resolved, and in a plain loop
+ * otherwise. Only the
+ * remainders, the mapping into digits and the rules of the document, such as
+ * the repeated digits, run row by row. Large inputs are split among the cores
+ * of the machine, and each block fills its own words of the result.
+ * </p>
+ *
+ * <p>
+ * The digits before the verification digits must be from 0 to 9 to be
+ * calculated. When validating, the rows with any other value are invalid. The
+ * instances are immutable and safe to use from many threads. Get its instance
+ * through the {@link ColumnarValidator#of(Document)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class ColumnarValidator {
+
+    private static final int BLOCK_SIZE         = 1024;
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final CompiledDocument document;
+    private final int              length;
+    private final int              digits;
+    private final int              checkDigits;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link ColumnarValidator} class.
+     * </p>
+     *
+     * @param document Document implementation of the columns.
+     *
+     * @since 1.0.0
+     */
+    private ColumnarValidator(CompiledDocument document) {
+        this.document    = document;
+        this.length      = document.length();
+        this.checkDigits = document.verificationDigits();
+        this.digits      = length - checkDigits;
+    }
+
+
+    /**
+     * <p>
+     * Creates a validator for the columns of the documents of the provided
+     * implementation, such as {@code BrazilianDocument.cpf()}.
+     * </p>
+     *
+     * @param document Document implementation of the columns. It must be
+     *                 compiled from a {@link DocumentSpec}, as the
+     *                 implementations of the API are.
+     *
+     * @return An instance of ColumnarValidator.
+     *
+     * @throws NullPointerException     If the document is null.
+     * @throws IllegalArgumentException If the document is not compiled from a
+     *                                  {@link DocumentSpec}.
+     * @since 1.0.0
+     */
+    public static ColumnarValidator of(Document document)
+    throws NullPointerException, IllegalArgumentException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        if (!(document instanceof CompiledDocument))
+            throw new IllegalArgumentException("Document is not supported: '" + document.getClass().getName() + '\'');
+
+        return new ColumnarValidator((CompiledDocument) document);
+    }
+
+
+    /**
+     * <p>
+     * Calculates the verification digits of a range of rows, writing them to
+     * the last columns. The other columns are only read.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param offset  First row of the range.
+     * @param rows    Amount of rows of the range.
+     *
+     * @throws NullPointerException      If the columns or any of them are
+     *                                   null.
+     * @throws IllegalArgumentException  If the amount of columns is not the
+     *                                   length of the document, or if any
+     *                                   digit before the verification digits
+     *                                   is not from 0 to 9. The blocks before
+     *                                   the row of the digit may have been
+     *                                   written.
+     * @throws IndexOutOfBoundsException If the range is out of the bounds of
+     *                                   any column.
+     * @since 1.0.0
+     */
+    public void calculate(byte[][] columns, int offset, int rows)
+    throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
+        checkColumns(columns, offset, rows);
+
+        blocks(rows).forEach(block -> {
+            int    start  = offset + block * BLOCK_SIZE;
+            int    size   = Math.min(BLOCK_SIZE, offset + rows - start);
+            long[] bases  = new long[size];
+            int[]  sums   = new int[size];
+            int[]  errors = new int[size];
+
+            pack(columns, start, size, bases, errors);
+
+            for (int r = 0; r < size; r++) {
+                if (errors[r] != 0) throw new IllegalArgumentException("Invalid digit at row: '" + (start + r) + '\'');
+            }
+
+            for (int i = 0; i < checkDigits; i++) {
+                byte[] column  = columns[digits + i];
+                int    modulus = document.modulus(i);
+
+                // Each verification digit weighs the ones calculated before it
+                sum(columns, i, start, size, sums);
+
+                for (int r = 0; r < size; r++) {
+                    column[start + r] = (byte) document.verificationDigit(i, sums[r] % modulus, bases[r]);
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Validates a range of rows. The bit {@code i} of the result is set when
+     * the row {@code offset + i} is a valid document.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param offset  First row of the range.
+     * @param rows    Amount of rows of the range.
+     *
+     * @return A BitSet with the positions of the valid rows set.
+     *
+     * @throws NullPointerException      If the columns or any of them are
+     *                                   null.
+     * @throws IllegalArgumentException  If the amount of columns is not the
+     *                                   length of the document.
+     * @throws IndexOutOfBoundsException If the range is out of the bounds of
+     *                                   any column.
+     * @since 1.0.0
+     */
+    public BitSet validate(byte[][] columns, int offset, int rows)
+    throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
+        checkColumns(columns, offset, rows);
+
+        long[] words = new long[(rows + 63) >>> 6];
+
+        blocks(rows).forEach(block -> {
+            int    first  = block * BLOCK_SIZE;
+            int    start  = offset + first;
+            int    size   = Math.min(BLOCK_SIZE, rows - first);
+            long[] bases  = new long[size];
+            int[]  sums   = new int[size];
+            int[]  errors = new int[size];
+
+            pack(columns, start, size, bases, errors);
+
+            for (int i = 0; i < checkDigits; i++) {
+                byte[] column  = columns[digits + i];
+                int    modulus = document.modulus(i);
+
+                sum(columns, i, start, size, sums);
+
+                // The sums of the rows with invalid values may be negative, so they are not mapped
+                for (int r = 0; r < size; r++) {
+                    if (errors[r] == 0 && document.verificationDigit(i, sums[r] % modulus, bases[r]) != column[start + r])
+                        errors[r] = 1;
+                }
+            }
+
+            // The blocks are multiples of 64 rows, so each one has its own words
+            for (int r = 0; r < size; r++) {
+                if (errors[r] == 0 && document.isAllowed(complete(columns, start + r, bases[r])))
+                    words[(first + r) >>> 6] |= 1L << (first + r);
+            }
+        });
+
+        return BitSet.valueOf(words);
+    }
+
+
+    /**
+     * <p>
+     * Checks the columns and the range of rows.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param offset  First row of the range.
+     * @param rows    Amount of rows of the range.
+     *
+     * @since 1.0.0
+     */
+    private void checkColumns(byte[][] columns, int offset, int rows) {
+        if (columns == null) throw new NullPointerException("Columns cannot be null.");
+
+        if (columns.length != length)
+            throw new IllegalArgumentException("Amount of columns must be " + length + ": '" + columns.length + '\'');
+
+        for (byte[] column : columns) {
+            if (column == null) throw new NullPointerException("Column cannot be null.");
+            Objects.checkFromIndexSize(offset, rows, column.length);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the stream of the blocks of rows, parallel for large inputs.
+     * </p>
+     *
+     * @param rows Amount of rows.
+     *
+     * @return A stream with the indexes of the blocks.
+     *
+     * @since 1.0.0
+     */
+    private IntStream blocks(int rows) {
+        IntStream blocks = IntStream.range(0, (rows + BLOCK_SIZE - 1) / BLOCK_SIZE);
+
+        return rows >= PARALLEL_THRESHOLD
+               ? blocks.parallel()
+               : blocks;
+    }
+
+    /**
+     * <p>
+     * Packs the digits before the verification digits of each row of the
+     * block, one per 4 bits, and marks the rows with values that are not
+     * digits.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param start   First row of the block.
+     * @param size    Amount of rows of the block.
+     * @param bases   Receives the packed digits of each row.
+     * @param errors  Receives 1 for the rows with values that are not digits.
+     *
+     * @since 1.0.0
+     */
+    private void pack(byte[][] columns, int start, int size, long[] bases, int[] errors) {
+        for (int position = 0; position < digits; position++) {
+            byte[] column = columns[position];
+
+            for (int r = 0; r < size; r++) {
+                int digit = column[start + r];
+
+                bases[r]   = (bases[r] << 4) | (digit & 0xF);
+                errors[r] |= (digit | (9 - digit)) >>> 31;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Calculates the weighted sums of a verification digit for each row of
+     * the block, over all the digits before it.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param index   Index of the verification digit.
+     * @param start   First row of the block.
+     * @param size    Amount of rows of the block.
+     * @param sums    Receives the sum of each row.
+     *
+     * @since 1.0.0
+     */
+    private void sum(byte[][] columns, int index, int start, int size, int[] sums) {
+        Arrays.fill(sums, 0);
+
+        ColumnarKernel kernel = ColumnarKernel.VECTOR;
+
+        for (int position = 0; position < digits + index; position++) {
+            byte[] column = columns[position];
+            int    weight = document.weight(index, position);
+
+            if (kernel != null) {
+                kernel.multiplyAdd(column, start, weight, sums, size);
+                continue;
+            }
+
+            for (int r = 0; r < size; r++) {
+                sums[r] += column[start + r] * weight;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the verification digits of the row to its packed digits.
+     * </p>
+     *
+     * @param columns One column per digit of the document.
+     * @param row     Row of the document.
+     * @param base    Packed digits before the verification digits.
+     *
+     * @return The packed document.
+     *
+     * @since 1.0.0
+     */
+    private long complete(byte[][] columns, int row, long base) {
+        long packed = base;
+
+        for (int i = 0; i < checkDigits; i++) {
+            packed = (packed << 4) | columns[digits + i][row];
+        }
+
+        return packed;
+    }
+}
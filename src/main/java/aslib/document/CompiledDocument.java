@@ -0,0 +1,744 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Document implementation compiled from a {@link DocumentSpec}. The documents
+ * are validated in the packed form, where all digits are stored in a single
+ * {@code long} by {@link DocumentUtils#packDigits}, so the conversion from
+ * texts, byte arrays and byte buffers allocates no objects.
+ * </p>
+ *
+ * <p>
+ * The description is copied into primitive arrays when the instance is
+ * created: the weights of each verification digit, the tables that map the
+ * remainders into digits and the sorted blacklist.
+ * </p>
+ *
+ * <p>
+ * New documents are generated without rejection in most cases: the first
+ * digits are random, and the last digit before the verification digits is
+ * drawn among the values that produce a valid document. When none of them
+ * does, new random bits are derived from the previous ones. The seeded
+ * generation uses the same blocks as {@link KeyedDocument}, and each block is
+ * formatted through a single buffer, without validating the keys again.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentSpec#compile()} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.5.0
+ * @since 12.0.0
+ */
+public class CompiledDocument implements DocumentInternal, KeyedDocument {
+
+    private static final int MAX_GENERATIONS = 1000;
+
+    private static final long[] TEN_POWERS = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    private final DocumentUtils utils;
+
+    private final String                 mask;
+    private final int                    length;
+    private final int                    verificationDigits;
+    private final int[]                  moduli;
+    private final int[][]                weights;
+    private final int[][]                tables;
+    private final DocumentSpec.Mapping[] mappings;
+    private final long[]                 blacklist;
+    private final LongPredicate[]        rules;
+    private final boolean                repeatedDigits;
+    private final char                   symbolForTen;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link CompiledDocument} class.
+     * </p>
+     *
+     * @param spec Description of the document.
+     *
+     * @throws NullPointerException  If the description is null.
+     * @throws IllegalStateException If the description cannot be compiled, as
+     *                               described in {@link DocumentSpec#compile()}.
+     * @since 1.0.0
+     */
+    protected CompiledDocument(DocumentSpec spec)
+    throws NullPointerException, IllegalStateException {
+        if (spec == null) throw new NullPointerException("Spec cannot be null.");
+
+        List<DocumentSpec.CheckDigit> checkDigits = spec.checkDigits();
+        if (checkDigits.isEmpty()) throw new IllegalStateException("Spec must have at least one verification digit.");
+        if (checkDigits.size() >= spec.length())
+            throw new IllegalStateException("Spec must have less verification digits than digits.");
+
+        this.mask               = spec.mask();
+        this.length             = spec.length();
+        this.verificationDigits = checkDigits.size();
+        this.repeatedDigits     = spec.repeatedDigits();
+        this.symbolForTen       = spec.symbolForTen();
+        this.utils              = createUtils(length, verificationDigits, symbolForTen);
+
+        this.moduli   = new int[verificationDigits];
+        this.weights  = new int[verificationDigits][];
+        this.tables   = new int[verificationDigits][];
+        this.mappings = new DocumentSpec.Mapping[verificationDigits];
+
+        for (int i = 0; i < verificationDigits; i++) {
+            DocumentSpec.CheckDigit checkDigit = checkDigits.get(i);
+            int                     preceding  = length - verificationDigits + i;
+
+            if (checkDigit.weights.length != preceding)
+                throw new IllegalStateException("Verification digit " + i + " must have " + preceding + " weights: '" + checkDigit.weights.length + '\'');
+
+            if (checkDigit.table != null) {
+                for (int digit : checkDigit.table) {
+                    if (!isDigit(digit)) throw new IllegalStateException("Mapping gives an invalid digit: '" + digit + '\'');
+                }
+            }
+
+            moduli[i]   = checkDigit.modulus;
+            weights[i]  = checkDigit.weights;
+            tables[i]   = checkDigit.table;
+            mappings[i] = checkDigit.mapping;
+        }
+
+        this.rules     = spec.rules().toArray(new LongPredicate[0]);
+        this.blacklist = spec.blacklist()
+                             .stream()
+                             .mapToLong(document -> {
+                                 long packed = utils.packDigits(document, 0, document.length());
+                                 if (packed < 0) throw new IllegalStateException("Invalid blacklisted document: '" + document + '\'');
+
+                                 return packed;
+                             })
+                             .sorted()
+                             .distinct()
+                             .toArray();
+    }
+
+
+    /**
+     * <p>
+     * Creates the utilities of the document, which accept the symbol of the
+     * digit 10 when it is set.
+     * </p>
+     *
+     * @param length             Document length including all digits.
+     * @param verificationDigits Amount of verification digits.
+     * @param symbolForTen       Symbol of the digit 10, or 0 if there is none.
+     *
+     * @return The utilities of the document.
+     *
+     * @since 1.0.0
+     */
+    private static DocumentUtils createUtils(int length, int verificationDigits, char symbolForTen) {
+        if (symbolForTen == 0) return new DocumentUtils(length, verificationDigits);
+
+        char   lowerCase = Character.toLowerCase(symbolForTen);
+        String symbol    = String.valueOf(symbolForTen);
+
+        return new DocumentUtils(length, verificationDigits) {
+            @Override
+            public int digitValue(char c) {
+                return c == symbolForTen || c == lowerCase
+                       ? 10
+                       : super.digitValue(c);
+            }
+
+            @Override
+            public String joinDigits(List<Integer> digits) {
+                return digits.stream()
+                             .map(digit -> digit == 10 ? symbol : String.valueOf(digit))
+                             .collect(Collectors.joining());
+            }
+        };
+    }
+
+
+    /**
+     * <p>
+     * Completes the digits of the document with its verification digits.
+     * </p>
+     *
+     * @param base Digits without the verification digits, packed one per 4
+     *             bits.
+     *
+     * @return The packed document, with the verification digits in the least
+     * significant positions.
+     *
+     * @since 1.0.0
+     */
+    long complete(long base) {
+        long packed = base;
+
+        for (int i = 0; i < verificationDigits; i++) {
+            int[] weights = this.weights[i];
+            long  digits  = packed;
+            int   sum     = 0;
+
+            // The last weight belongs to the least significant digit
+            for (int j = weights.length - 1; j >= 0; j--) {
+                sum += (int) (digits & 0xF) * weights[j];
+                digits >>>= 4;
+            }
+
+            packed = (packed << 4) | verificationDigit(i, sum % moduli[i], base);
+        }
+
+        return packed;
+    }
+
+    /**
+     * <p>
+     * Checks if the packed document is valid, using primitive arithmetic only.
+     * </p>
+     *
+     * @param packed Document packed by {@link DocumentUtils#packDigits}.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @since 1.0.0
+     */
+    boolean isValid(long packed) {
+        return complete(packed >>> (verificationDigits << 2)) == packed &&
+               isAllowed(packed);
+    }
+
+    /**
+     * <p>
+     * Checks if the packed document passes the repeated digits, the
+     * blacklist and the rules, assuming its verification digits are right.
+     * </p>
+     *
+     * @param packed Document packed by {@link DocumentUtils#packDigits}.
+     *
+     * @return TRUE if it is allowed.
+     *
+     * @since 1.5.0
+     */
+    boolean isAllowed(long packed) {
+        if (!repeatedDigits && utils.isRepeatedDigit(packed)) return false;
+        if (blacklist.length > 0 && Arrays.binarySearch(blacklist, packed) >= 0) return false;
+
+        for (LongPredicate rule : rules) {
+            if (!rule.test(packed)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Generates a valid packed document from random bits. The same bits
+     * always produce the same document.
+     * </p>
+     *
+     * <p>
+     * The low part of the bits gives the prefix. The candidates for the next
+     * digit that complete it into a valid document are marked, and the high
+     * part of the bits draws one of them.
+     * </p>
+     *
+     * @param random Random bits.
+     *
+     * @return A valid packed document.
+     *
+     * @throws IllegalStateException If no valid document is found, which means
+     *                               that the description rejects almost all
+     *                               of them.
+     * @since 1.0.0
+     */
+    long generate(long random)
+    throws IllegalStateException {
+        int  prefixLength = length - verificationDigits - 1;
+        long bound        = TEN_POWERS[prefixLength];
+
+        for (int attempt = 0; attempt < MAX_GENERATIONS; attempt++) {
+            long bits   = random >>> 1;
+            long prefix = pack(bits % bound, prefixLength);
+            long choice = bits / bound;
+
+            // Bit i is set when the candidate i completes a valid document
+            int valid = 0;
+            for (int i = 0; i < 10; i++) {
+                if (isValid(complete((prefix << 4) | i))) valid |= 1 << i;
+            }
+
+            if (valid != 0) {
+                // Clears the lowest bits until the chosen candidate is the lowest one
+                int chosen = (int) (choice % Integer.bitCount(valid));
+                for (int i = 0; i < chosen; i++) {
+                    valid &= valid - 1;
+                }
+
+                return complete((prefix << 4) | Integer.numberOfTrailingZeros(valid));
+            }
+
+            random = mix(random);
+        }
+
+        throw new IllegalStateException("No valid document was found.");
+    }
+
+    /**
+     * <p>
+     * Writes the packed document formatted into the array.
+     * </p>
+     *
+     * @param packed      Document packed one digit per 4 bits.
+     * @param destination Array where the document will be written.
+     * @param offset      Position of the array where the document starts.
+     *
+     * @return The amount of characters written.
+     *
+     * @since 1.0.0
+     */
+    int formatTo(long packed, char[] destination, int offset) {
+        int digit = 0;
+
+        for (int i = 0; i < mask.length(); i++) {
+            char c = mask.charAt(i);
+
+            if (c == '#') {
+                int value = utils.digitAt(packed, digit++);
+                c = value == 10 ? symbolForTen : (char) ('0' + value);
+            }
+
+            destination[offset + i] = c;
+        }
+
+        return mask.length();
+    }
+
+    /**
+     * <p>
+     * Gets the amount of digits of the document, which is also the amount of
+     * nibbles of its keys.
+     * </p>
+     *
+     * @return The amount of digits.
+     *
+     * @since 1.2.0
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of verification digits of the document, which are the
+     * last digits of its keys.
+     * </p>
+     *
+     * @return The amount of verification digits.
+     *
+     * @since 1.4.0
+     */
+    int verificationDigits() {
+        return verificationDigits;
+    }
+
+    /**
+     * <p>
+     * Gets the modulus of the weighted sum of a verification digit.
+     * </p>
+     *
+     * @param index Index of the verification digit.
+     *
+     * @return The modulus.
+     *
+     * @since 1.5.0
+     */
+    int modulus(int index) {
+        return moduli[index];
+    }
+
+    /**
+     * <p>
+     * Gets the weight of a digit in the sum of a verification digit.
+     * </p>
+     *
+     * @param index    Index of the verification digit.
+     * @param position Position of the digit, from the first one.
+     *
+     * @return The weight.
+     *
+     * @since 1.5.0
+     */
+    int weight(int index, int position) {
+        return weights[index][position];
+    }
+
+    /**
+     * <p>
+     * Converts the remainder of the weighted sum into a verification digit.
+     * </p>
+     *
+     * @param index     Index of the verification digit.
+     * @param remainder Remainder of the weighted sum.
+     * @param base      Digits without the verification digits, packed one
+     *                  per 4 bits.
+     *
+     * @return The verification digit.
+     *
+     * @since 1.5.0
+     */
+    int verificationDigit(int index, int remainder, long base) {
+        return tables[index] != null
+               ? tables[index][remainder]
+               : mappings[index].digit(remainder, base);
+    }
+
+
+    @Override
+    public List<Integer> calculateVerificationDigits(List<Integer> digits) {
+        List<Integer> base = digits.size() == length
+                             ? utils.removeVerificationDigits(digits)
+                             : digits;
+
+        long packed = 0;
+        for (int digit : base) {
+            packed = (packed << 4) | digit;
+        }
+
+        packed = complete(packed);
+
+        List<Integer> verification = new ArrayList<>(verificationDigits);
+        for (int i = verificationDigits - 1; i >= 0; i--) {
+            verification.add((int) (packed >>> (i << 2)) & 0xF);
+        }
+
+        return verification;
+    }
+
+    @Override
+    public String format(String document) {
+        if (document == null) throw new NullDocumentException();
+
+        char[] formatted = new char[mask.length()];
+        formatTo(collectDigits(document), formatted, 0);
+
+        return new String(formatted);
+    }
+
+    @Override
+    public String format(byte[] document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.length);
+
+        return format(ByteBuffer.wrap(document), offset, count);
+    }
+
+    @Override
+    public String format(ByteBuffer document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.limit());
+
+        char[] digits = new char[length];
+        int    found  = 0;
+
+        for (int i = offset; i < offset + count && found < length; i++) {
+            char c = (char) (document.get(i) & 0xFF);
+            if (utils.digitValue(c) >= 0) digits[found++] = c;
+        }
+
+        return applyMask(digits, found);
+    }
+
+    @Override
+    public String formatKey(long key) {
+        if (!isValidKey(key)) throw new IllegalArgumentException("Invalid key: '" + Long.toHexString(key) + '\'');
+
+        char[] document = new char[mask.length()];
+        formatTo(key, document, 0);
+
+        return new String(document);
+    }
+
+    @Override
+    public int formatTo(CharSequence document, Appendable destination)
+    throws IOException {
+        if (document == null) throw new NullDocumentException();
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+
+        long packed = collectDigits(document);
+        int  digit  = 0;
+
+        for (int i = 0; i < mask.length(); i++) {
+            char c = mask.charAt(i);
+
+            if (c == '#') {
+                int value = utils.digitAt(packed, digit++);
+                c = value == 10 ? symbolForTen : (char) ('0' + value);
+            }
+
+            destination.append(c);
+        }
+
+        return mask.length();
+    }
+
+    @Override
+    public int formatTo(CharSequence document, char[] destination, int offset) {
+        if (document == null) throw new NullDocumentException();
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+        Objects.checkFromIndexSize(offset, mask.length(), destination.length);
+
+        return formatTo(collectDigits(document), destination, offset);
+    }
+
+    @Override
+    public String generate() {
+        char[] document = new char[mask.length()];
+        formatTo(generate(ThreadLocalRandom.current().nextLong()), document, 0);
+
+        return new String(document);
+    }
+
+    @Override
+    public long generateKey(SplittableRandom random) {
+        return generate(random.nextLong());
+    }
+
+    @Override
+    public Stream<String> generateStream(int amount, long seed) {
+        return SeededGeneration.stream(amount, seed, this::generateBlock);
+    }
+
+    @Override
+    public int generateTo(char[] destination, int offset) {
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+        Objects.checkFromIndexSize(offset, mask.length(), destination.length);
+
+        return formatTo(generate(ThreadLocalRandom.current().nextLong()), destination, offset);
+    }
+
+    @Override
+    public boolean isValid(String document) {
+        return isValid((CharSequence) document);
+    }
+
+    @Override
+    public boolean isValid(CharSequence document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.length());
+
+        long packed = utils.packDigits(document, offset, count);
+
+        return packed >= 0 &&
+               isValid(packed);
+    }
+
+    @Override
+    public boolean isValid(byte[] document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.length);
+
+        long packed = utils.packDigits(document, offset, count);
+
+        return packed >= 0 &&
+               isValid(packed);
+    }
+
+    @Override
+    public boolean isValid(ByteBuffer document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.limit());
+
+        long packed = utils.packDigits(document, offset, count);
+
+        return packed >= 0 &&
+               isValid(packed);
+    }
+
+    @Override
+    public boolean isValidKey(long key) {
+        if (key < 0 || key >>> (length << 2) != 0) return false;
+
+        for (long digits = key; digits != 0; digits >>>= 4) {
+            if (!isDigit((int) (digits & 0xF))) return false;
+        }
+
+        return isValid(key);
+    }
+
+    @Override
+    public int keyBits() {
+        return length << 2;
+    }
+
+    @Override
+    public long parseKey(CharSequence document, int offset, int count) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, count, document.length());
+
+        long packed = utils.packDigits(document, offset, count);
+
+        return packed >= 0 && isValid(packed)
+               ? packed
+               : -1;
+    }
+
+
+    /**
+     * <p>
+     * Applies the mask to the digits. The missing digits are filled with
+     * leading zeros.
+     * </p>
+     *
+     * @param digits Digits of the document.
+     * @param found  Amount of digits found, which may be less than the length.
+     *
+     * @return The document formatted.
+     *
+     * @since 1.0.0
+     */
+    private String applyMask(char[] digits, int found) {
+        char[] formatted = new char[mask.length()];
+
+        // Negative positions are the leading zeros
+        int digit = found - length;
+
+        for (int i = 0; i < formatted.length; i++) {
+            char c = mask.charAt(i);
+
+            if (c == '#') {
+                char value = digit < 0 ? '0' : digits[digit];
+                formatted[i] = utils.digitValue(value) == 10 ? symbolForTen : value;
+                digit++;
+            } else {
+                formatted[i] = c;
+            }
+        }
+
+        return new String(formatted);
+    }
+
+    /**
+     * <p>
+     * Packs the first digits of the document, as {@link #format(String)}
+     * takes them. The missing digits become leading zeros.
+     * </p>
+     *
+     * @param document Document, formatted or not.
+     *
+     * @return The packed digits.
+     *
+     * @since 1.3.0
+     */
+    private long collectDigits(CharSequence document) {
+        long packed = 0;
+        int  found  = 0;
+
+        for (int i = 0; i < document.length() && found < length; i++) {
+            int value = utils.digitValue(document.charAt(i));
+            if (value < 0) continue;
+
+            packed = (packed << 4) | value;
+            found++;
+        }
+
+        return packed;
+    }
+
+    /**
+     * <p>
+     * Generates a block of documents from its own random generator.
+     * </p>
+     *
+     * @param random Random generator of the block.
+     * @param size   Amount of documents of the block.
+     *
+     * @return A stream with the documents of the block.
+     *
+     * @since 1.0.0
+     */
+    private Stream<String> generateBlock(SplittableRandom random, int size) {
+        String[] documents = new String[size];
+        char[]   document  = new char[mask.length()];
+
+        for (int i = 0; i < size; i++) {
+            formatTo(generateKey(random), document, 0);
+            documents[i] = new String(document);
+        }
+
+        return Arrays.stream(documents);
+    }
+
+    /**
+     * <p>
+     * Checks if the value can be a digit of the document.
+     * </p>
+     *
+     * @param digit Value that will be checked.
+     *
+     * @return TRUE if it is from 0 to 9, or 10 when the symbol is set.
+     *
+     * @since 1.0.0
+     */
+    private boolean isDigit(int digit) {
+        return digit >= 0 &&
+               (digit <= 9 || digit == 10 && symbolForTen != 0);
+    }
+
+    /**
+     * <p>
+     * Derives new random bits from the previous ones, with the finalizer of
+     * {@link SplittableRandom}.
+     * </p>
+     *
+     * @param random Previous random bits.
+     *
+     * @return New random bits.
+     *
+     * @since 1.0.0
+     */
+    private static long mix(long random) {
+        long z = random + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * <p>
+     * Packs the decimal digits of a number, one digit per 4 bits.
+     * </p>
+     *
+     * @param number Number that will be packed.
+     * @param digits Amount of digits, including the leading zeros.
+     *
+     * @return The packed digits.
+     *
+     * @since 1.0.0
+     */
+    static long pack(long number, int digits) {
+        long packed = 0;
+
+        for (int i = 0; i < digits; i++) {
+            packed |= (number % 10) << (i << 2);
+            number /= 10;
+        }
+
+        return packed;
+    }
+}
@@ -1,12 +1,26 @@
 package aslib.document;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 /**
  * <p>
  * Defines the core functionalities of all document implementations.
  * </p>
  *
+ * <p>
+ * The implementations that can also be kept as keys implement
+ * {@link KeyedDocument}, which also generates documents reproducibly from a
+ * seed.
+ * </p>
+ *
  * @author Adriano Siqueira
- * @version 2.0.0
+ * @version 2.7.0
  * @since 12.0.0
  */
 public interface Document {
@@ -24,6 +38,119 @@ public interface Document {
      */
     String format(String document);
 
+    /**
+     * <p>
+     * Formats the document stored as ASCII bytes in a region of the array,
+     * such as a field of a CSV file read to memory.
+     * </p>
+     *
+     * @param document Array that contains the document.
+     * @param offset   Position of the first byte of the document.
+     * @param length   Amount of bytes of the document.
+     *
+     * @return The document formatted.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the array
+     *                                   bounds.
+     * @since 2.2.0
+     */
+    default String format(byte[] document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length);
+
+        return format(new String(document, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * <p>
+     * Formats the document stored as ASCII bytes in a region of the buffer,
+     * given by absolute positions. The position and the limit of the buffer
+     * are not changed.
+     * </p>
+     *
+     * @param document Buffer that contains the document.
+     * @param offset   Position of the first byte of the document.
+     * @param length   Amount of bytes of the document.
+     *
+     * @return The document formatted.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the buffer
+     *                                   limit.
+     * @since 2.2.0
+     */
+    default String format(ByteBuffer document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.limit());
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = document.get(offset + i);
+        }
+
+        return format(bytes, 0, length);
+    }
+
+    /**
+     * <p>
+     * Formats the document into the destination, such as a
+     * {@link StringBuilder} or a {@link java.io.Writer}, as
+     * {@link #format(String)} does.
+     * </p>
+     *
+     * @param document    Document that will be formatted.
+     * @param destination Where the document will be appended.
+     *
+     * @return The amount of characters appended.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @throws NullPointerException  If the destination is null.
+     * @throws IOException           If the destination cannot be written.
+     * @since 2.6.0
+     */
+    default int formatTo(CharSequence document, Appendable destination)
+    throws NullDocumentException, NullPointerException, IOException {
+        if (document == null) throw new NullDocumentException();
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+
+        String formatted = format(document.toString());
+        destination.append(formatted);
+
+        return formatted.length();
+    }
+
+    /**
+     * <p>
+     * Formats the document into the array, as {@link #format(String)} does.
+     * </p>
+     *
+     * @param document    Document that will be formatted.
+     * @param destination Array where the document will be written.
+     * @param offset      Position of the array where the document starts.
+     *
+     * @return The amount of characters written.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws NullPointerException      If the destination is null.
+     * @throws IndexOutOfBoundsException If the document does not fit in the
+     *                                   array.
+     * @since 2.6.0
+     */
+    default int formatTo(CharSequence document, char[] destination, int offset)
+    throws NullDocumentException, NullPointerException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+
+        String formatted = format(document.toString());
+        Objects.checkFromIndexSize(offset, formatted.length(), destination.length);
+
+        formatted.getChars(0, formatted.length(), destination, offset);
+        return formatted.length();
+    }
+
     /**
      * <p>
      * Generates a new document. The implementation guarantees that the
@@ -36,6 +163,75 @@ public interface Document {
      */
     String generate();
 
+    /**
+     * <p>
+     * Generates many new documents at once. The documents are mathematically
+     * valid and formatted, as in {@link #generate()}.
+     * </p>
+     *
+     * @param amount Amount of documents to generate.
+     *
+     * @return A list with the new documents.
+     *
+     * @throws IllegalArgumentException If the amount is negative.
+     * @since 2.3.0
+     */
+    default List<String> generate(int amount)
+    throws IllegalArgumentException {
+        if (amount < 0) throw new IllegalArgumentException("Amount cannot be negative: '" + amount + '\'');
+
+        List<String> documents = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            documents.add(generate());
+        }
+
+        return documents;
+    }
+
+    /**
+     * <p>
+     * Creates an infinite stream of new documents, which must be truncated
+     * with {@link Stream#limit(long)}. The documents are mathematically valid
+     * and formatted, as in {@link #generate()}. The stream can be consumed in
+     * parallel.
+     * </p>
+     *
+     * @return A stream of new documents.
+     *
+     * @since 2.3.0
+     */
+    default Stream<String> generateStream() {
+        return Stream.generate(this::generate);
+    }
+
+    /**
+     * <p>
+     * Generates a new document directly into the array, without creating a
+     * String. The document is mathematically valid and formatted, as in
+     * {@link #generate()}.
+     * </p>
+     *
+     * @param destination Array where the document will be written.
+     * @param offset      Position of the array where the document starts.
+     *
+     * @return The amount of characters written.
+     *
+     * @throws NullPointerException      If the destination is null.
+     * @throws IndexOutOfBoundsException If the document does not fit in the
+     *                                   array.
+     * @since 2.3.0
+     */
+    default int generateTo(char[] destination, int offset)
+    throws NullPointerException, IndexOutOfBoundsException {
+        if (destination == null) throw new NullPointerException("Destination cannot be null.");
+
+        String document = generate();
+        Objects.checkFromIndexSize(offset, document.length(), destination.length);
+
+        document.getChars(0, document.length(), destination, offset);
+        return document.length();
+    }
+
     /**
      * <p>
      * Checks if the document is mathematically valid.
@@ -48,4 +244,120 @@ public interface Document {
      * @since 1.0.0
      */
     boolean isValid(String document);
+
+    /**
+     * <p>
+     * Checks if the document is mathematically valid. The characters that are
+     * not digits are ignored, as in {@link #isValid(String)}.
+     * </p>
+     *
+     * @param document Document that will be checked.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 2.1.0
+     */
+    default boolean isValid(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return isValid(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if a region of the text is a mathematically valid document. The
+     * characters that are not digits are ignored, as in
+     * {@link #isValid(String)}.
+     * </p>
+     *
+     * <p>
+     * The implementations of the API override this method to validate the
+     * region in place, without allocating objects, so it can be used to check
+     * documents inside larger buffers, such as lines of a file.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 2.1.0
+     */
+    default boolean isValid(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        return isValid(document.subSequence(offset, offset + length).toString());
+    }
+
+    /**
+     * <p>
+     * Checks if the document stored as ASCII bytes in a region of the array is
+     * mathematically valid. The bytes that are not digits are ignored, as in
+     * {@link #isValid(String)}.
+     * </p>
+     *
+     * <p>
+     * The implementations of the API override this method to validate the
+     * bytes in place, so fields of memory mapped files can be checked without
+     * decoding them to strings.
+     * </p>
+     *
+     * @param document Array that contains the document.
+     * @param offset   Position of the first byte of the document.
+     * @param length   Amount of bytes of the document.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the array
+     *                                   bounds.
+     * @since 2.2.0
+     */
+    default boolean isValid(byte[] document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length);
+
+        return isValid(new String(document, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * <p>
+     * Checks if the document stored as ASCII bytes in a region of the buffer,
+     * given by absolute positions, is mathematically valid. The position and
+     * the limit of the buffer are not changed, so many regions of the same
+     * buffer, such as a memory mapped file, can be checked concurrently.
+     * </p>
+     *
+     * @param document Buffer that contains the document.
+     * @param offset   Position of the first byte of the document.
+     * @param length   Amount of bytes of the document.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the buffer
+     *                                   limit.
+     * @since 2.2.0
+     */
+    default boolean isValid(ByteBuffer document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.limit());
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = document.get(offset + i);
+        }
+
+        return isValid(bytes, 0, length);
+    }
 }
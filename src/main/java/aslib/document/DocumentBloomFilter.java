@@ -0,0 +1,467 @@
+package aslib.document;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Probabilistic set of documents that tells, with bounded memory, whether a
+ * document was seen before. A document that was added is always found, and a
+ * document that was not added is found with the configured false positive
+ * rate.
+ * </p>
+ *
+ * <p>
+ * It is a split block Bloom filter over the keys of the documents, as
+ * returned by {@link KeyedDocument#parseKey(CharSequence)}. Each document sets one
+ * bit in each of the eight 32-bit lanes of a single block of 256 bits, so an
+ * insertion or a check touches one cache line only. The bits are set with
+ * atomic operations, so many threads can add and check documents without
+ * locks.
+ * </p>
+ *
+ * <p>
+ * As in {@link DocumentSet}, the filter may hold documents of up to 8 types,
+ * which are told apart by the high bits of the keys.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link #of(long, double, KeyedDocument...)} or the
+ * {@link #read(Path, KeyedDocument...)} methods.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentBloomFilter {
+
+    private static final int MAGIC      = 0x4153_4246;
+    private static final int FORMAT     = 1;
+    private static final int MAX_BLOCKS = 1 << 28;
+
+    private static final int[] SALTS = {
+            0x47B6_137B, 0x4497_4D91, 0x8824_AD5B, 0xA2B7_289D,
+            0x7054_95C7, 0x2DF1_424B, 0x9EFC_4947, 0x5C6B_FB31
+    };
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final KeyedDocument[] documents;
+    private final long[]          words;
+    private final long            blocks;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentBloomFilter} class.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the filter.
+     * @param words     Bits of the filter, four words per block.
+     *
+     * @since 1.0.0
+     */
+    private DocumentBloomFilter(KeyedDocument[] documents, long[] words) {
+        this.documents = documents;
+        this.words     = words;
+        this.blocks    = words.length >>> 2;
+    }
+
+
+    /**
+     * <p>
+     * Creates an empty filter sized for the expected amount of documents and
+     * the false positive rate. The rate is kept while the amount of documents
+     * added does not exceed the expected one.
+     * </p>
+     *
+     * <p>
+     * The size comes from the false positive rate of the split block filters,
+     * in which the documents are not spread evenly among the blocks. It takes
+     * more bits than a classic Bloom filter with the same rate.
+     * </p>
+     *
+     * @param expectedDocuments Expected amount of distinct documents.
+     * @param falsePositiveRate Rate of false positives, between 0 and 1.
+     * @param documents         Document implementations accepted by the
+     *                          filter.
+     *
+     * @return An instance of DocumentBloomFilter.
+     *
+     * @throws NullPointerException     If the documents or any of them are
+     *                                  null.
+     * @throws IllegalArgumentException If the expected amount is not positive,
+     *                                  if the rate is not between 0 and 1, if
+     *                                  the filter would be too large, if
+     *                                  there are no documents or more than 8 of
+     *                                  them, or if there are many documents
+     *                                  and any of them has keys of more than
+     *                                  60 bits.
+     * @since 1.0.0
+     */
+    public static DocumentBloomFilter of(long expectedDocuments, double falsePositiveRate, KeyedDocument... documents)
+    throws NullPointerException, IllegalArgumentException {
+        if (expectedDocuments < 1)
+            throw new IllegalArgumentException("Expected documents must be positive: '" + expectedDocuments + '\'');
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: '" + falsePositiveRate + '\'');
+
+        double blocks = Math.ceil(expectedDocuments / maxLoad(falsePositiveRate));
+
+        if (blocks > MAX_BLOCKS) throw new IllegalArgumentException("Filter is too large: '" + (long) blocks + "' blocks");
+
+        return new DocumentBloomFilter(DocumentTypes.check(documents), new long[(int) blocks << 2]);
+    }
+
+    /**
+     * <p>
+     * Reads a filter written by {@link #write(Path)}. The document
+     * implementations must be the same, in the same order, as the ones of the
+     * written filter.
+     * </p>
+     *
+     * @param file      File with the filter.
+     * @param documents Document implementations accepted by the filter.
+     *
+     * @return The filter, or an empty Optional if the file cannot be read or
+     * does not hold a filter for the amount of documents.
+     *
+     * @throws NullPointerException     If the file, the documents or any of
+     *                                  them are null.
+     * @throws IllegalArgumentException If there are no documents or more than
+     *                                  8 of them, or if there are many
+     *                                  documents and any of them has keys of
+     *                                  more than 60 bits.
+     * @since 1.0.0
+     */
+    public static Optional<DocumentBloomFilter> read(Path file, KeyedDocument... documents)
+    throws NullPointerException, IllegalArgumentException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+        KeyedDocument[] checked = DocumentTypes.check(documents);
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT) return Optional.empty();
+            if (input.readInt() != checked.length) return Optional.empty();
+
+            int blocks = input.readInt();
+            if (blocks < 1 || blocks > MAX_BLOCKS) return Optional.empty();
+
+            long[] words = new long[blocks << 2];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = input.readLong();
+            }
+
+            return Optional.of(new DocumentBloomFilter(checked, words));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return Optional.empty();
+    }
+
+
+    /**
+     * <p>
+     * Adds the document to the filter. It is safe to call from many threads.
+     * </p>
+     *
+     * @param document Document that will be added, formatted or not.
+     *
+     * @return TRUE if the document was certainly not seen before, or FALSE if
+     * it may have been seen or if it is not valid for any of the types.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean add(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, 0, document.length());
+
+            if (key >= 0) return addKey(DocumentTypes.tag(key, type));
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Checks if the document may have been added.
+     * </p>
+     *
+     * @param document Document that will be checked, formatted or not.
+     *
+     * @return TRUE if it may have been added, or FALSE if it certainly was not.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean mightContain(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return mightContain(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if the document in a region of the text may have been added,
+     * without allocating objects.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it may have been added, or FALSE if it certainly was not.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public boolean mightContain(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, offset, length);
+
+            if (key >= 0 && containsKey(DocumentTypes.tag(key, type))) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gets the size of the bits of the filter.
+     * </p>
+     *
+     * @return The size, in bytes.
+     *
+     * @since 1.0.0
+     */
+    public long size() {
+        return (long) words.length << 3;
+    }
+
+    /**
+     * <p>
+     * Writes the filter to a file, so it can be restored by
+     * {@link #read(Path, KeyedDocument...)}. The documents added while it is
+     * written may be missing in the file.
+     * </p>
+     *
+     * @param file File where the filter will be written.
+     *
+     * @throws NullPointerException If the file is null.
+     * @since 1.0.0
+     */
+    public void write(Path file)
+    throws NullPointerException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT);
+            output.writeInt(documents.length);
+            output.writeInt((int) blocks);
+
+            for (int i = 0; i < words.length; i++) {
+                output.writeLong((long) WORDS.getOpaque(words, i));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    /**
+     * <p>
+     * Sets the bits of the tagged key, skipping the atomic operation for the
+     * words that already have them.
+     * </p>
+     *
+     * @param key Key of the document with its type.
+     *
+     * @return TRUE if any bit was not set before.
+     *
+     * @since 1.0.0
+     */
+    private boolean addKey(long key) {
+        long    hash  = mix(key);
+        int     first = block(hash) << 2;
+        int     lanes = (int) hash;
+        boolean added = false;
+
+        for (int i = 0; i < 4; i++) {
+            long mask = mask(lanes, i);
+
+            if (((long) WORDS.getOpaque(words, first + i) & mask) != mask) {
+                long previous = (long) WORDS.getAndBitwiseOr(words, first + i, mask);
+                if ((previous & mask) != mask) added = true;
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * <p>
+     * Checks if all the bits of the tagged key are set.
+     * </p>
+     *
+     * @param key Key of the document with its type.
+     *
+     * @return TRUE if all the bits are set.
+     *
+     * @since 1.0.0
+     */
+    private boolean containsKey(long key) {
+        long hash  = mix(key);
+        int  first = block(hash) << 2;
+        int  lanes = (int) hash;
+
+        for (int i = 0; i < 4; i++) {
+            long mask = mask(lanes, i);
+
+            if (((long) WORDS.getOpaque(words, first + i) & mask) != mask) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Chooses the block of the hash, multiplying its high half by the amount
+     * of blocks instead of dividing.
+     * </p>
+     *
+     * @param hash Hash of the key.
+     *
+     * @return The index of the block.
+     *
+     * @since 1.0.0
+     */
+    private int block(long hash) {
+        return (int) (((hash >>> 32) * blocks) >>> 32);
+    }
+
+
+    /**
+     * <p>
+     * Calculates the false positive rate of a split block filter whose blocks
+     * hold, on average, the load of documents. The documents of a block
+     * follow a Poisson distribution, and a block with {@code j} documents
+     * gives a false positive when the bit checked in each of its 8 lanes of
+     * 32 bits is set, which happens with
+     * {@code (1 - (31 / 32)^j)^8}. The terms are calculated in logarithms, so
+     * large loads do not underflow.
+     * </p>
+     *
+     * @param load Average amount of documents per block.
+     *
+     * @return The false positive rate.
+     *
+     * @since 1.0.0
+     */
+    private static double falsePositiveRate(double load) {
+        double rate    = 0;
+        double logTerm = -load;
+        long   last    = (long) (load + 20 * Math.sqrt(load) + 20);
+
+        for (long j = 0; j <= last; j++) {
+            if (j > 0) logTerm += Math.log(load / j);
+
+            rate += Math.exp(logTerm) * Math.pow(1 - Math.pow(31.0 / 32, j), 8);
+        }
+
+        return rate;
+    }
+
+    /**
+     * <p>
+     * Finds the largest average amount of documents per block that keeps the
+     * false positive rate, by bisection over
+     * {@link #falsePositiveRate(double)}, which grows with the load.
+     * </p>
+     *
+     * @param falsePositiveRate Rate of false positives, between 0 and 1.
+     *
+     * @return The load of the blocks.
+     *
+     * @since 1.0.0
+     */
+    private static double maxLoad(double falsePositiveRate) {
+        double low  = 0;
+        double high = 1;
+
+        while (falsePositiveRate(high) <= falsePositiveRate) {
+            low = high;
+            high *= 2;
+        }
+
+        for (int i = 0; i < 64; i++) {
+            double middle = (low + high) / 2;
+
+            if (falsePositiveRate(middle) <= falsePositiveRate) low = middle;
+            else high = middle;
+        }
+
+        return low;
+    }
+
+    /**
+     * <p>
+     * Builds the bits of a word of the block, one bit for each of its two
+     * lanes of 32 bits.
+     * </p>
+     *
+     * @param lanes Low half of the hash, which chooses the bits.
+     * @param word  Index of the word in the block, from 0 to 3.
+     *
+     * @return The bits of the word.
+     *
+     * @since 1.0.0
+     */
+    private static long mask(int lanes, int word) {
+        int low  = (lanes * SALTS[word << 1]) >>> 27;
+        int high = (lanes * SALTS[(word << 1) + 1]) >>> 27;
+
+        return (1L << low) | (1L << (high + 32));
+    }
+
+    /**
+     * <p>
+     * Spreads the bits of the key, with the finalizer of
+     * {@link java.util.SplittableRandom}.
+     * </p>
+     *
+     * @param key Key of the document with its type.
+     *
+     * @return The hash of the key.
+     *
+     * @since 1.0.0
+     */
+    private static long mix(long key) {
+        long z = key + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,280 @@
+package aslib.document;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Encodes documents into a compact binary format and decodes them back. Each
+ * document is stored as its key, as returned by
+ * {@link KeyedDocument#parseKey(CharSequence)}, which already has one digit per
+ * nibble (BCD). Only the bytes that hold digits are written, so a document of
+ * {@code n} digits takes {@code ceil(n / 2)} bytes: 6 bytes for a CPF instead
+ * of the 14 characters of the formatted text, and 7 bytes for a CNPJ instead
+ * of 18.
+ * </p>
+ *
+ * <p>
+ * The bytes are written with the first digit first, regardless of the order
+ * of the buffer, so a hexadecimal dump shows the digits of the documents.
+ * Decoding reads the key straight from the bytes, with no parsing of text,
+ * and the key is validated before it is returned.
+ * </p>
+ *
+ * <p>
+ * The width of each document comes from {@link KeyedDocument#keyBits()}, so
+ * the other layouts of keys, such as the base 36 keys of the alphanumeric
+ * CNPJ, are packed as well. The instances are immutable and safe to use from
+ * many threads.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentCodec#of(KeyedDocument)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentCodec {
+
+    private final KeyedDocument document;
+    private final int           width;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentCodec} class.
+     * </p>
+     *
+     * @param document Document implementation of the codec.
+     * @param width    Amount of bytes of each document.
+     *
+     * @since 1.0.0
+     */
+    private DocumentCodec(KeyedDocument document, int width) {
+        this.document = document;
+        this.width    = width;
+    }
+
+
+    /**
+     * <p>
+     * Creates a codec for the documents of the provided implementation, such
+     * as {@code BrazilianDocument.cpf()}. The implementation must support
+     * keys.
+     * </p>
+     *
+     * @param document Document implementation of the codec.
+     *
+     * @return An instance of DocumentCodec.
+     *
+     * @throws NullPointerException If the document is null.
+     * @since 1.0.0
+     */
+    public static DocumentCodec of(KeyedDocument document)
+    throws NullPointerException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        return new DocumentCodec(document, (document.keyBits() + 7) / 8);
+    }
+
+
+    /**
+     * <p>
+     * Decodes all the documents from the position to the limit of the buffer.
+     * The bytes after the last complete document are not read.
+     * </p>
+     *
+     * @param source Buffer with the encoded documents.
+     *
+     * @return A list with the documents formatted.
+     *
+     * @throws NullPointerException     If the source is null.
+     * @throws IllegalArgumentException If the bytes of a document do not form
+     *                                  a valid key. The buffer is positioned
+     *                                  after the document.
+     * @since 1.0.0
+     */
+    public List<String> decode(ByteBuffer source)
+    throws NullPointerException, IllegalArgumentException {
+        if (source == null) throw new NullPointerException("Source cannot be null.");
+
+        List<String> documents = new ArrayList<>(source.remaining() / width);
+
+        while (source.remaining() >= width) {
+            documents.add(document.formatKey(read(source)));
+        }
+
+        return documents;
+    }
+
+    /**
+     * <p>
+     * Decodes the key of the next document of the buffer.
+     * </p>
+     *
+     * @param source Buffer with the encoded documents.
+     *
+     * @return The key of the document, or -1 if the bytes do not form a valid
+     * key.
+     *
+     * @throws NullPointerException     If the source is null.
+     * @throws BufferUnderflowException If there are fewer bytes than
+     *                                  {@link #width()} remaining.
+     * @since 1.0.0
+     */
+    public long decodeKey(ByteBuffer source)
+    throws NullPointerException, BufferUnderflowException {
+        if (source == null) throw new NullPointerException("Source cannot be null.");
+        if (source.remaining() < width) throw new BufferUnderflowException();
+
+        long key = read(source);
+
+        return document.isValidKey(key)
+               ? key
+               : -1;
+    }
+
+    /**
+     * <p>
+     * Encodes the document into the buffer.
+     * </p>
+     *
+     * @param document Document that will be encoded, formatted or not.
+     * @param target   Buffer where the document will be written.
+     *
+     * @throws NullDocumentException    If the document is null.
+     * @throws NullPointerException     If the target is null.
+     * @throws IllegalArgumentException If the document is not valid.
+     * @throws BufferOverflowException  If there are fewer bytes than
+     *                                  {@link #width()} remaining.
+     * @since 1.0.0
+     */
+    public void encode(CharSequence document, ByteBuffer target)
+    throws NullDocumentException, NullPointerException, IllegalArgumentException, BufferOverflowException {
+        if (document == null) throw new NullDocumentException();
+        if (target == null) throw new NullPointerException("Target cannot be null.");
+        if (target.remaining() < width) throw new BufferOverflowException();
+
+        write(parse(document), target);
+    }
+
+    /**
+     * <p>
+     * Encodes the documents into the buffer, in order. The documents are
+     * validated before the first one is written, so the buffer is left
+     * untouched when any of them is not valid.
+     * </p>
+     *
+     * @param documents Documents that will be encoded, formatted or not.
+     * @param target    Buffer where the documents will be written.
+     *
+     * @return The amount of bytes written.
+     *
+     * @throws NullPointerException     If the documents or the target are
+     *                                  null.
+     * @throws NullDocumentException    If any of the documents is null.
+     * @throws IllegalArgumentException If any of the documents is not valid.
+     * @throws BufferOverflowException  If the buffer has no room for all the
+     *                                  documents.
+     * @since 1.0.0
+     */
+    public int encode(List<? extends CharSequence> documents, ByteBuffer target)
+    throws NullPointerException, NullDocumentException, IllegalArgumentException, BufferOverflowException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+        if (target == null) throw new NullPointerException("Target cannot be null.");
+
+        int bytes = Math.multiplyExact(documents.size(), width);
+        if (target.remaining() < bytes) throw new BufferOverflowException();
+
+        long[] keys = new long[documents.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            CharSequence document = documents.get(i);
+            if (document == null) throw new NullDocumentException();
+
+            keys[i] = parse(document);
+        }
+
+        for (long key : keys) {
+            write(key, target);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of bytes of each encoded document.
+     * </p>
+     *
+     * @return The amount of bytes, from 1 to 8.
+     *
+     * @since 1.0.0
+     */
+    public int width() {
+        return width;
+    }
+
+
+    /**
+     * <p>
+     * Gets the key of the document.
+     * </p>
+     *
+     * @param document Document, formatted or not.
+     *
+     * @return The key of the document.
+     *
+     * @throws IllegalArgumentException If the document is not valid.
+     * @since 1.0.0
+     */
+    private long parse(CharSequence document)
+    throws IllegalArgumentException {
+        long key = this.document.parseKey(document);
+        if (key < 0) throw new IllegalArgumentException("Invalid document: '" + document + '\'');
+
+        return key;
+    }
+
+    /**
+     * <p>
+     * Reads the bytes of a document, first digit first.
+     * </p>
+     *
+     * @param source Buffer with at least {@link #width} bytes remaining.
+     *
+     * @return The key, not validated.
+     *
+     * @since 1.0.0
+     */
+    private long read(ByteBuffer source) {
+        long key = 0;
+
+        for (int i = 0; i < width; i++) {
+            key = (key << 8) | (source.get() & 0xFF);
+        }
+
+        return key;
+    }
+
+    /**
+     * <p>
+     * Writes the bytes of a key, first digit first.
+     * </p>
+     *
+     * @param key    Key of the document.
+     * @param target Buffer with at least {@link #width} bytes remaining.
+     *
+     * @since 1.0.0
+     */
+    private void write(long key, ByteBuffer target) {
+        for (int shift = (width - 1) << 3; shift >= 0; shift -= 8) {
+            target.put((byte) (key >>> shift));
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package aslib.document;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Enumerates all the valid documents of an implementation in ascending
+ * order, such as every CPF, for lookup tables and for exhaustive tests. The
+ * digits before the verification digits, read as a number, are the base of
+ * the document. The bases are counted one by one, and the weighted sums of
+ * the verification digits are updated with the digits that change, so each
+ * document costs a few additions instead of a full validation.
+ * </p>
+ *
+ * <p>
+ * The enumeration may be limited to a range of bases, or to the bases that
+ * start with some digits, such as the 8 digits of the root of a CNPJ. The
+ * documents are provided by a {@link Spliterator} that splits its range in
+ * halves, so the parallel streams share the work evenly among the cores.
+ * </p>
+ *
+ * <p>
+ * The instances are immutable and safe to use from many threads. Get its
+ * instance through the {@link DocumentEnumerator#of(Document)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentEnumerator {
+
+    private static final int MIN_SPLIT = 1024;
+
+    private final CompiledDocument document;
+    private final int              digits;
+    private final long             from;
+    private final long             to;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentEnumerator} class.
+     * </p>
+     *
+     * @param document Document implementation of the enumeration.
+     * @param digits   Amount of digits of the bases.
+     * @param from     First base, inclusive.
+     * @param to       Last base, exclusive.
+     *
+     * @since 1.0.0
+     */
+    private DocumentEnumerator(CompiledDocument document, int digits, long from, long to) {
+        this.document = document;
+        this.digits   = digits;
+        this.from     = from;
+        this.to       = to;
+    }
+
+
+    /**
+     * <p>
+     * Creates an enumerator of all the valid documents of the provided
+     * implementation, such as {@code BrazilianDocument.cpf()}.
+     * </p>
+     *
+     * @param document Document implementation of the enumeration. It must be
+     *                 compiled from a {@link DocumentSpec}, as the
+     *                 implementations of the API are.
+     *
+     * @return An instance of DocumentEnumerator.
+     *
+     * @throws NullPointerException     If the document is null.
+     * @throws IllegalArgumentException If the document is not compiled from a
+     *                                  {@link DocumentSpec}.
+     * @since 1.0.0
+     */
+    public static DocumentEnumerator of(Document document)
+    throws NullPointerException, IllegalArgumentException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        if (!(document instanceof CompiledDocument))
+            throw new IllegalArgumentException("Document is not supported: '" + document.getClass().getName() + '\'');
+
+        CompiledDocument compiled = (CompiledDocument) document;
+        int              digits   = compiled.length() - compiled.verificationDigits();
+
+        return new DocumentEnumerator(compiled, digits, 0, power(digits));
+    }
+
+
+    /**
+     * <p>
+     * Enumerates the documents whose bases start with the digits, such as
+     * the CNPJs of a root. The digits are a prefix of the range of this
+     * enumerator.
+     * </p>
+     *
+     * @param prefix Digits of the start of the bases, which may be
+     *               formatted.
+     *
+     * @return A new enumerator, limited to the prefix.
+     *
+     * @throws NullPointerException     If the prefix is null.
+     * @throws IllegalArgumentException If the prefix has characters that are
+     *                                  not digits or separators, or as many
+     *                                  digits as the base.
+     * @since 1.0.0
+     */
+    public DocumentEnumerator prefix(CharSequence prefix)
+    throws NullPointerException, IllegalArgumentException {
+        if (prefix == null) throw new NullPointerException("Prefix cannot be null.");
+
+        long number = 0;
+        int  found  = 0;
+
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + (c - '0');
+                found++;
+            } else if (c != '.' && c != '-' && c != '/') {
+                throw new IllegalArgumentException("Invalid prefix: '" + prefix + '\'');
+            }
+
+            if (found >= digits) throw new IllegalArgumentException("Prefix is too long: '" + prefix + '\'');
+        }
+
+        long size  = power(digits - found);
+        long first = number * size;
+        long start = Math.min(Math.max(from, first), to);
+
+        return new DocumentEnumerator(document, digits, start, Math.max(start, Math.min(to, first + size)));
+    }
+
+    /**
+     * <p>
+     * Enumerates the documents whose bases are in the range, such as the
+     * CPFs from {@code 100.000.000} to {@code 199.999.999} with the range
+     * from 100,000,000 to 200,000,000. The range is limited to the range of
+     * this enumerator.
+     * </p>
+     *
+     * @param from First base, inclusive.
+     * @param to   Last base, exclusive.
+     *
+     * @return A new enumerator, limited to the range.
+     *
+     * @throws IllegalArgumentException If the first base is negative or
+     *                                  greater than the last one.
+     * @since 1.0.0
+     */
+    public DocumentEnumerator range(long from, long to)
+    throws IllegalArgumentException {
+        if (from < 0 || from > to) throw new IllegalArgumentException("Invalid range: '" + from + ", " + to + '\'');
+
+        long start = Math.min(Math.max(this.from, from), this.to);
+
+        return new DocumentEnumerator(document, digits, start, Math.max(start, Math.min(this.to, to)));
+    }
+
+    /**
+     * <p>
+     * Creates a spliterator of the keys of the documents, in ascending order.
+     * Its estimated size is the amount of bases, which is greater than the
+     * amount of documents when some bases are not valid.
+     * </p>
+     *
+     * @return A new spliterator.
+     *
+     * @since 1.0.0
+     */
+    public Spliterator.OfLong spliterator() {
+        return new KeySpliterator(from, to);
+    }
+
+    /**
+     * <p>
+     * Creates a sequential stream of the keys of the documents, in ascending
+     * order. It may be turned parallel by {@link LongStream#parallel()}.
+     * </p>
+     *
+     * @return A new stream.
+     *
+     * @since 1.0.0
+     */
+    public LongStream keys() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * <p>
+     * Creates a sequential stream of the documents formatted, in ascending
+     * order.
+     * </p>
+     *
+     * @return A new stream.
+     *
+     * @since 1.0.0
+     */
+    public Stream<String> documents() {
+        return keys().mapToObj(document::formatKey);
+    }
+
+
+    /**
+     * <p>
+     * Calculates a power of 10.
+     * </p>
+     *
+     * @param exponent Exponent of the power.
+     *
+     * @return 10 raised to the exponent.
+     *
+     * @since 1.0.0
+     */
+    private static long power(int exponent) {
+        long power = 1;
+
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+
+        return power;
+    }
+
+
+    /**
+     * <p>
+     * Spliterator of the keys of the documents of a range of bases. It holds
+     * the base packed one digit per 4 bits and the weighted sums of its
+     * digits for each verification digit.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private final class KeySpliterator implements Spliterator.OfLong {
+
+        private final int   checkDigits = document.verificationDigits();
+        private final int[] sums        = new int[checkDigits];
+
+        private long number;
+        private long end;
+        private long base;
+
+
+        /**
+         * <p>
+         * Creates an instance of {@link KeySpliterator} class.
+         * </p>
+         *
+         * @param number First base, inclusive.
+         * @param end    Last base, exclusive.
+         *
+         * @since 1.0.0
+         */
+        private KeySpliterator(long number, long end) {
+            this.end = end;
+            start(number);
+        }
+
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            while (number < end) {
+                long packed = next();
+
+                if (document.isAllowed(packed)) {
+                    action.accept(packed);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (number < end) {
+                long packed = next();
+
+                if (document.isAllowed(packed)) action.accept(packed);
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long size = end - number;
+            if (size < MIN_SPLIT) return null;
+
+            long           middle = number + size / 2;
+            KeySpliterator prefix = new KeySpliterator(number, middle);
+
+            start(middle);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - number;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+
+        /**
+         * <p>
+         * Moves to the base, calculating the sums of its digits from scratch.
+         * </p>
+         *
+         * @param number Base that will be the current one.
+         *
+         * @since 1.0.0
+         */
+        private void start(long number) {
+            this.number = number;
+            this.base   = CompiledDocument.pack(number, digits);
+
+            for (int i = 0; i < checkDigits; i++) {
+                sums[i] = 0;
+
+                for (int position = 0; position < digits; position++) {
+                    sums[i] += digitAt(position) * document.weight(i, position);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * Completes the current base with its verification digits and moves
+         * to the next base.
+         * </p>
+         *
+         * @return The packed document of the current base, which may not be
+         * allowed by the rules of the document.
+         *
+         * @since 1.0.0
+         */
+        private long next() {
+            long packed = base;
+
+            for (int i = 0; i < checkDigits; i++) {
+                int sum = sums[i];
+
+                // The previous verification digits are in the sum as well
+                for (int j = 0; j < i; j++) {
+                    sum += (int) (packed >>> ((i - 1 - j) << 2) & 0xF) * document.weight(i, digits + j);
+                }
+
+                packed = (packed << 4) | document.verificationDigit(i, sum % document.modulus(i), base);
+            }
+
+            increment();
+            return packed;
+        }
+
+        /**
+         * <p>
+         * Adds one to the base, updating the sums with the digits that
+         * change. The nines at the end of the base turn into zeros.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private void increment() {
+            number++;
+            if (number >= end) return;
+
+            int position = digits - 1;
+
+            while (digitAt(position) == 9) {
+                base -= 9L << ((digits - 1 - position) << 2);
+                for (int i = 0; i < checkDigits; i++) sums[i] -= 9 * document.weight(i, position);
+
+                position--;
+            }
+
+            base += 1L << ((digits - 1 - position) << 2);
+            for (int i = 0; i < checkDigits; i++) sums[i] += document.weight(i, position);
+        }
+
+        /**
+         * <p>
+         * Gets a digit of the base.
+         * </p>
+         *
+         * @param position Position of the digit, from the first one.
+         *
+         * @return The digit.
+         *
+         * @since 1.0.0
+         */
+        private int digitAt(int position) {
+            return (int) (base >>> ((digits - 1 - position) << 2) & 0xF);
+        }
+    }
+}
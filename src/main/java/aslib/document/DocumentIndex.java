@@ -0,0 +1,263 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Read-only index of documents stored in a file, which is memory mapped
+ * instead of loaded to the heap, so it may hold hundreds of millions of
+ * documents. The file is written by the {@link DocumentIndexBuilder}.
+ * </p>
+ *
+ * <p>
+ * The file has the keys of the documents, as returned by
+ * {@link KeyedDocument#parseKey(CharSequence)}, sorted in ascending order. Every
+ * 512th key is also stored at the end of the file, and those fences are the
+ * only part kept in the heap, taking 1/512 of the size of the keys. A lookup
+ * finds the fence in the heap and then searches the 4 KiB of keys that follow
+ * it, so it touches at most two pages of the file.
+ * </p>
+ *
+ * <p>
+ * As in {@link DocumentSet}, the index may hold documents of up to 8 types,
+ * which are told apart by the high bits of the keys. The instances are
+ * immutable and safe to use from many threads.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link #open(Path, KeyedDocument...)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentIndex {
+
+    static final int MAGIC          = 0x4153_4458;
+    static final int FORMAT         = 1;
+    static final int HEADER_SIZE    = 32;
+    static final int FENCE_INTERVAL = 512;
+
+    private static final int  SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_MASK  = (1L << SEGMENT_SHIFT) - 1;
+
+    private final KeyedDocument[]    documents;
+    private final MappedByteBuffer[] segments;
+    private final long[]             fences;
+    private final long               size;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentIndex} class.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the index.
+     * @param segments  Keys of the file, mapped in segments of 2^27 keys.
+     * @param fences    Every 512th key.
+     * @param size      Amount of keys.
+     *
+     * @since 1.0.0
+     */
+    private DocumentIndex(KeyedDocument[] documents, MappedByteBuffer[] segments, long[] fences, long size) {
+        this.documents = documents;
+        this.segments  = segments;
+        this.fences    = fences;
+        this.size      = size;
+    }
+
+
+    /**
+     * <p>
+     * Opens an index file. The document implementations must be the same, in
+     * the same order, as the ones used to build it.
+     * </p>
+     *
+     * @param file      Index file.
+     * @param documents Document implementations accepted by the index.
+     *
+     * @return The index, or an empty Optional if the file cannot be read or
+     * is not an index for the amount of documents.
+     *
+     * @throws NullPointerException     If the file, the documents or any of
+     *                                  them are null.
+     * @throws IllegalArgumentException If there are no documents or more than
+     *                                  8 of them, or if there are many
+     *                                  documents and any of them has keys of
+     *                                  more than 60 bits.
+     * @since 1.0.0
+     */
+    public static Optional<DocumentIndex> open(Path file, KeyedDocument... documents)
+    throws NullPointerException, IllegalArgumentException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+        KeyedDocument[] checked = DocumentTypes.check(documents);
+
+        // The mappings stay valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.read(header, 0) != HEADER_SIZE) return Optional.empty();
+
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT) return Optional.empty();
+            if (header.getInt(8) != checked.length || header.getInt(12) != FENCE_INTERVAL) return Optional.empty();
+
+            long size        = header.getLong(16);
+            long fenceAmount = (size + FENCE_INTERVAL - 1) / FENCE_INTERVAL;
+
+            if (size < 0 || channel.size() != HEADER_SIZE + (size + fenceAmount) * Long.BYTES) return Optional.empty();
+
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                long keys  = Math.min(size - first, 1L << SEGMENT_SHIFT);
+
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * Long.BYTES, keys * Long.BYTES);
+            }
+
+            ByteBuffer footer = ByteBuffer.allocate(Math.toIntExact(fenceAmount * Long.BYTES));
+            long       start  = HEADER_SIZE + size * Long.BYTES;
+
+            while (footer.hasRemaining()) {
+                if (channel.read(footer, start + footer.position()) < 0) return Optional.empty();
+            }
+
+            long[] fences = new long[(int) fenceAmount];
+            footer.flip();
+            footer.asLongBuffer().get(fences);
+
+            return Optional.of(new DocumentIndex(checked, segments, fences, size));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return Optional.empty();
+    }
+
+
+    /**
+     * <p>
+     * Checks if the document is in the index.
+     * </p>
+     *
+     * @param document Document that will be checked, formatted or not.
+     *
+     * @return TRUE if it is in the index.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return contains(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if the document in a region of the text is in the index, without
+     * allocating objects.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it is in the index.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, offset, length);
+
+            if (key >= 0 && containsKey(DocumentTypes.tag(key, type))) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of documents in the index.
+     * </p>
+     *
+     * @return The amount of documents.
+     *
+     * @since 1.0.0
+     */
+    public long size() {
+        return size;
+    }
+
+
+    /**
+     * <p>
+     * Searches the tagged key, first among the fences and then among the keys
+     * that follow the fence.
+     * </p>
+     *
+     * @param key Key of the document with its type.
+     *
+     * @return TRUE if it is in the index.
+     *
+     * @since 1.0.0
+     */
+    private boolean containsKey(long key) {
+        // Last fence that is not greater than the key
+        int low  = 0;
+        int high = fences.length - 1;
+
+        if (high < 0 || key < fences[0]) return false;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (fences[middle] <= key) low = middle;
+            else high = middle - 1;
+        }
+
+        long first = (long) low * FENCE_INTERVAL;
+        long last  = Math.min(first + FENCE_INTERVAL, size) - 1;
+
+        while (first <= last) {
+            long middle = (first + last) >>> 1;
+            long value  = keyAt(middle);
+
+            if (value < key) first = middle + 1;
+            else if (value > key) last = middle - 1;
+            else return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Reads a key of the file.
+     * </p>
+     *
+     * @param index Position of the key.
+     *
+     * @return The key.
+     *
+     * @since 1.0.0
+     */
+    private long keyAt(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) << 3);
+    }
+}
@@ -0,0 +1,503 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>
+ * Builds the files read by {@link DocumentIndex}. The keys of the documents
+ * are collected in memory in runs of fixed size; each full run is sorted and
+ * written to a temporary file. When the index is built, the runs are merged
+ * into the index file, without the duplicated keys, so the amount of
+ * documents is limited by the disk instead of the heap.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe. Get its instance through the
+ * {@link DocumentIndexBuilder#of(KeyedDocument...)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentIndexBuilder {
+
+    private static final int DEFAULT_RUN_SIZE = 8 * 1024 * 1024;
+    private static final int BUFFER_SIZE      = 64 * 1024;
+
+    private final KeyedDocument[] documents;
+    private final List<Path>      runs = new ArrayList<>();
+
+    private Path   temporaryDirectory = null;
+    private long[] run                = null;
+    private int    runSize            = DEFAULT_RUN_SIZE;
+    private int    filled             = 0;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentIndexBuilder} class.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the index.
+     *
+     * @since 1.0.0
+     */
+    private DocumentIndexBuilder(KeyedDocument[] documents) {
+        this.documents = documents;
+    }
+
+
+    /**
+     * <p>
+     * Creates a builder for an index of the documents of the provided
+     * implementations, such as {@code BrazilianDocument.cpf()} and
+     * {@code BrazilianDocument.cnpj()}. The same implementations, in the same
+     * order, must be used to open the index.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the index.
+     *
+     * @return An instance of DocumentIndexBuilder.
+     *
+     * @throws NullPointerException     If the documents or any of them are
+     *                                  null.
+     * @throws IllegalArgumentException If there are no documents or more than
+     *                                  8 of them, or if there are many
+     *                                  documents and any of them has keys of
+     *                                  more than 60 bits.
+     * @since 1.0.0
+     */
+    public static DocumentIndexBuilder of(KeyedDocument... documents)
+    throws NullPointerException, IllegalArgumentException {
+        return new DocumentIndexBuilder(DocumentTypes.check(documents));
+    }
+
+
+    /**
+     * <p>
+     * Sets the directory of the temporary files. By default, it is the
+     * temporary directory of the system.
+     * </p>
+     *
+     * @param temporaryDirectory Directory of the temporary files.
+     *
+     * @return The same instance of DocumentIndexBuilder.
+     *
+     * @throws NullPointerException If the directory is null.
+     * @since 1.0.0
+     */
+    public DocumentIndexBuilder temporaryDirectory(Path temporaryDirectory)
+    throws NullPointerException {
+        if (temporaryDirectory == null) throw new NullPointerException("Temporary directory cannot be null.");
+
+        this.temporaryDirectory = temporaryDirectory;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets the amount of keys sorted in memory before they are written to a
+     * temporary file. It can only be changed before the first document.
+     * </p>
+     *
+     * @param runSize Amount of keys of each run.
+     *
+     * @return The same instance of DocumentIndexBuilder.
+     *
+     * @since 1.0.0
+     */
+    DocumentIndexBuilder runSize(int runSize) {
+        this.runSize = runSize;
+        return this;
+    }
+
+
+    /**
+     * <p>
+     * Adds the document to the index.
+     * </p>
+     *
+     * @param document Document that will be added, formatted or not.
+     *
+     * @return TRUE if it was added, or FALSE if it is not valid for any of the
+     * types.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @throws IllegalStateException If a temporary file cannot be written.
+     * @since 1.0.0
+     */
+    public boolean add(CharSequence document)
+    throws NullDocumentException, IllegalStateException {
+        if (document == null) throw new NullDocumentException();
+
+        return add(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Adds the documents of a text file, one per line. The lines that are not
+     * valid documents are skipped.
+     * </p>
+     *
+     * @param file File with the documents.
+     *
+     * @return The amount of documents added, or 0 if the file cannot be read.
+     * The documents read until the failure are kept.
+     *
+     * @throws NullPointerException  If the file is null.
+     * @throws IllegalStateException If a temporary file cannot be written.
+     * @since 1.0.0
+     */
+    public long load(Path file)
+    throws NullPointerException, IllegalStateException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+
+        try {
+            return LineReader.read(file, this::add);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    /**
+     * <p>
+     * Writes the index file with all the documents added, and removes the
+     * temporary files. The builder is empty afterwards.
+     * </p>
+     *
+     * @param output File where the index will be written.
+     *
+     * @return TRUE if the index was written.
+     *
+     * @throws NullPointerException If the output is null.
+     * @since 1.0.0
+     */
+    public boolean build(Path output)
+    throws NullPointerException {
+        if (output == null) throw new NullPointerException("Output cannot be null.");
+
+        List<Cursor> cursors = new ArrayList<>();
+
+        try {
+            if (filled > 0) {
+                Arrays.parallelSort(run, 0, filled);
+                cursors.add(new ArrayCursor(run, filled));
+            }
+
+            for (Path path : runs) {
+                cursors.add(new FileCursor(path));
+            }
+
+            write(output, cursors);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+
+            clear();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * <p>
+     * Adds the document in a region of the text.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it was added.
+     *
+     * @since 1.0.0
+     */
+    private boolean add(CharSequence document, int offset, int length) {
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, offset, length);
+            if (key < 0) continue;
+
+            if (run == null) run = new long[runSize];
+            if (filled == run.length) spill();
+
+            run[filled++] = DocumentTypes.tag(key, type);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Removes the temporary files and the keys in memory.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private void clear() {
+        for (Path path : runs) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        runs.clear();
+        run    = null;
+        filled = 0;
+    }
+
+    /**
+     * <p>
+     * Sorts the keys in memory and writes them to a temporary file.
+     * </p>
+     *
+     * @throws IllegalStateException If the file cannot be written.
+     * @since 1.0.0
+     */
+    private void spill()
+    throws IllegalStateException {
+        Arrays.parallelSort(run, 0, filled);
+
+        try {
+            Path path = temporaryDirectory == null
+                        ? Files.createTempFile("aslib_", "_run")
+                        : Files.createTempFile(temporaryDirectory, "aslib_", "_run");
+
+            runs.add(path);
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+                for (int i = 0; i < filled; i++) {
+                    if (!buffer.hasRemaining()) drain(channel, buffer);
+                    buffer.putLong(run[i]);
+                }
+
+                drain(channel, buffer);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Run cannot be written.", e);
+        }
+
+        filled = 0;
+    }
+
+    /**
+     * <p>
+     * Merges the sorted cursors into the index file, skipping the duplicated
+     * keys and collecting every 512th key as a fence.
+     * </p>
+     *
+     * @param output  File where the index will be written.
+     * @param cursors Cursors over the sorted runs.
+     *
+     * @throws IOException If a file cannot be read or written.
+     * @since 1.0.0
+     */
+    private void write(Path output, List<Cursor> cursors)
+    throws IOException {
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, cursors.size()), (a, b) -> Long.compare(a.key(), b.key()));
+
+        for (Cursor cursor : cursors) {
+            if (cursor.next()) queue.add(cursor);
+        }
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long[]     fences = new long[16];
+            long       size   = 0;
+            long       last   = -1;
+
+            channel.position(DocumentIndex.HEADER_SIZE);
+
+            while (!queue.isEmpty()) {
+                Cursor cursor = queue.poll();
+                long   key    = cursor.key();
+
+                if (cursor.next()) queue.add(cursor);
+                if (key == last) continue;
+
+                if (size % DocumentIndex.FENCE_INTERVAL == 0) {
+                    int fence = (int) (size / DocumentIndex.FENCE_INTERVAL);
+                    if (fence == fences.length) fences = Arrays.copyOf(fences, fence * 2);
+
+                    fences[fence] = key;
+                }
+
+                if (!buffer.hasRemaining()) drain(channel, buffer);
+                buffer.putLong(key);
+
+                last = key;
+                size++;
+            }
+
+            int fenceAmount = (int) ((size + DocumentIndex.FENCE_INTERVAL - 1) / DocumentIndex.FENCE_INTERVAL);
+
+            for (int i = 0; i < fenceAmount; i++) {
+                if (!buffer.hasRemaining()) drain(channel, buffer);
+                buffer.putLong(fences[i]);
+            }
+
+            drain(channel, buffer);
+
+            buffer.putInt(DocumentIndex.MAGIC)
+                  .putInt(DocumentIndex.FORMAT)
+                  .putInt(documents.length)
+                  .putInt(DocumentIndex.FENCE_INTERVAL)
+                  .putLong(size)
+                  .putLong(0);
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+        }
+    }
+
+
+    /**
+     * <p>
+     * Writes the content of the buffer to the channel and clears it.
+     * </p>
+     *
+     * @param channel Channel of the file.
+     * @param buffer  Buffer with the bytes that will be written.
+     *
+     * @throws IOException If the file cannot be written.
+     * @since 1.0.0
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer)
+    throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+
+    /**
+     * <p>
+     * Iterates over a sorted run of keys.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private interface Cursor {
+
+        long key();
+
+        boolean next() throws IOException;
+
+        default void close() {}
+    }
+
+
+    /**
+     * <p>
+     * Iterates over the sorted keys kept in memory.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final class ArrayCursor implements Cursor {
+
+        private final long[] keys;
+        private final int    size;
+
+        private int index = -1;
+
+
+        private ArrayCursor(long[] keys, int size) {
+            this.keys = keys;
+            this.size = size;
+        }
+
+
+        @Override
+        public long key() {
+            return keys[index];
+        }
+
+        @Override
+        public boolean next() {
+            return ++index < size;
+        }
+    }
+
+
+    /**
+     * <p>
+     * Iterates over the sorted keys of a temporary file, through a buffer.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final class FileCursor implements Cursor {
+
+        private final FileChannel channel;
+        private final ByteBuffer  buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private long key;
+
+
+        private FileCursor(Path path)
+        throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer.limit(0);
+        }
+
+
+        @Override
+        public long key() {
+            return key;
+        }
+
+        @Override
+        public boolean next()
+        throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.compact();
+
+                while (buffer.position() < Long.BYTES) {
+                    if (channel.read(buffer) < 0) return false;
+                }
+
+                buffer.flip();
+            }
+
+            key = buffer.getLong();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
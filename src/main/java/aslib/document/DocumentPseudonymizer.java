@@ -0,0 +1,510 @@
+package aslib.document;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Replaces documents with pseudonyms: other valid documents chosen by a
+ * secret key, such as a CPF replaced by another CPF in an anonymized copy of
+ * a database. The same key always gives the same pseudonym, and no two
+ * documents share one, so the joins between the tables still work. With the
+ * key, the pseudonyms are restored into the original documents.
+ * </p>
+ *
+ * <p>
+ * Only the digits before the verification digits are replaced. They are
+ * read as a number and encrypted by a Feistel network over the decimal
+ * numbers with the same amount of digits, with 10 rounds alternating between
+ * the two halves of the number, as in the FF1 mode. The round function is
+ * SipHash-2-4 of the round, the amount of digits and the half, under the
+ * 128-bit key. When the encrypted number is not the base of a valid
+ * document, such as a repeated digit, it is encrypted again until it is
+ * (cycle walking), so the pseudonyms are valid documents and the mapping is a
+ * permutation of them. The verification digits are then calculated by the
+ * rules of the document.
+ * </p>
+ *
+ * <p>
+ * A document may be mapped onto itself, with the chance of one in the amount
+ * of valid documents, such as one in a billion for the CPF. The mapping hides
+ * the documents from who does not have the key, but it keeps the frequency of
+ * each one, as any deterministic mapping does.
+ * </p>
+ *
+ * <p>
+ * The arrays of keys are processed in place, using all the cores of the
+ * machine for large inputs, with no objects allocated per document. The
+ * instances are immutable and safe to use from many threads.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentPseudonymizer#of(Document, byte[])}
+ * method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentPseudonymizer {
+
+    private static final int KEY_LENGTH         = 16;
+    private static final int ROUNDS             = 10;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int BLOCK_SIZE         = 1024;
+
+    // Last block of SipHash for a message of 8 bytes, which holds only its length
+    private static final long FINAL_BLOCK = (long) Long.BYTES << 56;
+
+    private final CompiledDocument document;
+    private final int              digits;
+    private final int              shift;
+    private final long             highModulus;
+    private final long             lowModulus;
+    private final long             k0;
+    private final long             k1;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentPseudonymizer} class.
+     * </p>
+     *
+     * @param document Document implementation of the pseudonyms.
+     * @param key      Secret key, with 16 bytes.
+     *
+     * @since 1.0.0
+     */
+    private DocumentPseudonymizer(CompiledDocument document, byte[] key) {
+        this.document = document;
+        this.digits   = document.length() - document.verificationDigits();
+        this.shift    = document.verificationDigits() << 2;
+
+        this.highModulus = power(digits / 2);
+        this.lowModulus  = power(digits - digits / 2);
+
+        this.k0 = readLong(key, 0);
+        this.k1 = readLong(key, 8);
+    }
+
+
+    /**
+     * <p>
+     * Creates a pseudonymizer for the documents of the provided
+     * implementation, such as {@code BrazilianDocument.cpf()}, with the
+     * secret key. The key is copied, and the same key must be used to
+     * restore the documents.
+     * </p>
+     *
+     * @param document Document implementation of the pseudonyms. It must be
+     *                 compiled from a {@link DocumentSpec}, as the
+     *                 implementations of the API are.
+     * @param key      Secret key, with 16 bytes.
+     *
+     * @return An instance of DocumentPseudonymizer.
+     *
+     * @throws NullPointerException     If the document or the key are null.
+     * @throws IllegalArgumentException If the document is not compiled from a
+     *                                  {@link DocumentSpec}, or if the key
+     *                                  does not have 16 bytes.
+     * @since 1.0.0
+     */
+    public static DocumentPseudonymizer of(Document document, byte[] key)
+    throws NullPointerException, IllegalArgumentException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+        if (key == null) throw new NullPointerException("Key cannot be null.");
+
+        if (!(document instanceof CompiledDocument))
+            throw new IllegalArgumentException("Document is not supported: '" + document.getClass().getName() + '\'');
+
+        if (key.length != KEY_LENGTH)
+            throw new IllegalArgumentException("Key must have " + KEY_LENGTH + " bytes: '" + key.length + '\'');
+
+        return new DocumentPseudonymizer((CompiledDocument) document, key);
+    }
+
+
+    /**
+     * <p>
+     * Replaces the document with its pseudonym.
+     * </p>
+     *
+     * @param document Document, formatted or not.
+     *
+     * @return The pseudonym, formatted.
+     *
+     * @throws NullDocumentException    If the document is null.
+     * @throws IllegalArgumentException If the document is not valid.
+     * @since 1.0.0
+     */
+    public String pseudonymize(CharSequence document)
+    throws NullDocumentException, IllegalArgumentException {
+        long pseudonym = pseudonymizeKey(parse(document));
+
+        return this.document.formatKey(pseudonym);
+    }
+
+    /**
+     * <p>
+     * Replaces the keys of a region of the array with the keys of their
+     * pseudonyms, in place. The keys that are not valid are replaced with -1.
+     * </p>
+     *
+     * @param keys   Keys of the documents, as returned by
+     *               {@link KeyedDocument#parseKey(CharSequence)}.
+     * @param offset Position of the first key of the region.
+     * @param length Amount of keys of the region.
+     *
+     * @return The amount of keys replaced with pseudonyms.
+     *
+     * @throws NullPointerException      If the keys are null.
+     * @throws IndexOutOfBoundsException If the region is out of the array
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public int pseudonymize(long[] keys, int offset, int length)
+    throws NullPointerException, IndexOutOfBoundsException {
+        return process(keys, offset, length, true);
+    }
+
+    /**
+     * <p>
+     * Gets the key of the pseudonym of the document.
+     * </p>
+     *
+     * @param key Key of the document.
+     *
+     * @return The key of the pseudonym, or -1 if the key is not valid.
+     *
+     * @since 1.0.0
+     */
+    public long pseudonymizeKey(long key) {
+        return map(key, true);
+    }
+
+    /**
+     * <p>
+     * Restores the document from its pseudonym.
+     * </p>
+     *
+     * @param pseudonym Pseudonym, formatted or not.
+     *
+     * @return The original document, formatted.
+     *
+     * @throws NullDocumentException    If the pseudonym is null.
+     * @throws IllegalArgumentException If the pseudonym is not a valid
+     *                                  document.
+     * @since 1.0.0
+     */
+    public String restore(CharSequence pseudonym)
+    throws NullDocumentException, IllegalArgumentException {
+        long key = restoreKey(parse(pseudonym));
+
+        return document.formatKey(key);
+    }
+
+    /**
+     * <p>
+     * Replaces the keys of the pseudonyms of a region of the array with the
+     * keys of the original documents, in place. The keys that are not valid
+     * are replaced with -1.
+     * </p>
+     *
+     * @param keys   Keys of the pseudonyms.
+     * @param offset Position of the first key of the region.
+     * @param length Amount of keys of the region.
+     *
+     * @return The amount of keys restored.
+     *
+     * @throws NullPointerException      If the keys are null.
+     * @throws IndexOutOfBoundsException If the region is out of the array
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public int restore(long[] keys, int offset, int length)
+    throws NullPointerException, IndexOutOfBoundsException {
+        return process(keys, offset, length, false);
+    }
+
+    /**
+     * <p>
+     * Gets the key of the original document of the pseudonym.
+     * </p>
+     *
+     * @param key Key of the pseudonym.
+     *
+     * @return The key of the original document, or -1 if the key is not
+     * valid.
+     *
+     * @since 1.0.0
+     */
+    public long restoreKey(long key) {
+        return map(key, false);
+    }
+
+
+    /**
+     * <p>
+     * Converts the document into its key.
+     * </p>
+     *
+     * @param document Document, formatted or not.
+     *
+     * @return The key of the document.
+     *
+     * @throws NullDocumentException    If the document is null.
+     * @throws IllegalArgumentException If the document is not valid.
+     * @since 1.0.0
+     */
+    private long parse(CharSequence document)
+    throws NullDocumentException, IllegalArgumentException {
+        long key = this.document.parseKey(document);
+        if (key < 0) throw new IllegalArgumentException("Invalid document: '" + document + '\'');
+
+        return key;
+    }
+
+    /**
+     * <p>
+     * Maps the keys of a region of the array in place, in parallel for large
+     * regions.
+     * </p>
+     *
+     * @param keys    Keys that will be mapped.
+     * @param offset  Position of the first key of the region.
+     * @param length  Amount of keys of the region.
+     * @param forward TRUE to pseudonymize, FALSE to restore.
+     *
+     * @return The amount of valid keys.
+     *
+     * @since 1.0.0
+     */
+    private int process(long[] keys, int offset, int length, boolean forward) {
+        if (keys == null) throw new NullPointerException("Keys cannot be null.");
+        Objects.checkFromIndexSize(offset, length, keys.length);
+
+        int       blocks  = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        IntStream indexes = IntStream.range(0, blocks);
+
+        if (length >= PARALLEL_THRESHOLD) indexes = indexes.parallel();
+
+        return indexes.map(block -> {
+            int start = offset + block * BLOCK_SIZE;
+            int end   = Math.min(offset + length, start + BLOCK_SIZE);
+            int valid = 0;
+
+            for (int i = start; i < end; i++) {
+                keys[i] = map(keys[i], forward);
+                if (keys[i] >= 0) valid++;
+            }
+
+            return valid;
+        }).sum();
+    }
+
+    /**
+     * <p>
+     * Maps the key of a document into the key of its pseudonym, or back.
+     * </p>
+     *
+     * @param key     Key that will be mapped.
+     * @param forward TRUE to pseudonymize, FALSE to restore.
+     *
+     * @return The mapped key, or -1 if the key is not valid.
+     *
+     * @since 1.0.0
+     */
+    private long map(long key, boolean forward) {
+        if (!document.isValidKey(key)) return -1;
+
+        long number = toNumber(key >>> shift);
+        if (number < 0) return -1;
+
+        // The valid bases are a subset of the numbers, so the permutation is
+        // applied until it lands on one of them
+        long packed;
+        do {
+            number = forward ? encrypt(number) : decrypt(number);
+            packed = document.complete(CompiledDocument.pack(number, digits));
+        } while (!document.isValid(packed));
+
+        return packed;
+    }
+
+    /**
+     * <p>
+     * Encrypts the number with the Feistel network.
+     * </p>
+     *
+     * @param number Number with the amount of digits of the base.
+     *
+     * @return The encrypted number, with the same amount of digits.
+     *
+     * @since 1.0.0
+     */
+    private long encrypt(long number) {
+        long a = number / lowModulus;
+        long b = number % lowModulus;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long roundModulus = (round & 1) == 0 ? highModulus : lowModulus;
+            long c            = a + (round(round, b) >>> 1) % roundModulus;
+
+            if (c >= roundModulus) c -= roundModulus;
+
+            a = b;
+            b = c;
+        }
+
+        return a * lowModulus + b;
+    }
+
+    /**
+     * <p>
+     * Decrypts the number with the Feistel network, running the rounds
+     * backwards.
+     * </p>
+     *
+     * @param number Number with the amount of digits of the base.
+     *
+     * @return The decrypted number, with the same amount of digits.
+     *
+     * @since 1.0.0
+     */
+    private long decrypt(long number) {
+        long a = number / lowModulus;
+        long b = number % lowModulus;
+
+        for (int round = ROUNDS - 1; round >= 0; round--) {
+            long roundModulus = (round & 1) == 0 ? highModulus : lowModulus;
+            long c            = b - (round(round, a) >>> 1) % roundModulus;
+
+            if (c < 0) c += roundModulus;
+
+            b = a;
+            a = c;
+        }
+
+        return a * lowModulus + b;
+    }
+
+    /**
+     * <p>
+     * Calculates the round function: SipHash-2-4 of a single 8-byte message
+     * with the round, the amount of digits and the half of the number.
+     * </p>
+     *
+     * @param round Round of the network.
+     * @param half  Half of the number.
+     *
+     * @return The 64 bits of the hash.
+     *
+     * @since 1.0.0
+     */
+    private long round(int round, long half) {
+        long message = round | (long) digits << 8 | half << 16;
+
+        long v0 = k0 ^ 0x736F_6D65_7073_6575L;
+        long v1 = k1 ^ 0x646F_7261_6E64_6F6DL;
+        long v2 = k0 ^ 0x6C79_6765_6E65_7261L;
+        long v3 = k1 ^ 0x7465_6462_7974_6573L;
+
+        // 2 rounds for the message, 2 for the final block with its length
+        // and 4 for the finalization
+        long block = message;
+        v3 ^= block;
+
+        for (int i = 0; i < 8; i++) {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13) ^ v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16) ^ v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21) ^ v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17) ^ v2;
+            v2 = Long.rotateLeft(v2, 32);
+
+            if (i == 1) {
+                v0 ^= block;
+                block = FINAL_BLOCK;
+                v3 ^= block;
+            } else if (i == 3) {
+                v0 ^= block;
+                v2 ^= 0xFF;
+            }
+        }
+
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    /**
+     * <p>
+     * Converts the packed digits into the number they form.
+     * </p>
+     *
+     * @param packed Digits packed one per 4 bits.
+     *
+     * @return The number, or -1 if any digit is not decimal.
+     *
+     * @since 1.0.0
+     */
+    private long toNumber(long packed) {
+        long number = 0;
+
+        for (int i = digits - 1; i >= 0; i--) {
+            long digit = (packed >>> (i << 2)) & 0xF;
+            if (digit > 9) return -1;
+
+            number = number * 10 + digit;
+        }
+
+        return number;
+    }
+
+    /**
+     * <p>
+     * Calculates a power of 10.
+     * </p>
+     *
+     * @param exponent Exponent of the power.
+     *
+     * @return 10 raised to the exponent.
+     *
+     * @since 1.0.0
+     */
+    private static long power(int exponent) {
+        long power = 1;
+
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+
+        return power;
+    }
+
+    /**
+     * <p>
+     * Reads 8 bytes of the array as a little-endian number, as SipHash
+     * reads its key.
+     * </p>
+     *
+     * @param bytes  Array with the bytes.
+     * @param offset Position of the first byte.
+     *
+     * @return The number.
+     *
+     * @since 1.0.0
+     */
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+
+        return value;
+    }
+}
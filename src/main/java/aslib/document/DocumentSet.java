@@ -0,0 +1,364 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Set of documents stored by their keys, as returned by
+ * {@link KeyedDocument#parseKey(CharSequence)}, in a single {@code long} array
+ * with open addressing and linear probing. Each document takes from 8 to 16
+ * bytes, a small fraction of a {@code HashSet<String>}, and
+ * {@link #contains(CharSequence)} allocates no objects.
+ * </p>
+ *
+ * <p>
+ * The set may hold documents of up to 8 types, such as CPFs and CNPJs. The
+ * type is stored in the high bits of the key, so equal keys of different
+ * types do not collide. A document is added as the first type that accepts
+ * it.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe. Once loaded, call {@link #freeze()} to get
+ * a read-only copy that can be shared by many threads.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentSet#of(KeyedDocument...)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentSet {
+
+    private static final int  INITIAL_CAPACITY = 16;
+    private static final long OCCUPIED         = Long.MIN_VALUE;
+
+    private final KeyedDocument[] documents;
+
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int    size  = 0;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentSet} class.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the set.
+     *
+     * @since 1.0.0
+     */
+    private DocumentSet(KeyedDocument[] documents) {
+        this.documents = documents;
+    }
+
+
+    /**
+     * <p>
+     * Creates an empty set that accepts the documents of the provided
+     * implementations, such as {@code BrazilianDocument.cpf()} and
+     * {@code BrazilianDocument.cnpj()}. The implementations must support
+     * keys.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the set.
+     *
+     * @return An instance of DocumentSet.
+     *
+     * @throws NullPointerException     If the documents or any of them are
+     *                                  null.
+     * @throws IllegalArgumentException If there are no documents or more than
+     *                                  8 of them, or if there are many
+     *                                  documents and any of them has keys of
+     *                                  more than 60 bits.
+     * @since 1.0.0
+     */
+    public static DocumentSet of(KeyedDocument... documents)
+    throws NullPointerException, IllegalArgumentException {
+        return new DocumentSet(DocumentTypes.check(documents));
+    }
+
+
+    /**
+     * <p>
+     * Adds the document to the set.
+     * </p>
+     *
+     * @param document Document that will be added, formatted or not.
+     *
+     * @return TRUE if it was added, or FALSE if it is not valid for any of the
+     * types or if it is already in the set.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean add(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return add(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if the document is in the set, without allocating objects.
+     * </p>
+     *
+     * @param document Document that will be checked, formatted or not.
+     *
+     * @return TRUE if it is in the set.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return contains(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if the document in a region of the text is in the set, without
+     * allocating objects.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it is in the set.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        return contains(documents, table, document, offset, length);
+    }
+
+    /**
+     * <p>
+     * Creates a read-only copy of the set, whose table is sized for the
+     * current amount of documents.
+     * </p>
+     *
+     * @return A frozen copy of the set.
+     *
+     * @since 1.0.0
+     */
+    public FrozenDocumentSet freeze() {
+        return new FrozenDocumentSet(documents, rehash(table, capacityFor(size)), size);
+    }
+
+    /**
+     * <p>
+     * Adds the documents of a text file, one per line. The lines that are not
+     * valid documents are skipped.
+     * </p>
+     *
+     * @param file File with the documents.
+     *
+     * @return The amount of documents added, or 0 if the file cannot be read.
+     * The documents read until the failure are kept.
+     *
+     * @throws NullPointerException If the file is null.
+     * @since 1.0.0
+     */
+    public long load(Path file)
+    throws NullPointerException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+
+        try {
+            return LineReader.read(file, this::add);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of documents in the set.
+     * </p>
+     *
+     * @return The amount of documents.
+     *
+     * @since 1.0.0
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * <p>
+     * Adds the document in a region of the text.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it was added.
+     *
+     * @since 1.0.0
+     */
+    private boolean add(CharSequence document, int offset, int length) {
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, offset, length);
+            if (key < 0) continue;
+
+            if (contains(table, DocumentTypes.tag(key, type))) return false;
+
+            // Keeps the load factor under 3/4
+            if ((size + 1) * 4L > table.length * 3L) table = rehash(table, table.length * 2);
+
+            insert(table, DocumentTypes.tag(key, type));
+            size++;
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * <p>
+     * Checks if the document in a region of the text is in the table, for
+     * each type that accepts it.
+     * </p>
+     *
+     * @param documents Document implementations of the set.
+     * @param table     Table of the set.
+     * @param document  Text that contains the document.
+     * @param offset    Position of the first character of the document.
+     * @param length    Amount of characters of the document.
+     *
+     * @return TRUE if it is in the table.
+     *
+     * @since 1.0.0
+     */
+    static boolean contains(KeyedDocument[] documents, long[] table, CharSequence document, int offset, int length) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        for (int type = 0; type < documents.length; type++) {
+            long key = documents[type].parseKey(document, offset, length);
+
+            if (key >= 0 && contains(table, DocumentTypes.tag(key, type))) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gets the capacity of a table that holds the amount of keys with a load
+     * factor under 3/4.
+     * </p>
+     *
+     * @param size Amount of keys.
+     *
+     * @return A power of 2.
+     *
+     * @since 1.0.0
+     */
+    private static int capacityFor(int size) {
+        long minimum = Math.max(INITIAL_CAPACITY, (size * 4L + 2) / 3 + 1);
+
+        return Math.toIntExact(Long.highestOneBit(minimum - 1) << 1);
+    }
+
+    /**
+     * <p>
+     * Checks if the tagged key is in the table.
+     * </p>
+     *
+     * @param table Table whose length is a power of 2.
+     * @param key   Tagged key.
+     *
+     * @return TRUE if it is in the table.
+     *
+     * @since 1.0.0
+     */
+    private static boolean contains(long[] table, long key) {
+        int  mask  = table.length - 1;
+        long entry = key | OCCUPIED;
+
+        for (int i = hash(key) & mask; table[i] != 0; i = (i + 1) & mask) {
+            if (table[i] == entry) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Spreads the bits of the key, with the finalizer of MurmurHash3.
+     * </p>
+     *
+     * @param key Tagged key.
+     *
+     * @return The hash of the key.
+     *
+     * @since 1.0.0
+     */
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51_AFD7_ED55_8CCDL;
+        key ^= key >>> 33;
+
+        return (int) key;
+    }
+
+    /**
+     * <p>
+     * Inserts a tagged key that is not in the table.
+     * </p>
+     *
+     * @param table Table with at least one free slot.
+     * @param key   Tagged key.
+     *
+     * @since 1.0.0
+     */
+    private static void insert(long[] table, long key) {
+        int mask = table.length - 1;
+        int i    = hash(key) & mask;
+
+        while (table[i] != 0) i = (i + 1) & mask;
+
+        table[i] = key | OCCUPIED;
+    }
+
+    /**
+     * <p>
+     * Copies the keys into a new table.
+     * </p>
+     *
+     * @param table    Current table.
+     * @param capacity Capacity of the new table, a power of 2.
+     *
+     * @return The new table.
+     *
+     * @since 1.0.0
+     */
+    private static long[] rehash(long[] table, int capacity) {
+        long[] copy = new long[capacity];
+
+        for (long entry : table) {
+            if (entry != 0) insert(copy, entry & ~OCCUPIED);
+        }
+
+        return copy;
+    }
+}
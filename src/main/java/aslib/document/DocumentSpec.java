@@ -0,0 +1,377 @@
+package aslib.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * <p>
+ * Declarative description of a document whose verification digits are
+ * remainders of weighted sums, such as most of the national identifiers. The
+ * description is compiled once, by {@link #compile()}, into a
+ * {@link Document} that validates, formats and generates the documents with
+ * primitive arithmetic only, so new document types need no hand-written
+ * loops.
+ * </p>
+ *
+ * <p>
+ * A description has:
+ * </p>
+ *
+ * <ul>
+ *     <li>The mask, where each {@code #} is a digit and the other characters
+ *     are copied as they are when the document is formatted;</li>
+ *     <li>One entry per verification digit, in the order they appear at the
+ *     end of the document, with the weights, the modulus and the mapping from
+ *     the remainder to the digit;</li>
+ *     <li>Optionally, the blacklisted documents, the additional rules and the
+ *     symbol of the digit 10, as the 'X' of some documents.</li>
+ * </ul>
+ *
+ * <p>
+ * The rules receive the document packed one digit per 4 bits, as returned by
+ * {@link DocumentUtils#packDigits(CharSequence, int, int)}.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentSpec#of(String)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class DocumentSpec {
+
+    private static final int MAX_LENGTH = 15;
+
+    private final String mask;
+    private final int    length;
+
+    private final List<CheckDigit>    checkDigits = new ArrayList<>();
+    private final List<String>        blacklist   = new ArrayList<>();
+    private final List<LongPredicate> rules       = new ArrayList<>();
+
+    private boolean repeatedDigits = false;
+    private char    symbolForTen   = 0;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentSpec} class.
+     * </p>
+     *
+     * @param mask   Mask of the document.
+     * @param length Amount of digits of the mask.
+     *
+     * @since 1.0.0
+     */
+    private DocumentSpec(String mask, int length) {
+        this.mask   = mask;
+        this.length = length;
+    }
+
+
+    /**
+     * <p>
+     * Creates a description of the document with the mask, such as
+     * {@code ###.###.###-##}. The amount of {@code #} is the length of the
+     * document, including the verification digits.
+     * </p>
+     *
+     * @param mask Mask of the document.
+     *
+     * @return An instance of DocumentSpec.
+     *
+     * @throws NullPointerException     If the mask is null.
+     * @throws IllegalArgumentException If the mask has no digits or more than
+     *                                  15 digits.
+     * @since 1.0.0
+     */
+    public static DocumentSpec of(String mask)
+    throws NullPointerException, IllegalArgumentException {
+        if (mask == null) throw new NullPointerException("Mask cannot be null.");
+
+        int length = (int) mask.chars()
+                               .filter(c -> c == '#')
+                               .count();
+
+        if (length < 1 || length > MAX_LENGTH)
+            throw new IllegalArgumentException("Mask must have from 1 to " + MAX_LENGTH + " digits: '" + mask + '\'');
+
+        return new DocumentSpec(mask, length);
+    }
+
+
+    /**
+     * <p>
+     * Adds a verification digit whose value depends only on the remainder.
+     * The mapping is evaluated once for each remainder, so the compiled
+     * document reads the digit from a table.
+     * </p>
+     *
+     * <p>
+     * The weights are applied to the digits that precede the verification
+     * digit, starting at the first one, so there is one weight per digit.
+     * Zero weights skip the digits that are not part of the sum.
+     * </p>
+     *
+     * @param modulus Divisor of the weighted sum.
+     * @param weights Weights of the digits that precede the verification digit.
+     * @param mapping Converts the remainder into the verification digit.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @throws NullPointerException     If the weights or the mapping are null.
+     * @throws IllegalArgumentException If the modulus is lower than 2.
+     * @since 1.0.0
+     */
+    public DocumentSpec checkDigit(int modulus, int[] weights, IntUnaryOperator mapping)
+    throws NullPointerException, IllegalArgumentException {
+        if (mapping == null) throw new NullPointerException("Mapping cannot be null.");
+        checkDigitArguments(modulus, weights);
+
+        int[] table = new int[modulus];
+
+        for (int remainder = 0; remainder < modulus; remainder++) {
+            table[remainder] = mapping.applyAsInt(remainder);
+        }
+
+        checkDigits.add(new CheckDigit(modulus, weights.clone(), table, null));
+        return this;
+    }
+
+    /**
+     * <p>
+     * Adds a verification digit whose value depends on the remainder and on
+     * the other digits of the document, as in
+     * {@link #checkDigit(int, int[], IntUnaryOperator)}.
+     * </p>
+     *
+     * @param modulus Divisor of the weighted sum.
+     * @param weights Weights of the digits that precede the verification digit.
+     * @param mapping Converts the remainder into the verification digit.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @throws NullPointerException     If the weights or the mapping are null.
+     * @throws IllegalArgumentException If the modulus is lower than 2.
+     * @since 1.0.0
+     */
+    public DocumentSpec checkDigit(int modulus, int[] weights, Mapping mapping)
+    throws NullPointerException, IllegalArgumentException {
+        if (mapping == null) throw new NullPointerException("Mapping cannot be null.");
+        checkDigitArguments(modulus, weights);
+
+        checkDigits.add(new CheckDigit(modulus, weights.clone(), null, mapping));
+        return this;
+    }
+
+    /**
+     * <p>
+     * Adds documents that are mathematically valid but must be rejected.
+     * </p>
+     *
+     * @param documents Documents that will be rejected, formatted or not.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @throws NullPointerException If any document is null.
+     * @since 1.0.0
+     */
+    public DocumentSpec blacklist(String... documents)
+    throws NullPointerException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+
+        for (String document : documents) {
+            if (document == null) throw new NullDocumentException();
+
+            blacklist.add(document);
+        }
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets whether the documents with all digits equal, such as
+     * {@code 000.000.000-00}, are accepted. They are rejected by default.
+     * </p>
+     *
+     * @param repeatedDigits TRUE to accept them.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @since 1.0.0
+     */
+    public DocumentSpec repeatedDigits(boolean repeatedDigits) {
+        this.repeatedDigits = repeatedDigits;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Adds a rule that every valid document must also satisfy.
+     * </p>
+     *
+     * @param rule Tests the packed document.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @throws NullPointerException If the rule is null.
+     * @since 1.0.0
+     */
+    public DocumentSpec rule(LongPredicate rule)
+    throws NullPointerException {
+        if (rule == null) throw new NullPointerException("Rule cannot be null.");
+
+        rules.add(rule);
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets the letter that represents the digit 10, which is accepted in any
+     * case and in any position, and written in upper case.
+     * </p>
+     *
+     * @param symbolForTen A letter, such as 'X'.
+     *
+     * @return The same instance of DocumentSpec.
+     *
+     * @throws IllegalArgumentException If the symbol is not an ASCII letter.
+     * @since 1.0.0
+     */
+    public DocumentSpec symbolForTen(char symbolForTen)
+    throws IllegalArgumentException {
+        if (symbolForTen > 127 || !Character.isLetter(symbolForTen))
+            throw new IllegalArgumentException("Invalid symbol: '" + symbolForTen + '\'');
+
+        this.symbolForTen = Character.toUpperCase(symbolForTen);
+        return this;
+    }
+
+
+    /**
+     * <p>
+     * Compiles the description into a document implementation. Later changes
+     * to the description do not affect the compiled document.
+     * </p>
+     *
+     * @return The compiled document.
+     *
+     * @throws IllegalStateException If there is no verification digit, if the
+     *                               amount of weights does not match the
+     *                               position of a verification digit, if a
+     *                               mapping gives an invalid digit or if a
+     *                               blacklisted document does not have the
+     *                               document length.
+     * @since 1.0.0
+     */
+    public KeyedDocument compile()
+    throws IllegalStateException {
+        return new CompiledDocument(this);
+    }
+
+
+    String mask() {
+        return mask;
+    }
+
+    int length() {
+        return length;
+    }
+
+    List<CheckDigit> checkDigits() {
+        return checkDigits;
+    }
+
+    List<String> blacklist() {
+        return blacklist;
+    }
+
+    List<LongPredicate> rules() {
+        return rules;
+    }
+
+    boolean repeatedDigits() {
+        return repeatedDigits;
+    }
+
+    char symbolForTen() {
+        return symbolForTen;
+    }
+
+
+    /**
+     * <p>
+     * Checks the arguments shared by the verification digits.
+     * </p>
+     *
+     * @param modulus Divisor of the weighted sum.
+     * @param weights Weights of the digits.
+     *
+     * @since 1.0.0
+     */
+    private static void checkDigitArguments(int modulus, int[] weights) {
+        if (weights == null) throw new NullPointerException("Weights cannot be null.");
+        if (modulus < 2) throw new IllegalArgumentException("Modulus must be greater than 1: '" + modulus + '\'');
+    }
+
+
+    /**
+     * <p>
+     * Converts the remainder of the weighted sum into a verification digit,
+     * when the conversion depends on the other digits of the document.
+     * </p>
+     *
+     * @author Adriano Siqueira
+     * @version 1.0.0
+     * @since 12.0.0
+     */
+    @FunctionalInterface
+    public interface Mapping {
+
+        /**
+         * <p>
+         * Converts the remainder into the verification digit.
+         * </p>
+         *
+         * @param remainder Remainder of the weighted sum.
+         * @param digits    Digits of the document without the verification
+         *                  digits, packed one digit per 4 bits.
+         *
+         * @return The verification digit, from 0 to 9, or 10 if the symbol of
+         * the digit 10 is set.
+         *
+         * @since 1.0.0
+         */
+        int digit(int remainder, long digits);
+    }
+
+
+    /**
+     * <p>
+     * Description of a verification digit. Either the table or the mapping
+     * is set.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    static final class CheckDigit {
+
+        final int     modulus;
+        final int[]   weights;
+        final int[]   table;
+        final Mapping mapping;
+
+
+        private CheckDigit(int modulus, int[] weights, int[] table, Mapping mapping) {
+            this.modulus = modulus;
+            this.weights = weights;
+            this.table   = table;
+            this.mapping = mapping;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package aslib.document;
+
+/**
+ * <p>
+ * Handles the types of the containers that hold the keys of many document
+ * implementations, such as {@link DocumentSet}, {@link DocumentIndex} and
+ * {@link DocumentBloomFilter}. The index of the implementation is stored
+ * from the bit 60 of the key, so equal keys of different types do not
+ * collide.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class DocumentTypes {
+
+    static final int MAX_DOCUMENTS = 8;
+
+    private static final int TYPE_SHIFT = 60;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link DocumentTypes} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private DocumentTypes() {}
+
+
+    /**
+     * <p>
+     * Checks the document implementations of a container. A document with
+     * keys wider than the bits below the type may only be held alone.
+     * </p>
+     *
+     * @param documents Document implementations.
+     *
+     * @return A copy of the array.
+     *
+     * @throws NullPointerException     If the documents or any of them are
+     *                                  null.
+     * @throws IllegalArgumentException If there are no documents or more than
+     *                                  8 of them, or if there are many
+     *                                  documents and any of them has keys of
+     *                                  more than 60 bits.
+     * @since 1.0.0
+     */
+    static KeyedDocument[] check(KeyedDocument[] documents)
+    throws NullPointerException, IllegalArgumentException {
+        if (documents == null) throw new NullPointerException("Documents cannot be null.");
+        if (documents.length < 1 || documents.length > MAX_DOCUMENTS)
+            throw new IllegalArgumentException("Amount of documents must be from 1 to " + MAX_DOCUMENTS + ": '" + documents.length + '\'');
+
+        for (KeyedDocument document : documents) {
+            if (document == null) throw new NullPointerException("Document cannot be null.");
+
+            if (documents.length > 1 && document.keyBits() > TYPE_SHIFT)
+                throw new IllegalArgumentException("Document cannot be mixed with others: '" + document.getClass().getName() + '\'');
+        }
+
+        return documents.clone();
+    }
+
+    /**
+     * <p>
+     * Stores the type of the document in the high bits of the key, which are
+     * free because the keys have at most 60 bits when there are many types.
+     * </p>
+     *
+     * @param key  Key of the document.
+     * @param type Index of the document implementation.
+     *
+     * @return The tagged key.
+     *
+     * @since 1.0.0
+     */
+    static long tag(long key, int type) {
+        return key | ((long) type << TYPE_SHIFT);
+    }
+}
@@ -1,5 +1,6 @@
 package aslib.document;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -11,14 +12,22 @@ import java.util.stream.Stream;
  * Contains a set of utility methods that perform common tasks within the API.
  * </p>
  *
+ * <p>
+ * Besides the list based methods, it handles documents packed into a single
+ * {@code long}, one digit per 4 bits, with the first digit in the most
+ * significant position. Those methods do not allocate objects, so they are
+ * suitable for validating large amounts of documents.
+ * </p>
+ *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.3.0
  * @since 12.0.0
  */
 public class DocumentUtils {
 
-    private final int length;
-    private final int verificationDigitsLength;
+    private final int  length;
+    private final int  verificationDigitsLength;
+    private final long repeatedUnit;
 
 
     /**
@@ -41,9 +50,43 @@ public class DocumentUtils {
     public DocumentUtils(int length, int verificationDigitsLength) {
         this.length                   = length;
         this.verificationDigitsLength = verificationDigitsLength;
+        this.repeatedUnit             = 0x1111_1111_1111_1111L >>> ((16 - Math.min(16, length)) << 2);
     }
 
 
+    /**
+     * <p>
+     * Gets the digit at the position of a packed document.
+     * </p>
+     *
+     * @param packed Document packed by {@link #packDigits}.
+     * @param index  Position of the digit, starting at 0.
+     *
+     * @return The value of the digit.
+     *
+     * @since 1.1.0
+     */
+    public int digitAt(long packed, int index) {
+        return (int) (packed >>> ((length - 1 - index) << 2)) & 0xF;
+    }
+
+    /**
+     * <p>
+     * Gets the value of a digit character.
+     * </p>
+     *
+     * @param c Character that will be converted.
+     *
+     * @return The value of the digit, or -1 if the character is not a digit.
+     *
+     * @since 1.1.0
+     */
+    public int digitValue(char c) {
+        return c >= '0' && c <= '9'
+               ? c - '0'
+               : -1;
+    }
+
     /**
      * <p>
      * Extracts the digits from the document. Non-numeric values will be removed.
@@ -121,6 +164,25 @@ public class DocumentUtils {
         return "0".repeat(diff) + document;
     }
 
+    /**
+     * <p>
+     * Checks if all digits of a packed document are the same number from 0 to
+     * 9, which makes it a known invalid document.
+     * </p>
+     *
+     * @param packed Document packed by {@link #packDigits}.
+     *
+     * @return TRUE if all digits are the same.
+     *
+     * @since 1.1.0
+     */
+    public boolean isRepeatedDigit(long packed) {
+        int first = digitAt(packed, 0);
+
+        return first <= 9 &&
+               packed == first * repeatedUnit;
+    }
+
     /**
      * <p>
      * Joins the digits into a single string.
@@ -138,6 +200,118 @@ public class DocumentUtils {
                      .collect(Collectors.joining());
     }
 
+    /**
+     * <p>
+     * Gets the document length including all digits.
+     * </p>
+     *
+     * @return The length of the document.
+     *
+     * @since 1.3.0
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Packs the digits of a document region into a single {@code long}, one
+     * digit per 4 bits. Characters that are not digits are skipped, as in
+     * {@link #extractDigits(String)}, but no object is allocated.
+     * </p>
+     *
+     * @param document Document from which the digits will be packed.
+     * @param offset   Position of the first character of the region.
+     * @param count    Amount of characters of the region.
+     *
+     * @return The packed digits, or -1 if the region does not have exactly the
+     * document length of digits.
+     *
+     * @since 1.1.0
+     */
+    public long packDigits(CharSequence document, int offset, int count) {
+        long packed = 0;
+        int  digits = 0;
+
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int value = digitValue(document.charAt(i));
+            if (value < 0) continue;
+
+            if (++digits > length) return -1;
+            packed = (packed << 4) | value;
+        }
+
+        return digits == length
+               ? packed
+               : -1;
+    }
+
+    /**
+     * <p>
+     * Packs the digits of a document stored as ASCII bytes in a region of the
+     * array, as {@link #packDigits(CharSequence, int, int)} does.
+     * </p>
+     *
+     * @param document Array from which the digits will be packed.
+     * @param offset   Position of the first byte of the region.
+     * @param count    Amount of bytes of the region.
+     *
+     * @return The packed digits, or -1 if the region does not have exactly the
+     * document length of digits.
+     *
+     * @since 1.2.0
+     */
+    public long packDigits(byte[] document, int offset, int count) {
+        long packed = 0;
+        int  digits = 0;
+
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int value = digitValue((char) (document[i] & 0xFF));
+            if (value < 0) continue;
+
+            if (++digits > length) return -1;
+            packed = (packed << 4) | value;
+        }
+
+        return digits == length
+               ? packed
+               : -1;
+    }
+
+    /**
+     * <p>
+     * Packs the digits of a document stored as ASCII bytes in a region of the
+     * buffer, given by absolute positions, as
+     * {@link #packDigits(CharSequence, int, int)} does. The position of the
+     * buffer is not changed.
+     * </p>
+     *
+     * @param document Buffer from which the digits will be packed.
+     * @param offset   Position of the first byte of the region.
+     * @param count    Amount of bytes of the region.
+     *
+     * @return The packed digits, or -1 if the region does not have exactly the
+     * document length of digits.
+     *
+     * @since 1.2.0
+     */
+    public long packDigits(ByteBuffer document, int offset, int count) {
+        long packed = 0;
+        int  digits = 0;
+
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int value = digitValue((char) (document.get(i) & 0xFF));
+            if (value < 0) continue;
+
+            if (++digits > length) return -1;
+            packed = (packed << 4) | value;
+        }
+
+        return digits == length
+               ? packed
+               : -1;
+    }
+
     /**
      * <p>
      * Removes non-numeric digits from the document.
@@ -189,4 +363,17 @@ public class DocumentUtils {
     public List<Integer> removeVerificationDigits(List<Integer> digits) {
         return new ArrayList<>(digits.subList(0, digits.size() - verificationDigitsLength));
     }
+
+    /**
+     * <p>
+     * Gets the amount of verification digits in the document.
+     * </p>
+     *
+     * @return The amount of verification digits.
+     *
+     * @since 1.3.0
+     */
+    public int verificationDigitsLength() {
+        return verificationDigitsLength;
+    }
 }
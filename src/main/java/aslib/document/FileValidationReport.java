@@ -0,0 +1,157 @@
+package aslib.document;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Result of the validation of a file by the {@link FileValidator}. It holds
+ * the amount of valid and invalid records and the byte offsets, in the file,
+ * of the lines of the invalid records.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class FileValidationReport {
+
+    private final long   valid;
+    private final long   invalid;
+    private final long[] invalidOffsets;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link FileValidationReport} class.
+     * </p>
+     *
+     * @param valid          Amount of valid records.
+     * @param invalid        Amount of invalid records.
+     * @param invalidOffsets Offsets of the lines of the invalid records, in
+     *                       ascending order.
+     *
+     * @since 1.0.0
+     */
+    FileValidationReport(long valid, long invalid, long[] invalidOffsets) {
+        this.valid          = valid;
+        this.invalid        = invalid;
+        this.invalidOffsets = invalidOffsets;
+    }
+
+
+    /**
+     * <p>
+     * Gets the amount of valid records.
+     * </p>
+     *
+     * @return The amount of valid records.
+     *
+     * @since 1.0.0
+     */
+    public long valid() {
+        return valid;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of invalid records, including the lines that do not
+     * have the validated column.
+     * </p>
+     *
+     * @return The amount of invalid records.
+     *
+     * @since 1.0.0
+     */
+    public long invalid() {
+        return invalid;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of records checked, without the header and the empty
+     * lines.
+     * </p>
+     *
+     * @return The amount of records.
+     *
+     * @since 1.0.0
+     */
+    public long total() {
+        return valid + invalid;
+    }
+
+    /**
+     * <p>
+     * Gets the byte offsets, in the file, of the first character of the lines
+     * of the invalid records, in ascending order.
+     * </p>
+     *
+     * @return A copy of the offsets.
+     *
+     * @since 1.0.0
+     */
+    public long[] invalidOffsets() {
+        return invalidOffsets.clone();
+    }
+
+
+    /**
+     * <p>
+     * Writes the report to a text file. The first lines have the counts and
+     * the following ones have the offsets of the invalid records, one per
+     * line.
+     * </p>
+     *
+     * @param output File where the report will be written.
+     *
+     * @throws NullPointerException If the output is null.
+     * @since 1.0.0
+     */
+    public void write(Path output)
+    throws NullPointerException {
+        if (output == null) throw new NullPointerException("Output cannot be null.");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(output)) {
+            writer.write("valid=" + valid);
+            writer.newLine();
+            writer.write("invalid=" + invalid);
+            writer.newLine();
+
+            for (long offset : invalidOffsets) {
+                writer.write(Long.toString(offset));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FileValidationReport)) return false;
+
+        FileValidationReport report = (FileValidationReport) o;
+        return valid == report.valid &&
+               invalid == report.invalid &&
+               Arrays.equals(invalidOffsets, report.invalidOffsets);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(valid, invalid);
+        result = 31 * result + Arrays.hashCode(invalidOffsets);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "FileValidationReport[valid=" + valid + ", invalid=" + invalid + ']';
+    }
+}
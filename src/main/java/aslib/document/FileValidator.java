@@ -0,0 +1,404 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Validates the documents of a text file with one record per line, such as a
+ * CSV file or a plain list of documents. The document is taken from one
+ * column of each line, and it is checked in place by
+ * {@link Document#isValid(ByteBuffer, int, int)}, without decoding the lines
+ * to strings.
+ * </p>
+ *
+ * <p>
+ * The file is memory mapped in segments that end at line boundaries, and the
+ * segments are validated in parallel. The fields may be enclosed in double
+ * quotes, in which case the delimiters inside the quotes are ignored. Both
+ * LF and CRLF line endings are supported, and empty lines are skipped.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link FileValidator#of(Document)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class FileValidator {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int SEARCH_BUFFER_SIZE   = 64 * 1024;
+
+    private final Document document;
+
+    private int     column      = 0;
+    private byte    delimiter   = ',';
+    private boolean skipHeader  = false;
+    private int     segmentSize = DEFAULT_SEGMENT_SIZE;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link FileValidator} class.
+     * </p>
+     *
+     * @param document Document implementation used to validate the records.
+     *
+     * @since 1.0.0
+     */
+    private FileValidator(Document document) {
+        this.document = document;
+    }
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link FileValidator} that validates the records
+     * with the provided implementation, such as
+     * {@code BrazilianDocument.cpf()}. By default, the document is in the
+     * first column, the delimiter is the comma and there is no header.
+     * </p>
+     *
+     * @param document Document implementation used to validate the records.
+     *
+     * @return An instance of FileValidator.
+     *
+     * @throws NullPointerException If the document is null.
+     * @since 1.0.0
+     */
+    public static FileValidator of(Document document)
+    throws NullPointerException {
+        if (document == null) throw new NullPointerException("Document cannot be null.");
+
+        return new FileValidator(document);
+    }
+
+
+    /**
+     * <p>
+     * Sets the column that contains the document.
+     * </p>
+     *
+     * @param column Index of the column, starting at 0.
+     *
+     * @return The same instance of FileValidator.
+     *
+     * @throws IllegalArgumentException If the column is negative.
+     * @since 1.0.0
+     */
+    public FileValidator column(int column)
+    throws IllegalArgumentException {
+        if (column < 0) throw new IllegalArgumentException("Column cannot be negative: '" + column + '\'');
+
+        this.column = column;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets the character that separates the columns.
+     * </p>
+     *
+     * @param delimiter An ASCII character, such as ',', ';' or '\t'.
+     *
+     * @return The same instance of FileValidator.
+     *
+     * @throws IllegalArgumentException If the delimiter is not an ASCII
+     *                                  character, or if it is a double quote
+     *                                  or a line break.
+     * @since 1.0.0
+     */
+    public FileValidator delimiter(char delimiter)
+    throws IllegalArgumentException {
+        if (delimiter > 127 || delimiter == '"' || delimiter == '\n' || delimiter == '\r')
+            throw new IllegalArgumentException("Invalid delimiter: '" + delimiter + '\'');
+
+        this.delimiter = (byte) delimiter;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets whether the first line of the file is a header, which is not
+     * validated.
+     * </p>
+     *
+     * @param skipHeader TRUE to skip the first line.
+     *
+     * @return The same instance of FileValidator.
+     *
+     * @since 1.0.0
+     */
+    public FileValidator skipHeader(boolean skipHeader) {
+        this.skipHeader = skipHeader;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets the approximate size of the segments validated in parallel.
+     * </p>
+     *
+     * @param segmentSize Size of the segments, in bytes.
+     *
+     * @return The same instance of FileValidator.
+     *
+     * @since 1.0.0
+     */
+    FileValidator segmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+
+    /**
+     * <p>
+     * Validates the records of the file.
+     * </p>
+     *
+     * @param file File that will be validated.
+     *
+     * @return The report of the validation, or an empty Optional if the file
+     * cannot be read.
+     *
+     * @throws NullPointerException If the file is null.
+     * @since 1.0.0
+     */
+    public Optional<FileValidationReport> validate(Path file)
+    throws NullPointerException {
+        if (file == null) throw new NullPointerException("File cannot be null.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+
+            SegmentResult[] results = IntStream.range(0, bounds.length - 1)
+                                               .parallel()
+                                               .mapToObj(i -> validate(channel, bounds[i], bounds[i + 1]))
+                                               .toArray(SegmentResult[]::new);
+
+            return Optional.of(merge(results));
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (UncheckedIOException e) {
+            e.getCause().printStackTrace();
+        }
+
+        return Optional.empty();
+    }
+
+
+    /**
+     * <p>
+     * Splits the file in segments of about the segment size that start at the
+     * beginning of a line.
+     * </p>
+     *
+     * @param channel Channel of the file.
+     *
+     * @return The bounds of the segments, starting at 0 and ending at the
+     * file size.
+     *
+     * @throws IOException If the file cannot be read.
+     * @since 1.0.0
+     */
+    private long[] split(FileChannel channel)
+    throws IOException {
+        long       size   = channel.size();
+        long[]     bounds = new long[(int) (size / segmentSize) + 2];
+        int        count  = 1;
+        ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE);
+
+        while (bounds[count - 1] + segmentSize < size) {
+            long bound = nextLine(channel, bounds[count - 1] + segmentSize, size, buffer);
+            if (bound >= size) break;
+
+            bounds[count++] = bound;
+        }
+
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * <p>
+     * Finds the beginning of the first line that starts after the position.
+     * </p>
+     *
+     * @param channel  Channel of the file.
+     * @param position Position where the search starts.
+     * @param size     Size of the file.
+     * @param buffer   Buffer used to read the file.
+     *
+     * @return The position after the next line break, or the file size if
+     * there is none.
+     *
+     * @throws IOException If the file cannot be read.
+     * @since 1.0.0
+     */
+    private long nextLine(FileChannel channel, long position, long size, ByteBuffer buffer)
+    throws IOException {
+        while (position < size) {
+            buffer.clear();
+
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') return position + i + 1;
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * <p>
+     * Validates the records of a segment of the file.
+     * </p>
+     *
+     * @param channel Channel of the file.
+     * @param start   Position of the first byte of the segment.
+     * @param end     Position after the last byte of the segment.
+     *
+     * @return The result of the segment.
+     *
+     * @since 1.0.0
+     */
+    private SegmentResult validate(FileChannel channel, long start, long end) {
+        MappedByteBuffer buffer;
+
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        SegmentResult result   = new SegmentResult();
+        boolean       header   = skipHeader && start == 0;
+        int           limit    = buffer.limit();
+        int           position = 0;
+
+        while (position < limit) {
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') lineEnd++;
+
+            int contentEnd = lineEnd;
+            if (contentEnd > position && buffer.get(contentEnd - 1) == '\r') contentEnd--;
+
+            if (header) {
+                header = false;
+            } else if (contentEnd > position) {
+                if (isValidRecord(buffer, position, contentEnd)) result.valid++;
+                else result.addInvalid(start + position);
+            }
+
+            position = lineEnd + 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Finds the column in the line and validates its document.
+     * </p>
+     *
+     * @param buffer Buffer that contains the line.
+     * @param start  Position of the first byte of the line.
+     * @param end    Position after the last byte of the line, without the line
+     *               break.
+     *
+     * @return TRUE if the line has the column and its document is valid.
+     *
+     * @since 1.0.0
+     */
+    private boolean isValidRecord(ByteBuffer buffer, int start, int end) {
+        int     field      = 0;
+        int     fieldStart = start;
+        int     i          = start;
+        boolean quoted     = false;
+
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == delimiter && !quoted) {
+                if (field == column) break;
+
+                field++;
+                fieldStart = i + 1;
+            }
+        }
+
+        return field == column &&
+               document.isValid(buffer, fieldStart, i - fieldStart);
+    }
+
+    /**
+     * <p>
+     * Merges the results of the segments, keeping the offsets in the order of
+     * the file.
+     * </p>
+     *
+     * @param results Results of the segments, in the order of the file.
+     *
+     * @return The report of the whole file.
+     *
+     * @since 1.0.0
+     */
+    private FileValidationReport merge(SegmentResult[] results) {
+        long valid   = 0;
+        long invalid = 0;
+
+        for (SegmentResult result : results) {
+            valid += result.valid;
+            invalid += result.invalid;
+        }
+
+        long[] offsets  = new long[Math.toIntExact(invalid)];
+        int    position = 0;
+
+        for (SegmentResult result : results) {
+            System.arraycopy(result.offsets, 0, offsets, position, result.invalid);
+            position += result.invalid;
+        }
+
+        return new FileValidationReport(valid, invalid, offsets);
+    }
+
+
+    /**
+     * <p>
+     * Accumulates the result of a segment, which is filled by a single thread.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private static final class SegmentResult {
+
+        private long   valid   = 0;
+        private int    invalid = 0;
+        private long[] offsets = new long[16];
+
+
+        private void addInvalid(long offset) {
+            if (invalid == offsets.length) offsets = Arrays.copyOf(offsets, invalid * 2);
+
+            offsets[invalid++] = offset;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package aslib.document;
+
+/**
+ * <p>
+ * Read-only copy of a {@link DocumentSet}. All its fields are final and the
+ * table is never changed after the creation, so the instance can be shared
+ * by many threads, which check the documents without any lock.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link DocumentSet#freeze()} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class FrozenDocumentSet {
+
+    private final KeyedDocument[] documents;
+    private final long[]          table;
+    private final int             size;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link FrozenDocumentSet} class.
+     * </p>
+     *
+     * @param documents Document implementations accepted by the set.
+     * @param table     Table of the set, which is not copied.
+     * @param size      Amount of documents in the table.
+     *
+     * @since 1.0.0
+     */
+    FrozenDocumentSet(KeyedDocument[] documents, long[] table, int size) {
+        this.documents = documents;
+        this.table     = table;
+        this.size      = size;
+    }
+
+
+    /**
+     * <p>
+     * Checks if the document is in the set, without allocating objects.
+     * </p>
+     *
+     * @param document Document that will be checked, formatted or not.
+     *
+     * @return TRUE if it is in the set.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return contains(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Checks if the document in a region of the text is in the set, without
+     * allocating objects.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return TRUE if it is in the set.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public boolean contains(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        return DocumentSet.contains(documents, table, document, offset, length);
+    }
+
+    /**
+     * <p>
+     * Gets the amount of documents in the set.
+     * </p>
+     *
+     * @return The amount of documents.
+     *
+     * @since 1.0.0
+     */
+    public int size() {
+        return size;
+    }
+}
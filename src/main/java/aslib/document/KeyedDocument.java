@@ -0,0 +1,185 @@
+package aslib.document;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Defines the documents that may be kept as keys besides the texts. A key is
+ * a non-negative {@code long}, usually with one digit per 4 bits and the
+ * first digit in the most significant position, so the key of
+ * {@code 106.694.192/06} is {@code 0x106_694_192_06L}. The keys keep the order
+ * of the documents, and they take a fraction of the memory of the formatted
+ * texts in indexes and sets.
+ * </p>
+ *
+ * <p>
+ * Since a document is a function of its key, the documents are also
+ * generated reproducibly: the keys are drawn from a seeded random generator
+ * in blocks of fixed size, and each block has its own generator split from
+ * the seed. The result is the same whatever the amount of threads.
+ * </p>
+ *
+ * <p>
+ * The sets, indexes, filters and codecs of documents take the implementations
+ * of this interface, such as {@code BrazilianDocument.cpf()}.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public interface KeyedDocument extends Document {
+
+    /**
+     * <p>
+     * Formats the document of a key, as returned by
+     * {@link #parseKey(CharSequence)}.
+     * </p>
+     *
+     * @param key Key of the document.
+     *
+     * @return The document formatted.
+     *
+     * @throws IllegalArgumentException If the key is not valid.
+     * @since 1.0.0
+     */
+    String formatKey(long key)
+    throws IllegalArgumentException;
+
+    /**
+     * <p>
+     * Generates many new documents reproducibly. The same amount and seed
+     * always produce the same documents in the same order, regardless of the
+     * amount of threads used to generate them.
+     * </p>
+     *
+     * @param amount Amount of documents to generate.
+     * @param seed   Seed of the random generator.
+     *
+     * @return A list with the new documents.
+     *
+     * @throws IllegalArgumentException If the amount is negative.
+     * @since 1.0.0
+     */
+    default List<String> generate(int amount, long seed)
+    throws IllegalArgumentException {
+        return generateStream(amount, seed).parallel()
+                                           .collect(Collectors.toList());
+    }
+
+    /**
+     * <p>
+     * Generates the key of a new valid document with the random generator.
+     * The same state of the generator always produces the same key.
+     * </p>
+     *
+     * @param random Random generator.
+     *
+     * @return The key of a new valid document.
+     *
+     * @throws NullPointerException If the random generator is null.
+     * @since 1.0.0
+     */
+    long generateKey(SplittableRandom random)
+    throws NullPointerException;
+
+    /**
+     * <p>
+     * Creates a stream of new documents that is reproducible, as in
+     * {@link #generate(int, long)}. The documents of each block are generated
+     * when the stream reaches it, and the stream may be consumed sequentially
+     * or in parallel. Its order is always the same.
+     * </p>
+     *
+     * @param amount Amount of documents of the stream.
+     * @param seed   Seed of the random generator.
+     *
+     * @return A stream of new documents.
+     *
+     * @throws IllegalArgumentException If the amount is negative.
+     * @since 1.0.0
+     */
+    default Stream<String> generateStream(int amount, long seed)
+    throws IllegalArgumentException {
+        return SeededGeneration.stream(amount, seed, (random, size) -> {
+            long[] keys = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                keys[i] = generateKey(random);
+            }
+
+            return Arrays.stream(keys).mapToObj(this::formatKey);
+        });
+    }
+
+    /**
+     * <p>
+     * Checks if the key holds a mathematically valid document. Keys with
+     * values that are not digits are rejected.
+     * </p>
+     *
+     * @param key Key of the document.
+     *
+     * @return TRUE if it is valid.
+     *
+     * @since 1.0.0
+     */
+    boolean isValidKey(long key);
+
+    /**
+     * <p>
+     * Gets the amount of bits of the keys, which are lower than 2 raised to
+     * it. The sets, indexes and filters store the type of the document above
+     * the bit 60, so the documents with wider keys may only be held alone.
+     * </p>
+     *
+     * @return The amount of bits of the keys.
+     *
+     * @since 1.0.0
+     */
+    int keyBits();
+
+    /**
+     * <p>
+     * Converts the document into its key. The characters that are not digits
+     * are ignored, as in {@link #isValid(String)}.
+     * </p>
+     *
+     * @param document Document that will be converted.
+     *
+     * @return The key of the document, or -1 if it is not valid.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    default long parseKey(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return parseKey(document, 0, document.length());
+    }
+
+    /**
+     * <p>
+     * Converts a region of the text into the key of its document, without
+     * allocating objects.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return The key of the document, or -1 if it is not valid.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    long parseKey(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException;
+}
@@ -0,0 +1,103 @@
+package aslib.document;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * Reads the lines of a text file through a single reusable buffer, so no
+ * object is allocated per line. Each line is handed over as a region of the
+ * buffer, which is only valid during the call.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class LineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link LineReader} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private LineReader() {}
+
+
+    /**
+     * <p>
+     * Reads the lines of the file. The lines longer than the buffer are
+     * skipped, as they cannot be documents.
+     * </p>
+     *
+     * @param file     File that will be read.
+     * @param consumer Receives each line, without the line break.
+     *
+     * @return The amount of lines accepted by the consumer.
+     *
+     * @throws IOException If the file cannot be read.
+     * @since 1.0.0
+     */
+    static long read(Path file, Consumer consumer)
+    throws IOException {
+        long accepted = 0;
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            char[]     buffer   = new char[BUFFER_SIZE];
+            CharBuffer text     = CharBuffer.wrap(buffer);
+            int        filled   = 0;
+            boolean    skipping = false;
+            int        read;
+
+            while ((read = reader.read(buffer, filled, buffer.length - filled)) >= 0) {
+                int end   = filled + read;
+                int start = 0;
+
+                for (int i = filled; i < end; i++) {
+                    if (buffer[i] != '\n') continue;
+
+                    if (!skipping && consumer.accept(text, start, i - start)) accepted++;
+                    skipping = false;
+                    start    = i + 1;
+                }
+
+                filled = end - start;
+
+                // A line longer than the buffer is not a document
+                if (filled == buffer.length) {
+                    skipping = true;
+                    filled   = 0;
+                } else {
+                    System.arraycopy(buffer, start, buffer, 0, filled);
+                }
+            }
+
+            // The last line may have no line break
+            if (!skipping && filled > 0 && consumer.accept(text, 0, filled)) accepted++;
+        }
+
+        return accepted;
+    }
+
+
+    /**
+     * <p>
+     * Receives the lines of the file.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    interface Consumer {
+
+        boolean accept(CharSequence text, int offset, int length);
+    }
+}
@@ -0,0 +1,95 @@
+package aslib.document;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Splits the seeded generation of documents in blocks of fixed size. Each
+ * block has its own {@link SplittableRandom}, split in order from the one
+ * created with the seed, so the output does not depend on how the blocks are
+ * distributed among the threads. All the implementations of
+ * {@link KeyedDocument#generateStream(int, long)} go through this class, so
+ * the same seed always gives the same documents.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class SeededGeneration {
+
+    static final int BLOCK_SIZE = 1024;
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link SeededGeneration} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private SeededGeneration() {}
+
+
+    /**
+     * <p>
+     * Creates a stream of new documents, generating each block when the
+     * stream reaches it.
+     * </p>
+     *
+     * @param amount Amount of documents of the stream.
+     * @param seed   Seed of the random generator.
+     * @param block  Generates the documents of a block from its random
+     *               generator.
+     *
+     * @return A stream of new documents.
+     *
+     * @throws IllegalArgumentException If the amount is negative.
+     * @since 1.0.0
+     */
+    static Stream<String> stream(int amount, long seed, Block block)
+    throws IllegalArgumentException {
+        if (amount < 0) throw new IllegalArgumentException("Amount cannot be negative: '" + amount + '\'');
+
+        int                blocks  = (amount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        SplittableRandom   root    = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[blocks];
+
+        for (int i = 0; i < blocks; i++) {
+            randoms[i] = root.split();
+        }
+
+        return IntStream.range(0, blocks)
+                        .mapToObj(index -> block.generate(randoms[index], Math.min(BLOCK_SIZE, amount - index * BLOCK_SIZE)))
+                        .flatMap(Function.identity());
+    }
+
+
+    /**
+     * <p>
+     * Generates the documents of a block.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    interface Block {
+
+        /**
+         * <p>
+         * Generates the documents of a block from its own random generator.
+         * </p>
+         *
+         * @param random Random generator of the block.
+         * @param size   Amount of documents of the block.
+         *
+         * @return A stream with the documents of the block.
+         *
+         * @since 1.0.0
+         */
+        Stream<String> generate(SplittableRandom random, int size);
+    }
+}
@@ -0,0 +1,449 @@
+package aslib.document.bra;
+
+import aslib.document.DocumentInternal;
+import aslib.document.KeyedDocument;
+import aslib.document.NullDocumentException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ * Implementation of the Brazilian CNPJ document in the alphanumeric format,
+ * issued from July 2026, which also accepts the numeric CNPJs. The first 12
+ * positions may be digits or letters, and the 2 verification digits are
+ * always digits. Each character is worth its ASCII code minus 48, so the
+ * digits keep their values and the letters go from 17 ('A') to 42 ('Z').
+ * Lowercase letters are read as uppercase.
+ * </p>
+ *
+ * <p>
+ * The verification digits are calculated with a table of the weighted values
+ * of each character in each position. Both weighted sums are packed in a
+ * single entry, so each character costs one lookup and one addition, as in
+ * the numeric path.
+ * </p>
+ *
+ * <p>
+ * The key of a document is its first 12 characters read as a base 36 number,
+ * where the letters are worth 10 to 35. It takes up to 63 bits and covers
+ * both formats, but it is not the key of {@link BrazilianDocument#cnpj()},
+ * which has one digit per 4 bits. Since the key uses the bits where the type
+ * is stored, this implementation must be the only one of a
+ * {@link aslib.document.DocumentSet} or of the other containers that tag the
+ * keys with the type, which reject it along with other implementations.
+ * </p>
+ *
+ * <p>
+ * Get its instance through the {@link BrazilianDocument#alphanumericCnpj()}
+ * method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class AlphanumericCNPJ implements DocumentInternal, KeyedDocument {
+
+    private static final String MASK            = "##.###.###/####-##";
+    private static final int    LENGTH          = 14;
+    private static final int    BASE_LENGTH     = 12;
+    private static final int    VALUE_RANGE     = 43;
+    private static final int    MAX_GENERATIONS = 1000;
+    private static final long   KEY_LIMIT       = 4_738_381_338_321_616_896L;   // 36^12
+    private static final long   REPEATED_KEY    = (KEY_LIMIT - 1) / 35;         // "111111111111"
+
+    private static final int[] FIRST_WEIGHTS  = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    // Bits of the scan state: both sums, the position, the verification
+    // digits, the first value and whether any value differs from it
+    private static final int  SUM_MASK       = 0xFFFF;
+    private static final int  POSITION_SHIFT = 32;
+    private static final int  CHECK_SHIFT    = 40;
+    private static final int  FIRST_SHIFT    = 48;
+    private static final long DIFFERENT      = 1L << 54;
+    private static final long INVALID_ENTRY  = Long.MIN_VALUE;
+
+    private static final byte[] VALUES   = new byte[128];
+    private static final long[] PRODUCTS = new long[(LENGTH + 1) * VALUE_RANGE];
+
+    static {
+        for (int c = 0; c < VALUES.length; c++) {
+            if (c >= '0' && c <= '9' || c >= 'A' && c <= 'Z') VALUES[c] = (byte) (c - '0');
+            else if (c >= 'a' && c <= 'z') VALUES[c] = (byte) (c - 'a' + 'A' - '0');
+            else VALUES[c] = -1;
+        }
+
+        for (int position = 0; position < BASE_LENGTH; position++) {
+            for (int value = 0; value < VALUE_RANGE; value++) {
+                long first  = value * FIRST_WEIGHTS[position];
+                long second = value * SECOND_WEIGHTS[position];
+
+                PRODUCTS[position * VALUE_RANGE + value] = first | (second << 16);
+            }
+        }
+
+        // The verification digits are only digits, and nothing follows them
+        for (int value = 0; value < VALUE_RANGE; value++) {
+            PRODUCTS[BASE_LENGTH * VALUE_RANGE + value]       = value <= 9 ? (long) value * 10 << CHECK_SHIFT : INVALID_ENTRY;
+            PRODUCTS[(BASE_LENGTH + 1) * VALUE_RANGE + value] = value <= 9 ? (long) value << CHECK_SHIFT : INVALID_ENTRY;
+            PRODUCTS[LENGTH * VALUE_RANGE + value]            = INVALID_ENTRY;
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link AlphanumericCNPJ} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    AlphanumericCNPJ() {}
+
+
+    @Override
+    public List<Integer> calculateVerificationDigits(List<Integer> digits) {
+        List<Integer> base = digits.size() == LENGTH
+                             ? digits.subList(0, BASE_LENGTH)
+                             : digits;
+
+        long state = 0;
+        for (int value : base) {
+            state += PRODUCTS[(int) (state >>> POSITION_SHIFT) * VALUE_RANGE + value] + (1L << POSITION_SHIFT);
+        }
+
+        int checks = checkDigits(state);
+
+        List<Integer> verification = new ArrayList<>(2);
+        verification.add(checks / 10);
+        verification.add(checks % 10);
+
+        return verification;
+    }
+
+    @Override
+    public String format(String document) {
+        if (document == null) throw new NullDocumentException();
+
+        char[] characters = new char[LENGTH];
+        int    found      = 0;
+
+        for (int i = 0; i < document.length() && found < LENGTH; i++) {
+            int value = valueOf(document.charAt(i));
+            if (value >= 0) characters[found++] = (char) ('0' + value);
+        }
+
+        return applyMask(characters, found);
+    }
+
+    @Override
+    public String formatKey(long key) {
+        if (!isValidKey(key)) throw new IllegalArgumentException("Invalid key: '" + Long.toHexString(key) + '\'');
+
+        char[] characters = new char[LENGTH];
+        int    checks     = decode(key, characters);
+
+        characters[12] = (char) ('0' + checks / 10);
+        characters[13] = (char) ('0' + checks % 10);
+
+        return applyMask(characters, LENGTH);
+    }
+
+    @Override
+    public String generate() {
+        return formatKey(generateKey(ThreadLocalRandom.current()::nextLong));
+    }
+
+    @Override
+    public long generateKey(SplittableRandom random) {
+        return generateKey(random::nextLong);
+    }
+
+    @Override
+    public boolean isValid(String document) {
+        return isValid((CharSequence) document);
+    }
+
+    @Override
+    public boolean isValid(CharSequence document, int offset, int length) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        long state = 0;
+        for (int i = offset, end = offset + length; i < end && state >= 0; i++) {
+            state = step(state, document.charAt(i));
+        }
+
+        return isValid(state);
+    }
+
+    @Override
+    public boolean isValid(byte[] document, int offset, int length) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length);
+
+        long state = 0;
+        for (int i = offset, end = offset + length; i < end && state >= 0; i++) {
+            state = step(state, (char) (document[i] & 0xFF));
+        }
+
+        return isValid(state);
+    }
+
+    @Override
+    public boolean isValid(ByteBuffer document, int offset, int length) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.limit());
+
+        long state = 0;
+        for (int i = offset, end = offset + length; i < end && state >= 0; i++) {
+            state = step(state, (char) (document.get(i) & 0xFF));
+        }
+
+        return isValid(state);
+    }
+
+    @Override
+    public boolean isValidKey(long key) {
+        if (key < 0 || key >= KEY_LIMIT) return false;
+
+        char[] characters = new char[BASE_LENGTH];
+        int    checks     = decode(key, characters);
+
+        // The same digit in all the 14 positions
+        int first = characters[0] - '0';
+        return first > 9 ||
+               checks != first * 11 ||
+               key != first * REPEATED_KEY;
+    }
+
+    @Override
+    public int keyBits() {
+        return Long.SIZE - Long.numberOfLeadingZeros(KEY_LIMIT - 1);
+    }
+
+    @Override
+    public long parseKey(CharSequence document, int offset, int length) {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        long state = 0;
+        long key   = 0;
+
+        for (int i = offset, end = offset + length; i < end && state >= 0; i++) {
+            char c     = document.charAt(i);
+            int  value = valueOf(c);
+
+            if (value >= 0 && position(state) < BASE_LENGTH) key = key * 36 + (value <= 9 ? value : value - 7);
+            state = step(state, c);
+        }
+
+        return isValid(state)
+               ? key
+               : -1;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Applies the mask to the characters. The missing characters are filled
+     * with leading zeros.
+     * </p>
+     *
+     * @param characters Characters of the document, in uppercase.
+     * @param found      Amount of characters found, which may be less than
+     *                   the length.
+     *
+     * @return The document formatted.
+     *
+     * @since 1.0.0
+     */
+    private static String applyMask(char[] characters, int found) {
+        char[] formatted = new char[MASK.length()];
+
+        // Negative positions are the leading zeros
+        int character = found - LENGTH;
+
+        for (int i = 0; i < formatted.length; i++) {
+            char c = MASK.charAt(i);
+
+            if (c == '#') {
+                c = character < 0 ? '0' : characters[character];
+                character++;
+            }
+
+            formatted[i] = c;
+        }
+
+        return new String(formatted);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Calculates both verification digits from the weighted sums of the
+     * state.
+     * </p>
+     *
+     * @param state Scan state after the 12 first characters.
+     *
+     * @return The verification digits, as a number from 0 to 99.
+     *
+     * @since 1.0.0
+     */
+    private static int checkDigits(long state) {
+        int first  = mapRemainder((int) (state & SUM_MASK) % 11);
+        int second = mapRemainder(((int) (state >>> 16 & SUM_MASK) + first * 2) % 11);
+
+        return first * 10 + second;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Writes the 12 first characters of the key and calculates the
+     * verification digits.
+     * </p>
+     *
+     * @param key        Key of the document, from 0 to 36^12 - 1.
+     * @param characters Array with room for at least 12 characters.
+     *
+     * @return The verification digits, as a number from 0 to 99.
+     *
+     * @since 1.0.0
+     */
+    private static int decode(long key, char[] characters) {
+        for (int i = BASE_LENGTH - 1; i >= 0; i--) {
+            int digit = (int) (key % 36);
+            key /= 36;
+
+            characters[i] = (char) (digit <= 9 ? '0' + digit : 'A' + digit - 10);
+        }
+
+        long state = 0;
+        for (int i = 0; i < BASE_LENGTH; i++) {
+            state += PRODUCTS[i * VALUE_RANGE + characters[i] - '0'];
+        }
+
+        return checkDigits(state);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the key of a new document from random keys, skipping the
+     * documents of a single repeated digit.
+     * </p>
+     *
+     * @param random Source of random bits.
+     *
+     * @return The key of a new valid document.
+     *
+     * @since 1.0.0
+     */
+    private long generateKey(LongSupplier random) {
+        for (int i = 0; i < MAX_GENERATIONS; i++) {
+            long key = Long.remainderUnsigned(random.getAsLong(), KEY_LIMIT);
+
+            if (isValidKey(key)) return key;
+        }
+
+        throw new IllegalStateException("No valid document was generated.");
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Checks the final scan state.
+     * </p>
+     *
+     * @param state Scan state after all the characters.
+     *
+     * @return TRUE if the document has 14 characters, not all the same, and
+     * the verification digits match.
+     *
+     * @since 1.0.0
+     */
+    private static boolean isValid(long state) {
+        return state >= 0 &&
+               position(state) == LENGTH &&
+               (state & DIFFERENT) != 0 &&
+               (int) (state >>> CHECK_SHIFT & 0xFF) == checkDigits(state);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Converts the remainder of the weighted sum into the verification digit.
+     * </p>
+     *
+     * @param remainder Remainder of the weighted sum divided by 11.
+     *
+     * @return The verification digit.
+     *
+     * @since 1.0.0
+     */
+    private static int mapRemainder(int remainder) {
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the amount of characters read into the scan state.
+     * </p>
+     *
+     * @param state Scan state.
+     *
+     * @return The amount of characters.
+     *
+     * @since 1.0.0
+     */
+    private static int position(long state) {
+        return (int) (state >>> POSITION_SHIFT) & 0xFF;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Reads a character into the scan state. The characters that are not
+     * digits or letters are skipped, as the separators of the mask.
+     * </p>
+     *
+     * @param state Current scan state.
+     * @param c     Character that will be read.
+     *
+     * @return The new scan state, which is negative if the document is not
+     * valid.
+     *
+     * @since 1.0.0
+     */
+    private static long step(long state, char c) {
+        int value = valueOf(c);
+        if (value < 0) return state;
+
+        int position = position(state);
+
+        if (position == 0) state |= (long) value << FIRST_SHIFT;
+        else if (value != (int) (state >>> FIRST_SHIFT & 0x3F)) state |= DIFFERENT;
+
+        return state + PRODUCTS[position * VALUE_RANGE + value] + (1L << POSITION_SHIFT);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the value of a character, its ASCII code minus 48.
+     * </p>
+     *
+     * @param c Character that will be converted.
+     *
+     * @return The value, or -1 if it is not a digit or a letter.
+     *
+     * @since 1.0.0
+     */
+    private static int valueOf(char c) {
+        return c < VALUES.length
+               ? VALUES[c]
+               : -1;
+    }
+}
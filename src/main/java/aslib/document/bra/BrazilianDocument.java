@@ -1,18 +1,31 @@
 package aslib.document.bra;
 
-import aslib.document.Document;
+import aslib.document.KeyedDocument;
 
 /**
  * <p style="text-align:justify">
  * Entry point for the Brazilian implementation of the API.
  * </p>
  *
+ * <p style="text-align:justify">
+ * The implementations are immutable and safe to use from many threads, so
+ * every method returns the same instance, which can be kept and reused in
+ * loops.
+ * </p>
+ *
  * @author Adriano Siqueira
- * @version 2.0.0
+ * @version 2.2.0
  * @since 12.0.0
  */
 public final class BrazilianDocument {
 
+    private static final KeyedDocument ALPHANUMERIC_CNPJ = new AlphanumericCNPJ();
+    private static final KeyedDocument CNPJ              = new CNPJ();
+    private static final KeyedDocument CPF               = new CPF();
+    private static final KeyedDocument PIS               = new PIS();
+    private static final KeyedDocument RG                = new RG();
+    private static final KeyedDocument VOTER_TITLE       = new VoterTitle();
+
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link BrazilianDocument} class. Such instance is
@@ -24,6 +37,20 @@ public final class BrazilianDocument {
     public BrazilianDocument() {}
 
 
+    /**
+     * <p style="text-align:justify">
+     * Access the implementation of {@link AlphanumericCNPJ}, which validates
+     * both the alphanumeric and the numeric CNPJs.
+     * </p>
+     *
+     * @return The alphanumeric CNPJ implementation.
+     *
+     * @since 2.2.0
+     */
+    public static KeyedDocument alphanumericCnpj() {
+        return ALPHANUMERIC_CNPJ;
+    }
+
     /**
      * <p style="text-align:justify">
      * Access the implementation of {@link CNPJ}.
@@ -33,8 +60,8 @@ public final class BrazilianDocument {
      *
      * @since 1.0.0
      */
-    public static Document cnpj() {
-        return new CNPJ();
+    public static KeyedDocument cnpj() {
+        return CNPJ;
     }
 
     /**
@@ -46,8 +73,8 @@ public final class BrazilianDocument {
      *
      * @since 1.0.0
      */
-    public static Document cpf() {
-        return new CPF();
+    public static KeyedDocument cpf() {
+        return CPF;
     }
 
     /**
@@ -59,8 +86,8 @@ public final class BrazilianDocument {
      *
      * @since 1.0.0
      */
-    public static Document pis() {
-        return new PIS();
+    public static KeyedDocument pis() {
+        return PIS;
     }
 
     /**
@@ -72,8 +99,8 @@ public final class BrazilianDocument {
      *
      * @since 1.0.0
      */
-    public static Document rg() {
-        return new RG();
+    public static KeyedDocument rg() {
+        return RG;
     }
 
     /**
@@ -85,7 +112,7 @@ public final class BrazilianDocument {
      *
      * @since 1.0.0
      */
-    public static Document voterTitle() {
-        return new VoterTitle();
+    public static KeyedDocument voterTitle() {
+        return VOTER_TITLE;
     }
 }
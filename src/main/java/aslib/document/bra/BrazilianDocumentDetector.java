@@ -0,0 +1,122 @@
+package aslib.document.bra;
+
+import aslib.document.NullDocumentException;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p style="text-align:justify">
+ * Detects which Brazilian documents a text is. The digits are extracted in a
+ * single scan and packed into keys, which are checked by each type of the
+ * same length through {@link aslib.document.KeyedDocument#isValidKey(long)}, so the
+ * text is read once instead of once per type.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * A text may be a valid document of more than one type, such as a CPF that
+ * is also a valid PIS, since both have 11 digits. An empty result means the
+ * text is not a valid document of any type.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class BrazilianDocumentDetector {
+
+    private static final int MAX_LENGTH = 14;
+
+    private static final BrazilianDocumentType[] TYPES = BrazilianDocumentType.values();
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link BrazilianDocumentDetector} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private BrazilianDocumentDetector() {}
+
+
+    /**
+     * <p style="text-align:justify">
+     * Detects the types of which the text is a valid document.
+     * </p>
+     *
+     * @param document Text that will be analyzed, formatted or not.
+     *
+     * @return A set with the types, which is empty when the text is not a
+     * valid document.
+     *
+     * @throws NullDocumentException If the document is null.
+     * @since 1.0.0
+     */
+    public static Set<BrazilianDocumentType> detect(CharSequence document)
+    throws NullDocumentException {
+        if (document == null) throw new NullDocumentException();
+
+        return detect(document, 0, document.length());
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Detects the types of which the region of the text is a valid document.
+     * </p>
+     *
+     * @param document Text that contains the document.
+     * @param offset   Position of the first character of the document.
+     * @param length   Amount of characters of the document.
+     *
+     * @return A set with the types, which is empty when the region is not a
+     * valid document.
+     *
+     * @throws NullDocumentException     If the document is null.
+     * @throws IndexOutOfBoundsException If the region is out of the text
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public static Set<BrazilianDocumentType> detect(CharSequence document, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (document == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, document.length());
+
+        Set<BrazilianDocumentType> types = EnumSet.noneOf(BrazilianDocumentType.class);
+
+        // Only the RG takes the 'X', which the other types skip
+        long digits      = 0;
+        long withSymbol  = 0;
+        int  digitCount  = 0;
+        int  symbolCount = 0;
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = document.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                digits     = (digits << 4) | (c - '0');
+                withSymbol = (withSymbol << 4) | (c - '0');
+                digitCount++;
+                symbolCount++;
+            } else if (c == 'X' || c == 'x') {
+                withSymbol = (withSymbol << 4) | 10;
+                symbolCount++;
+            } else {
+                continue;
+            }
+
+            if (digitCount > MAX_LENGTH) return types;
+        }
+
+        for (BrazilianDocumentType type : TYPES) {
+            boolean found = type == BrazilianDocumentType.RG
+                            ? symbolCount == type.getLength() && type.getDocument().isValidKey(withSymbol)
+                            : digitCount == type.getLength() && type.getDocument().isValidKey(digits);
+
+            if (found) types.add(type);
+        }
+
+        return types;
+    }
+}
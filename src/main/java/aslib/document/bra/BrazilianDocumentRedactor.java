@@ -0,0 +1,739 @@
+package aslib.document.bra;
+
+import aslib.document.NullDocumentException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p style="text-align:justify">
+ * Masks the Brazilian documents found in free text, keeping the separators
+ * and the digits in the middle, so {@code 123.456.789-09} becomes
+ * {@code ***.456.789-**}. The first 3 digits and the verification digits are
+ * masked. As the text keeps its length, the documents are masked in place.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The documents are found by a {@link BrazilianDocumentScanner}, with the
+ * same rules. The streams hold back only the characters that may still be
+ * part of a document, at most a few dozen, so the memory is bounded and the
+ * documents split between two reads or writes are masked as well.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The instances are immutable and safe to use from many threads, but the
+ * readers, writers and sessions they create are not.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Get its instance through the {@link #of(char, BrazilianDocumentType...)}
+ * method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class BrazilianDocumentRedactor {
+
+    private static final int MASKED_FIRST = 3;
+    private static final int MASKED_LAST  = 2;
+    private static final int BUFFER_SIZE  = 8 * 1024;
+
+    private static final long ONES      = 0x0101010101010101L;
+    private static final long LOW_BITS  = 0x7F7F7F7F7F7F7F7FL;
+
+    private final BrazilianDocumentScanner scanner;
+    private final char                     mask;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link BrazilianDocumentRedactor} class.
+     * </p>
+     *
+     * @param scanner Scanner that finds the documents.
+     * @param mask    Character that replaces the masked digits.
+     *
+     * @since 1.0.0
+     */
+    private BrazilianDocumentRedactor(BrazilianDocumentScanner scanner, char mask) {
+        this.scanner = scanner;
+        this.mask    = mask;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates a redactor for the provided types. Without types, it masks the
+     * CPFs, CNPJs, PIS and voter titles.
+     * </p>
+     *
+     * @param mask  Character that replaces the masked digits, such as '*'.
+     * @param types Types of the documents that will be masked.
+     *
+     * @return An instance of BrazilianDocumentRedactor.
+     *
+     * @throws NullPointerException     If the types or any of them are null.
+     * @throws IllegalArgumentException If the mask is a digit, a space or a
+     *                                  separator of the documents, or if any
+     *                                  of the types is the RG.
+     * @since 1.0.0
+     */
+    public static BrazilianDocumentRedactor of(char mask, BrazilianDocumentType... types)
+    throws NullPointerException, IllegalArgumentException {
+        if (mask >= '0' && mask <= '9' || isSeparator(mask))
+            throw new IllegalArgumentException("Mask cannot be a digit or a separator: '" + mask + '\'');
+
+        return new BrazilianDocumentRedactor(BrazilianDocumentScanner.of(types), mask);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Masks the documents of a region of the array, in place.
+     * </p>
+     *
+     * @param text   Array with the text.
+     * @param offset Position of the first character of the region.
+     * @param length Amount of characters of the region.
+     *
+     * @return The amount of documents masked.
+     *
+     * @throws NullDocumentException     If the text is null.
+     * @throws IndexOutOfBoundsException If the region is out of the array
+     *                                   bounds.
+     * @since 1.0.0
+     */
+    public long redact(char[] text, int offset, int length)
+    throws NullDocumentException, IndexOutOfBoundsException {
+        if (text == null) throw new NullDocumentException();
+        Objects.checkFromIndexSize(offset, length, text.length);
+
+        CharSession session = new CharSession(text, offset);
+
+        for (int i = 0; i < length; i++) {
+            session.machine.accept(text[offset + i], i);
+        }
+
+        return session.machine.finish();
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Masks the documents of the text.
+     * </p>
+     *
+     * @param text Text that will be masked.
+     *
+     * @return A copy of the text with the documents masked.
+     *
+     * @throws NullDocumentException If the text is null.
+     * @since 1.0.0
+     */
+    public String redact(CharSequence text)
+    throws NullDocumentException {
+        if (text == null) throw new NullDocumentException();
+
+        char[] characters = text.toString().toCharArray();
+        redact(characters, 0, characters.length);
+
+        return new String(characters);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Creates a session that masks a stream of bytes, read as ASCII, delivered
+     * in many buffers, such as the reads of a channel.
+     * </p>
+     *
+     * @return A new session.
+     *
+     * @since 1.0.0
+     */
+    public ByteSession session() {
+        return new ByteSession();
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Wraps the reader, so the text read has the documents masked. Closing
+     * the returned reader closes the wrapped one.
+     * </p>
+     *
+     * @param reader Reader of the text.
+     *
+     * @return A reader of the masked text.
+     *
+     * @throws NullPointerException If the reader is null.
+     * @since 1.0.0
+     */
+    public Reader wrap(Reader reader)
+    throws NullPointerException {
+        if (reader == null) throw new NullPointerException("Reader cannot be null.");
+
+        return new RedactingReader(reader);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Wraps the writer, so the text written has the documents masked. The
+     * last characters are only written when the returned writer is closed,
+     * as they may be part of a document, so it must be closed.
+     * </p>
+     *
+     * @param writer Writer of the text.
+     *
+     * @return A writer that masks the text.
+     *
+     * @throws NullPointerException If the writer is null.
+     * @since 1.0.0
+     */
+    public Writer wrap(Writer writer)
+    throws NullPointerException {
+        if (writer == null) throw new NullPointerException("Writer cannot be null.");
+
+        return new RedactingWriter(writer);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Checks if the character may separate the digits of a document.
+     * </p>
+     *
+     * @param c Character of the text.
+     *
+     * @return TRUE if it is '.', '-', '/' or a space.
+     *
+     * @since 1.0.0
+     */
+    private static boolean isSeparator(char c) {
+        return c == '.' || c == '-' || c == '/' || c == ' ';
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Masks a stream of bytes delivered in many buffers. The bytes at the end
+     * of a buffer that may still be part of a document are not final, and
+     * they must be passed again at the start of the next buffer, as done by
+     * {@link ByteBuffer#compact()}:
+     * </p>
+     *
+     * <pre>
+     * while (channel.read(buffer) &gt;= 0) {
+     *     buffer.flip();
+     *     int end = session.redact(buffer);
+     *
+     *     output.write(buffer.duplicate().limit(end));
+     *     buffer.position(end).compact();
+     * }
+     *
+     * buffer.flip();
+     * session.finish(buffer);
+     * output.write(buffer);
+     * </pre>
+     *
+     * <p style="text-align:justify">
+     * Between documents, the bytes are skipped 8 at a time until one of them
+     * is a digit, so the text without numbers does not go through the state
+     * machine byte by byte.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    public final class ByteSession extends Session {
+
+        private ByteBuffer buffer = null;
+        private int        base   = 0;
+        private long       fed    = 0;
+        private long       done   = 0;
+
+
+        /**
+         * <p style="text-align:justify">
+         * Creates an instance of {@link ByteSession} class.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private ByteSession() {}
+
+
+        /**
+         * <p style="text-align:justify">
+         * Masks the documents of the buffer, from its position to its limit,
+         * in place. The position and the limit of the buffer are not changed.
+         * </p>
+         *
+         * @param buffer Buffer that starts with the bytes that were not final
+         *               in the previous call.
+         *
+         * @return The position of the first byte that is not final. The bytes
+         * before it are masked and may be written.
+         *
+         * @throws NullPointerException     If the buffer is null.
+         * @throws IllegalArgumentException If the buffer is shorter than the
+         *                                  bytes that were not final.
+         * @since 1.0.0
+         */
+        public int redact(ByteBuffer buffer)
+        throws NullPointerException, IllegalArgumentException {
+            feed(buffer);
+
+            long pending = machine.pending(fed);
+            int  end     = index(pending);
+
+            done = pending;
+            return end;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Masks the documents of the last buffer of the stream, in place. The
+         * position and the limit of the buffer are not changed, and all its
+         * bytes are final.
+         * </p>
+         *
+         * @param buffer Buffer that starts with the bytes that were not final
+         *               in the previous call.
+         *
+         * @return The amount of documents masked in the whole stream.
+         *
+         * @throws NullPointerException     If the buffer is null.
+         * @throws IllegalArgumentException If the buffer is shorter than the
+         *                                  bytes that were not final.
+         * @since 1.0.0
+         */
+        public long finish(ByteBuffer buffer)
+        throws NullPointerException, IllegalArgumentException {
+            feed(buffer);
+
+            long found = machine.finish();
+            done = fed;
+
+            return found;
+        }
+
+        @Override
+        char charAt(long position) {
+            return (char) (buffer.get(index(position)) & 0xFF);
+        }
+
+        @Override
+        void mask(long position) {
+            buffer.put(index(position), (byte) mask);
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Reads the new bytes of the buffer into the state machine.
+         * </p>
+         *
+         * @param buffer Buffer that starts with the bytes that were not final.
+         *
+         * @since 1.0.0
+         */
+        private void feed(ByteBuffer buffer) {
+            if (buffer == null) throw new NullPointerException("Buffer cannot be null.");
+
+            int kept = (int) (fed - done);
+            if (buffer.remaining() < kept) throw new IllegalArgumentException("Buffer must start with the " + kept + " bytes that were not final.");
+
+            this.buffer = buffer;
+            this.base   = buffer.position();
+
+            for (int i = base + kept, end = buffer.limit(); i < end; i++) {
+                if (machine.isIdle()) {
+                    // Only the last byte before the next digit changes the state
+                    int next = skipNonDigits(buffer, i, end);
+
+                    if (next > i + 1) {
+                        fed += next - 1 - i;
+                        i = next - 1;
+                    }
+                }
+
+                machine.accept((char) (buffer.get(i) & 0xFF), fed++);
+            }
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Skips the bytes that are not digits, 8 at a time. A word is
+         * skipped when none of its bytes is from '0' to '9', tested with
+         * arithmetic over the whole word.
+         * </p>
+         *
+         * @param buffer Buffer of the bytes.
+         * @param from   Index of the first byte.
+         * @param end    Index after the last byte.
+         *
+         * @return The index of the first word that may have a digit, or of
+         * the last bytes that do not fill a word. The bytes before it are not
+         * digits.
+         *
+         * @since 1.0.0
+         */
+        private int skipNonDigits(ByteBuffer buffer, int from, int end) {
+            int i = from;
+
+            for (; i + Long.BYTES <= end; i += Long.BYTES) {
+                long word = buffer.getLong(i);
+                long low  = word & LOW_BITS;
+
+                // The high bit of each byte is set if it is above '/' and below ':'
+                long between = (ONES * (127 + ':') - low) & ~word & (low + ONES * (127 - '/')) & (ONES * 128);
+                if (between != 0) break;
+            }
+
+            return i;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Converts a position of the stream into an index of the buffer.
+         * </p>
+         *
+         * @param position Position of the stream, not before the first byte
+         *                 that was not final.
+         *
+         * @return The index of the buffer.
+         *
+         * @since 1.0.0
+         */
+        private int index(long position) {
+            return base + (int) (position - done);
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Masks the documents found by a state machine in the storage of the
+     * text.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private abstract class Session implements BrazilianDocumentScanner.Listener {
+
+        final BrazilianDocumentScanner.Machine machine = scanner.machine(this);
+
+
+        /**
+         * <p style="text-align:justify">
+         * Gets a character of the text.
+         * </p>
+         *
+         * @param position Position of the character.
+         *
+         * @return The character.
+         *
+         * @since 1.0.0
+         */
+        abstract char charAt(long position);
+
+        /**
+         * <p style="text-align:justify">
+         * Replaces a character of the text with the mask.
+         * </p>
+         *
+         * @param position Position of the character.
+         *
+         * @since 1.0.0
+         */
+        abstract void mask(long position);
+
+        @Override
+        public void found(BrazilianDocumentType type, long start, long end, long key) {
+            int length = type.getLength();
+            int digit  = 0;
+
+            // A document of two types is masked twice, so the digits are
+            // counted by skipping the separators
+            for (long position = start; position < end; position++) {
+                if (isSeparator(charAt(position))) continue;
+
+                if (digit < MASKED_FIRST || digit >= length - MASKED_LAST) mask(position);
+                digit++;
+            }
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Masks the documents of an array of characters.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private final class CharSession extends Session {
+
+        private final char[] text;
+        private final int    offset;
+
+
+        /**
+         * <p style="text-align:justify">
+         * Creates an instance of {@link CharSession} class.
+         * </p>
+         *
+         * @param text   Array with the text.
+         * @param offset Position of the first character of the text.
+         *
+         * @since 1.0.0
+         */
+        private CharSession(char[] text, int offset) {
+            this.text   = text;
+            this.offset = offset;
+        }
+
+
+        @Override
+        char charAt(long position) {
+            return text[offset + (int) position];
+        }
+
+        @Override
+        void mask(long position) {
+            text[offset + (int) position] = mask;
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Reader of the masked text. The characters read from the wrapped reader
+     * are kept in a buffer until they are final.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private final class RedactingReader extends Reader {
+
+        private final Reader      reader;
+        private final char[]      buffer  = new char[BUFFER_SIZE];
+        private final ReaderState session = new ReaderState();
+
+        private int     start = 0;
+        private int     end   = 0;
+        private int     ready = 0;
+        private long    base  = 0;
+        private boolean eof   = false;
+
+
+        /**
+         * <p style="text-align:justify">
+         * Creates an instance of {@link RedactingReader} class.
+         * </p>
+         *
+         * @param reader Reader of the text.
+         *
+         * @since 1.0.0
+         */
+        private RedactingReader(Reader reader) {
+            this.reader = reader;
+        }
+
+
+        @Override
+        public int read(char[] destination, int offset, int length)
+        throws IOException {
+            Objects.checkFromIndexSize(offset, length, destination.length);
+            if (length == 0) return 0;
+
+            while (ready == start) {
+                if (eof) return -1;
+                fill();
+            }
+
+            int amount = Math.min(length, ready - start);
+            System.arraycopy(buffer, start, destination, offset, amount);
+            start += amount;
+
+            return amount;
+        }
+
+        @Override
+        public void close()
+        throws IOException {
+            reader.close();
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Reads more characters from the wrapped reader, after moving the
+         * characters that are not final to the start of the buffer.
+         * </p>
+         *
+         * @throws IOException If the wrapped reader fails.
+         * @since 1.0.0
+         */
+        private void fill()
+        throws IOException {
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                base  += start;
+                end   -= start;
+                ready -= start;
+                start  = 0;
+            }
+
+            int read = reader.read(buffer, end, buffer.length - end);
+
+            if (read < 0) {
+                eof = true;
+                session.machine.finish();
+                ready = end;
+                return;
+            }
+
+            for (int i = end; i < end + read; i++) {
+                session.machine.accept(buffer[i], base + i);
+            }
+
+            end  += read;
+            ready = (int) (session.machine.pending(base + end) - base);
+        }
+
+
+        /**
+         * <p style="text-align:justify">
+         * Masks the documents in the buffer of the reader.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private final class ReaderState extends Session {
+
+            @Override
+            char charAt(long position) {
+                return buffer[(int) (position - base)];
+            }
+
+            @Override
+            void mask(long position) {
+                buffer[(int) (position - base)] = mask;
+            }
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Writer that masks the text. The characters written are kept in a buffer
+     * until they are final.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private final class RedactingWriter extends Writer {
+
+        private final Writer      writer;
+        private final char[]      buffer  = new char[BUFFER_SIZE];
+        private final WriterState session = new WriterState();
+
+        private int     end    = 0;
+        private long    base   = 0;
+        private boolean closed = false;
+
+
+        /**
+         * <p style="text-align:justify">
+         * Creates an instance of {@link RedactingWriter} class.
+         * </p>
+         *
+         * @param writer Writer of the masked text.
+         *
+         * @since 1.0.0
+         */
+        private RedactingWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+
+        @Override
+        public void write(char[] source, int offset, int length)
+        throws IOException {
+            Objects.checkFromIndexSize(offset, length, source.length);
+            if (closed) throw new IOException("Writer is closed.");
+
+            for (int i = 0; i < length; i++) {
+                if (end == buffer.length) release();
+
+                buffer[end] = source[offset + i];
+                session.machine.accept(buffer[end], base + end);
+                end++;
+            }
+
+            release();
+        }
+
+        @Override
+        public void flush()
+        throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close()
+        throws IOException {
+            if (closed) return;
+
+            session.machine.finish();
+            writer.write(buffer, 0, end);
+            end    = 0;
+            closed = true;
+
+            writer.close();
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Writes the final characters and moves the others to the start of
+         * the buffer.
+         * </p>
+         *
+         * @throws IOException If the wrapped writer fails.
+         * @since 1.0.0
+         */
+        private void release()
+        throws IOException {
+            int ready = (int) (session.machine.pending(base + end) - base);
+            if (ready == 0) return;
+
+            writer.write(buffer, 0, ready);
+            System.arraycopy(buffer, ready, buffer, 0, end - ready);
+
+            base += ready;
+            end  -= ready;
+        }
+
+
+        /**
+         * <p style="text-align:justify">
+         * Masks the documents in the buffer of the writer.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private final class WriterState extends Session {
+
+            @Override
+            char charAt(long position) {
+                return buffer[(int) (position - base)];
+            }
+
+            @Override
+            void mask(long position) {
+                buffer[(int) (position - base)] = mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,589 @@
+package aslib.document.bra;
+
+import aslib.document.NullDocumentException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p style="text-align:justify">
+ * Finds the Brazilian documents in free text, such as logs, formatted or
+ * not. The text is read once by a state machine, without regular
+ * expressions, and the candidates are confirmed by their verification
+ * digits, so numbers that only look like documents are not reported.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * A candidate is a sequence of groups of digits. Inside a group, the digits
+ * may be separated by single '.', '-' or '/', as in {@code 106.694.192/06}.
+ * The groups are separated by single spaces, as in the voter titles
+ * {@code 0106 6941 92 06}. A candidate must not be glued to letters or other
+ * digits, so parts of longer numbers and identifiers are not reported. When
+ * the groups have more digits than a document, the groups are matched from
+ * left to right, preferring the longest documents, so a date before a CPF
+ * does not hide it.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The RG is not supported, as its 9 digits and verification digit match too
+ * many numbers of free text. The instances are immutable and safe to use
+ * from many threads.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Get its instance through the {@link #of(BrazilianDocumentType...)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class BrazilianDocumentScanner {
+
+    private static final int MAX_LENGTH  = 14;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final BrazilianDocumentType[][] typesByLength;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link BrazilianDocumentScanner} class.
+     * </p>
+     *
+     * @param typesByLength Types that are searched, grouped by their length.
+     *
+     * @since 1.0.0
+     */
+    private BrazilianDocumentScanner(BrazilianDocumentType[][] typesByLength) {
+        this.typesByLength = typesByLength;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates a scanner for the provided types. Without types, it searches
+     * the CPFs, CNPJs, PIS and voter titles.
+     * </p>
+     *
+     * @param types Types of the documents that will be searched.
+     *
+     * @return An instance of BrazilianDocumentScanner.
+     *
+     * @throws NullPointerException     If the types or any of them are null.
+     * @throws IllegalArgumentException If any of the types is the RG.
+     * @since 1.0.0
+     */
+    public static BrazilianDocumentScanner of(BrazilianDocumentType... types)
+    throws NullPointerException, IllegalArgumentException {
+        if (types == null) throw new NullPointerException("Types cannot be null.");
+        if (types.length == 0) {
+            types = new BrazilianDocumentType[]{
+                    BrazilianDocumentType.CNPJ,
+                    BrazilianDocumentType.CPF,
+                    BrazilianDocumentType.PIS,
+                    BrazilianDocumentType.VOTER_TITLE
+            };
+        }
+
+        List<List<BrazilianDocumentType>> grouped = new ArrayList<>();
+        for (int i = 0; i <= MAX_LENGTH; i++) grouped.add(new ArrayList<>());
+
+        for (BrazilianDocumentType type : types) {
+            if (type == null) throw new NullPointerException("Type cannot be null.");
+            if (type == BrazilianDocumentType.RG) throw new IllegalArgumentException("Type is not supported: '" + type + '\'');
+
+            if (!grouped.get(type.getLength()).contains(type)) grouped.get(type.getLength()).add(type);
+        }
+
+        BrazilianDocumentType[][] typesByLength = new BrazilianDocumentType[MAX_LENGTH + 1][];
+        for (int i = 0; i <= MAX_LENGTH; i++) {
+            typesByLength[i] = grouped.get(i).toArray(new BrazilianDocumentType[0]);
+        }
+
+        return new BrazilianDocumentScanner(typesByLength);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Finds the documents of the buffer, from its position to its limit, read
+     * as ASCII. The position and the limit of the buffer are not changed.
+     * </p>
+     *
+     * @param text     Buffer with the text.
+     * @param listener Receives each document found, with the absolute
+     *                 positions of the buffer.
+     *
+     * @return The amount of documents found.
+     *
+     * @throws NullDocumentException If the text is null.
+     * @throws NullPointerException  If the listener is null.
+     * @since 1.0.0
+     */
+    public long scan(ByteBuffer text, Listener listener)
+    throws NullDocumentException, NullPointerException {
+        if (text == null) throw new NullDocumentException();
+        if (listener == null) throw new NullPointerException("Listener cannot be null.");
+
+        Machine machine = machine(listener);
+
+        for (int i = text.position(), end = text.limit(); i < end; i++) {
+            machine.accept((char) (text.get(i) & 0xFF), i);
+        }
+
+        return machine.finish();
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Finds the documents of the text.
+     * </p>
+     *
+     * @param text     Text that will be scanned.
+     * @param listener Receives each document found.
+     *
+     * @return The amount of documents found.
+     *
+     * @throws NullDocumentException If the text is null.
+     * @throws NullPointerException  If the listener is null.
+     * @since 1.0.0
+     */
+    public long scan(CharSequence text, Listener listener)
+    throws NullDocumentException, NullPointerException {
+        if (text == null) throw new NullDocumentException();
+        if (listener == null) throw new NullPointerException("Listener cannot be null.");
+
+        Machine machine = machine(listener);
+
+        for (int i = 0; i < text.length(); i++) {
+            machine.accept(text.charAt(i), i);
+        }
+
+        return machine.finish();
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Finds the documents of the text read from the reader, until its end.
+     * The reader is not closed.
+     * </p>
+     *
+     * @param text     Reader of the text.
+     * @param listener Receives each document found, with the positions
+     *                 counted from the first character read.
+     *
+     * @return The amount of documents found.
+     *
+     * @throws NullDocumentException If the reader is null.
+     * @throws NullPointerException  If the listener is null.
+     * @throws IOException           If the reader fails.
+     * @since 1.0.0
+     */
+    public long scan(Reader text, Listener listener)
+    throws NullDocumentException, NullPointerException, IOException {
+        if (text == null) throw new NullDocumentException();
+        if (listener == null) throw new NullPointerException("Listener cannot be null.");
+
+        Machine machine  = machine(listener);
+        char[]  buffer   = new char[BUFFER_SIZE];
+        long    position = 0;
+        int     read;
+
+        while ((read = text.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                machine.accept(buffer[i], position++);
+            }
+        }
+
+        return machine.finish();
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates the state machine of a new scan.
+     * </p>
+     *
+     * @param listener Receives each document found.
+     *
+     * @return A new state machine.
+     *
+     * @since 1.0.0
+     */
+    Machine machine(Listener listener) {
+        return new Machine(typesByLength, listener);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Receives the documents found by the scanner, in the order of the text.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * <p style="text-align:justify">
+         * Receives a document found. A document valid for more than one type,
+         * such as a CPF that is also a PIS, is received once per type.
+         * </p>
+         *
+         * @param type  Type of the document.
+         * @param start Position of the first digit.
+         * @param end   Position after the last digit.
+         * @param key   Key of the document, as returned by
+         *              {@link aslib.document.KeyedDocument#parseKey(CharSequence)}.
+         *
+         * @since 1.0.0
+         */
+        void found(BrazilianDocumentType type, long start, long end, long key);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * State machine of a single scan. The groups of the current candidate
+     * are kept in a window of at most 14 digits.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    static final class Machine {
+
+        private static final int OUTSIDE     = 0;
+        private static final int DIGITS      = 1;
+        private static final int AFTER_SEP   = 2;
+        private static final int AFTER_SPACE = 3;
+        private static final int BLOCKED     = 4;
+
+        private final BrazilianDocumentType[][] typesByLength;
+        private final Listener                  listener;
+
+        // Window of groups
+        private final long[] starts = new long[MAX_LENGTH + 1];
+        private final long[] ends   = new long[MAX_LENGTH + 1];
+        private final long[] digits = new long[MAX_LENGTH + 1];
+        private final int[]  counts = new int[MAX_LENGTH + 1];
+
+        private int size  = 0;
+        private int total = 0;
+
+        // Current group
+        private long start  = 0;
+        private long end    = 0;
+        private long packed = 0;
+        private int  count  = 0;
+
+        private int  state = OUTSIDE;
+        private long found = 0;
+
+
+        /**
+         * <p style="text-align:justify">
+         * Creates an instance of {@link Machine} class.
+         * </p>
+         *
+         * @param typesByLength Types that are searched, grouped by their
+         *                      length.
+         * @param listener      Receives each document found.
+         *
+         * @since 1.0.0
+         */
+        Machine(BrazilianDocumentType[][] typesByLength, Listener listener) {
+            this.typesByLength = typesByLength;
+            this.listener      = listener;
+        }
+
+
+        /**
+         * <p style="text-align:justify">
+         * Reads the next character of the text.
+         * </p>
+         *
+         * @param c        Character of the text.
+         * @param position Position of the character.
+         *
+         * @since 1.0.0
+         */
+        void accept(char c, long position) {
+            boolean digit = c >= '0' && c <= '9';
+
+            switch (state) {
+                case DIGITS:
+                    if (digit) {
+                        append(c, position);
+                    } else if (c == '.' || c == '-' || c == '/') {
+                        state = AFTER_SEP;
+                    } else if (c == ' ') {
+                        endGroup();
+                        state = AFTER_SPACE;
+                    } else if (isWord(c)) {
+                        // Glued to a word, so neither the group is a document
+                        count = 0;
+                        flush();
+                        state = BLOCKED;
+                    } else {
+                        endGroup();
+                        flush();
+                        state = OUTSIDE;
+                    }
+                    return;
+
+                case AFTER_SEP:
+                    if (digit) {
+                        append(c, position);
+                        state = DIGITS;
+                        return;
+                    }
+
+                    endGroup();
+                    flush();
+                    state = isWord(c) ? BLOCKED : OUTSIDE;
+                    return;
+
+                case AFTER_SPACE:
+                    if (digit) {
+                        begin(c, position);
+                        return;
+                    }
+
+                    flush();
+                    state = isWord(c) ? BLOCKED : OUTSIDE;
+                    return;
+
+                case BLOCKED:
+                    if (!digit && !isWord(c)) state = OUTSIDE;
+                    return;
+
+                default:
+                    if (digit) begin(c, position);
+                    else if (isWord(c)) state = BLOCKED;
+            }
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Ends the text, reporting the documents of the last candidate.
+         * </p>
+         *
+         * @return The amount of documents found.
+         *
+         * @since 1.0.0
+         */
+        long finish() {
+            if (state == DIGITS || state == AFTER_SEP) endGroup();
+            flush();
+
+            state = OUTSIDE;
+            return found;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Gets the position from which the text may still be part of a
+         * document. The documents before it were already reported.
+         * </p>
+         *
+         * @param next Position of the next character.
+         *
+         * @return The position of the first character that is not final.
+         *
+         * @since 1.0.0
+         */
+        long pending(long next) {
+            if (size > 0) return starts[0];
+            if ((state == DIGITS || state == AFTER_SEP) && count <= MAX_LENGTH) return start;
+
+            return next;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Checks if the machine is between candidates. While it is, the
+         * characters other than digits only decide if the next digit is
+         * glued to a word, so a run of them may be skipped and only its last
+         * character read.
+         * </p>
+         *
+         * @return TRUE if no candidate is open.
+         *
+         * @since 1.0.0
+         */
+        boolean isIdle() {
+            return (state == OUTSIDE || state == BLOCKED) && size == 0;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Adds a digit to the current group.
+         * </p>
+         *
+         * @param c        Digit character.
+         * @param position Position of the character.
+         *
+         * @since 1.0.0
+         */
+        private void append(char c, long position) {
+            if (count < MAX_LENGTH) packed = (packed << 4) | (c - '0');
+
+            count++;
+            end = position + 1;
+
+            // Longer than any document, so the groups before it are resolved
+            if (count == MAX_LENGTH + 1) flush();
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Starts a new group with the digit.
+         * </p>
+         *
+         * @param c        Digit character.
+         * @param position Position of the character.
+         *
+         * @since 1.0.0
+         */
+        private void begin(char c, long position) {
+            start  = position;
+            end    = position + 1;
+            packed = c - '0';
+            count  = 1;
+            state  = DIGITS;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Adds the current group to the window. The window is resolved from
+         * its first group while it has more digits than a document.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private void endGroup() {
+            if (count == 0) return;
+
+            // Longer than any document, so nothing around it can be one
+            if (count > MAX_LENGTH) {
+                count = 0;
+                flush();
+                return;
+            }
+
+            starts[size] = start;
+            ends[size]   = end;
+            digits[size] = packed;
+            counts[size] = count;
+
+            size++;
+            total += count;
+            count  = 0;
+
+            while (total > MAX_LENGTH) resolveFirst();
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Resolves all the groups of the window.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private void flush() {
+            while (size > 0) resolveFirst();
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Reports the longest document that starts at the first group of the
+         * window and removes its groups, or only removes the first group if
+         * there is none.
+         * </p>
+         *
+         * @since 1.0.0
+         */
+        private void resolveFirst() {
+            long key        = 0;
+            int  length     = 0;
+            long bestKey    = 0;
+            int  bestLast   = -1;
+            int  bestLength = 0;
+
+            for (int i = 0; i < size && length + counts[i] <= MAX_LENGTH; i++) {
+                key = (key << (counts[i] << 2)) | digits[i];
+                length += counts[i];
+
+                if (isValid(key, length)) {
+                    bestKey    = key;
+                    bestLast   = i;
+                    bestLength = length;
+                }
+            }
+
+            int removed = 1;
+
+            if (bestLast >= 0) {
+                for (BrazilianDocumentType type : typesByLength[bestLength]) {
+                    if (!type.getDocument().isValidKey(bestKey)) continue;
+
+                    listener.found(type, starts[0], ends[bestLast], bestKey);
+                    found++;
+                }
+
+                removed = bestLast + 1;
+            }
+
+            for (int i = 0; i < removed; i++) total -= counts[i];
+
+            size -= removed;
+            System.arraycopy(starts, removed, starts, 0, size);
+            System.arraycopy(ends, removed, ends, 0, size);
+            System.arraycopy(digits, removed, digits, 0, size);
+            System.arraycopy(counts, removed, counts, 0, size);
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Checks if the key is valid for any of the types of its length.
+         * </p>
+         *
+         * @param key    Key of the candidate.
+         * @param length Amount of digits of the candidate.
+         *
+         * @return TRUE if it is valid for any type.
+         *
+         * @since 1.0.0
+         */
+        private boolean isValid(long key, int length) {
+            for (BrazilianDocumentType type : typesByLength[length]) {
+                if (type.getDocument().isValidKey(key)) return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * <p style="text-align:justify">
+         * Checks if the character is part of a word, so a group glued to it
+         * is not a document.
+         * </p>
+         *
+         * @param c Character of the text.
+         *
+         * @return TRUE if it is a letter, a digit or '_'.
+         *
+         * @since 1.0.0
+         */
+        private static boolean isWord(char c) {
+            if (c < 128) return (c | 0x20) >= 'a' && (c | 0x20) <= 'z' || c >= '0' && c <= '9' || c == '_';
+
+            return Character.isLetterOrDigit(c);
+        }
+    }
+}
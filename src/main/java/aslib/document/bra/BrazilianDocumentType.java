@@ -0,0 +1,109 @@
+package aslib.document.bra;
+
+import aslib.document.KeyedDocument;
+
+/**
+ * <p style="text-align:justify">
+ * Represents the types of the Brazilian documents, as returned by
+ * {@link BrazilianDocumentDetector}.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public enum BrazilianDocumentType {
+
+    /**
+     * <p style="text-align:justify">
+     * Cadastro Nacional da Pessoa Jurídica, with 14 digits.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    CNPJ(BrazilianDocument.cnpj(), 14),
+
+    /**
+     * <p style="text-align:justify">
+     * Cadastro de Pessoas Físicas, with 11 digits.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    CPF(BrazilianDocument.cpf(), 11),
+
+    /**
+     * <p style="text-align:justify">
+     * Programa de Integração Social, with 11 digits.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    PIS(BrazilianDocument.pis(), 11),
+
+    /**
+     * <p style="text-align:justify">
+     * Registro Geral, with 9 digits, the last of which may be an 'X'.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    RG(BrazilianDocument.rg(), 9),
+
+    /**
+     * <p style="text-align:justify">
+     * Título de Eleitor, with 12 digits.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    VOTER_TITLE(BrazilianDocument.voterTitle(), 12);
+
+
+    private final KeyedDocument document;
+    private final int           length;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates a document type.
+     * </p>
+     *
+     * @param document Implementation of the document.
+     * @param length   Amount of digits of the document.
+     *
+     * @since 1.0.0
+     */
+    BrazilianDocumentType(KeyedDocument document, int length) {
+        this.document = document;
+        this.length   = length;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the implementation of the document, the same instance returned by
+     * {@link BrazilianDocument}.
+     * </p>
+     *
+     * @return The implementation of the document.
+     *
+     * @since 1.0.0
+     */
+    public KeyedDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the amount of digits of the document.
+     * </p>
+     *
+     * @return The amount of digits.
+     *
+     * @since 1.0.0
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -1,12 +1,7 @@
 package aslib.document.bra;
 
-import aslib.document.DocumentInternal;
-import aslib.document.DocumentUtils;
-import aslib.document.NullDocumentException;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import aslib.document.CompiledDocument;
+import aslib.document.DocumentSpec;
 
 /**
  * <p>
@@ -18,16 +13,10 @@ import java.util.Optional;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.4.0
  * @since 12.0.0
  */
-class CPF implements DocumentInternal {
-
-    private final int length                   = 11;
-    private final int verificationDigitsLength = 2;
-
-    private final DocumentUtils utils = new DocumentUtils(length, verificationDigitsLength);
-
+class CPF extends CompiledDocument {
 
     /**
      * <p style="text-align:justify">
@@ -36,93 +25,48 @@ class CPF implements DocumentInternal {
      *
      * @since 1.0.0
      */
-    CPF() {}
-
-
-    @Override
-    public List<Integer> calculateVerificationDigits(List<Integer> digits) {
-        List<Integer> temp = digits.size() == length
-                             ? utils.removeVerificationDigits(digits)
-                             : new ArrayList<>(digits);
-
-        // First digit
-        int control = 10;
-        int vd      = 0;
-
-        for (int digit : temp) {
-            vd += (digit * control--);
-        }
-
-        vd *= 10;
-        vd %= 11;
-        temp.add(vd == 10 ? 0 : vd);
-
-
-        // Second digit
-        control = 11;
-        vd      = 0;
-
-        for (int digit : temp) {
-            vd += (digit * control--);
-        }
-
-        vd *= 10;
-        vd %= 11;
-        temp.add(vd == 10 ? 0 : vd);
-
-        return utils.extractVerificationDigits(temp);
+    CPF() {
+        super(DocumentSpec.of("###.###.###/##")
+                          .checkDigit(11, new int[]{10, 9, 8, 7, 6, 5, 4, 3, 2}, CPF::mapRemainder)
+                          .checkDigit(11, new int[]{11, 10, 9, 8, 7, 6, 5, 4, 3, 2}, CPF::mapRemainder)
+                          .rule(CPF::hasValidSum));
     }
 
-    @Override
-    public String format(String document) {
-        document = Optional.ofNullable(document)
-                           .map(utils::removeNonDigits)
-                           .map(utils::removeTrailingDigits)
-                           .map(utils::insertLeadingZeros)
-                           .orElseThrow(NullDocumentException::new);
 
-        return new StringBuilder(document)
-                .insert(3, '.')
-                .insert(7, '.')
-                .insert(11, '/')
-                .toString();
-    }
-
-    @Override
-    public String generate() {
-        List<Integer> digits = utils.generateRandomDigits(length - verificationDigitsLength);
-        digits.addAll(calculateVerificationDigits(digits));
-
-        String document = utils.joinDigits(digits);
-
-        return isValid(document)
-               ? format(document)
-               : generate();
+    /**
+     * <p style="text-align:justify">
+     * Converts the remainder of the weighted sum into the verification digit.
+     * </p>
+     *
+     * @param remainder Remainder of the weighted sum divided by 11.
+     *
+     * @return The verification digit.
+     *
+     * @since 1.4.0
+     */
+    private static int mapRemainder(int remainder) {
+        return remainder < 2 ? 0 : 11 - remainder;
     }
 
-    @Override
-    public boolean isValid(String document) {
-        List<Integer> digits = Optional.ofNullable(document)
-                                       .map(utils::extractDigits)
-                                       .orElseThrow(NullDocumentException::new);
-
-
-        if (digits.size() != length) return false;
-        if (invalids(length).contains(digits)) return false;
-
-
-        int sum = digits.stream()
-                        .reduce(Integer::sum)
-                        .orElse(0);
-
-        if (sum < 0) return false;
-        if (sum > 99) return false;
-        if (sum % 11 != 0) return false;
-
+    /**
+     * <p style="text-align:justify">
+     * Checks if the sum of all digits is a multiple of 11 lower than 100.
+     * </p>
+     *
+     * @param packed Document packed one digit per 4 bits.
+     *
+     * @return TRUE if the sum is valid.
+     *
+     * @since 1.4.0
+     */
+    private static boolean hasValidSum(long packed) {
+        int sum = 0;
 
-        List<Integer> calculatedVD = calculateVerificationDigits(digits);
+        for (; packed != 0; packed >>>= 4) {
+            sum += (int) (packed & 0xF);
+        }
 
-        return utils.extractVerificationDigits(digits)
-                    .equals(calculatedVD);
+        return sum <= 99 &&
+               sum % 11 == 0;
     }
 }
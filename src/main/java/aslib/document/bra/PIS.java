@@ -1,12 +1,7 @@
 package aslib.document.bra;
 
-import aslib.document.DocumentInternal;
-import aslib.document.DocumentUtils;
-import aslib.document.NullDocumentException;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import aslib.document.CompiledDocument;
+import aslib.document.DocumentSpec;
 
 /**
  * <p>
@@ -18,16 +13,10 @@ import java.util.Optional;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.4.0
  * @since 12.0.0
  */
-class PIS implements DocumentInternal {
-
-    private final int length                   = 11;
-    private final int verificationDigitsLength = 1;
-
-    private final DocumentUtils utils = new DocumentUtils(length, verificationDigitsLength);
-
+class PIS extends CompiledDocument {
 
     /**
      * <p style="text-align:justify">
@@ -36,71 +25,24 @@ class PIS implements DocumentInternal {
      *
      * @since 1.0.0
      */
-    PIS() {}
-
-
-    @Override
-    public List<Integer> calculateVerificationDigits(List<Integer> digits) {
-        List<Integer> temp = digits.size() == length
-                             ? utils.removeVerificationDigits(digits)
-                             : new ArrayList<>(digits);
-
-        int control = 3;
-        int vd      = 0;
-
-        for (int digit : temp) {
-            vd += (digit * control--);
-
-            if (control == 1) control = 9;
-        }
-
-        vd = 11 - (vd % 11);
-        temp.add((vd == 10 || vd == 11) ? 0 : vd);
-
-        return utils.extractVerificationDigits(temp);
+    PIS() {
+        super(DocumentSpec.of("##.######.##-#")
+                          .checkDigit(11, new int[]{3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, PIS::mapRemainder));
     }
 
-    @Override
-    public String format(String document) {
-        document = Optional.ofNullable(document)
-                           .map(utils::removeNonDigits)
-                           .map(utils::removeTrailingDigits)
-                           .map(utils::insertLeadingZeros)
-                           .orElseThrow(NullDocumentException::new);
-
-        return new StringBuilder(document)
-                .insert(2, '.')
-                .insert(9, '.')
-                .insert(12, '-')
-                .toString();
-    }
-
-    @Override
-    public String generate() {
-        List<Integer> digits = utils.generateRandomDigits(length - verificationDigitsLength);
-        digits.addAll(calculateVerificationDigits(digits));
-
-        String document = utils.joinDigits(digits);
 
-        return isValid(document)
-               ? format(document)
-               : generate();
-    }
-
-    @Override
-    public boolean isValid(String document) {
-        List<Integer> digits = Optional.ofNullable(document)
-                                       .map(utils::extractDigits)
-                                       .orElseThrow(NullDocumentException::new);
-
-
-        if (digits.size() != length) return false;
-        if (invalids(length).contains(digits)) return false;
-
-
-        List<Integer> calculatedVD = calculateVerificationDigits(digits);
-
-        return utils.extractVerificationDigits(digits)
-                    .equals(calculatedVD);
+    /**
+     * <p style="text-align:justify">
+     * Converts the remainder of the weighted sum into the verification digit.
+     * </p>
+     *
+     * @param remainder Remainder of the weighted sum divided by 11.
+     *
+     * @return The verification digit.
+     *
+     * @since 1.4.0
+     */
+    private static int mapRemainder(int remainder) {
+        return remainder < 2 ? 0 : 11 - remainder;
     }
 }
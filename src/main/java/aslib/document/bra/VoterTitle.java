@@ -1,12 +1,7 @@
 package aslib.document.bra;
 
-import aslib.document.DocumentInternal;
-import aslib.document.DocumentUtils;
-import aslib.document.NullDocumentException;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import aslib.document.CompiledDocument;
+import aslib.document.DocumentSpec;
 
 /**
  * <p style="text-align:justify">
@@ -18,25 +13,29 @@ import java.util.Optional;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.4.0
  * @since 12.0.0
  */
-class VoterTitle implements DocumentInternal {
-
-    private final int length                   = 12;
-    private final int verificationDigitsLength = 2;
-
-    private final DocumentUtils utils = new DocumentUtils(length, verificationDigitsLength);
-
+class VoterTitle extends CompiledDocument {
 
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link VoterTitle} class.
      * </p>
      *
+     * <p style="text-align:justify">
+     * The first verification digit covers the sequential number, and the
+     * second one covers the federative unit and the first verification digit.
+     * </p>
+     *
      * @since 1.0.0
      */
-    VoterTitle() {}
+    VoterTitle() {
+        super(DocumentSpec.of("#### #### ## ##")
+                          .checkDigit(11, new int[]{2, 3, 4, 5, 6, 7, 8, 9, 0, 0}, VoterTitle::adjust)
+                          .checkDigit(11, new int[]{0, 0, 0, 0, 0, 0, 0, 0, 7, 8, 9}, VoterTitle::adjust)
+                          .rule(VoterTitle::hasValidFederativeUnit));
+    }
 
 
     /**
@@ -44,115 +43,54 @@ class VoterTitle implements DocumentInternal {
      * Gets the federative unit of the document.
      * </p>
      *
-     * @param digits Digits of the document.
+     * @param digits Digits of the document without the verification digits,
+     *               packed one per 4 bits.
      *
-     * @return Digit that represents the federative unit.
+     * @return Number that represents the federative unit.
      *
-     * @since 1.0.0
+     * @since 1.4.0
      */
-    private int getFederativeUnit(List<Integer> digits) {
-        return digits.get(8) * 10 +
-               digits.get(9);
+    private static int getFederativeUnit(long digits) {
+        return (int) ((digits >>> 4) & 0xF) * 10 +
+               (int) (digits & 0xF);
     }
 
-
-    @Override
-    public List<Integer> calculateVerificationDigits(List<Integer> digits) {
-        List<Integer> temp = digits.size() == length
-                             ? utils.removeVerificationDigits(digits)
-                             : new ArrayList<>(digits);
-
-
+    /**
+     * <p style="text-align:justify">
+     * Converts the remainder of the weighted sum into the verification digit.
+     * </p>
+     *
+     * @param remainder Remainder of the weighted sum divided by 11.
+     * @param digits    Digits of the document without the verification digits.
+     *
+     * @return The verification digit.
+     *
+     * @since 1.1.0
+     */
+    private static int adjust(int remainder, long digits) {
         int federativeUnit = getFederativeUnit(digits);
 
+        if (remainder == 10) return 0;
+        if (remainder == 0 && (federativeUnit == 1 || federativeUnit == 2)) return 1;
 
-        // First digit
-        int control = 2;
-        int vd      = 0;
-
-        for (int i = 0; i < temp.size() - 2; i++) {
-            vd += (temp.get(i) * control++);
-        }
-
-        vd %= 11;
-
-        if (vd == 10) {
-            vd = 0;
-        } else if (vd == 0 && (federativeUnit == 1 || federativeUnit == 2)) {
-            vd = 1;
-        }
-
-        temp.add(vd);
-
-
-        // Second digit
-        control = 7;
-        vd      = 0;
-
-        for (int i = 8; i < temp.size(); i++) {
-            vd += (temp.get(i) * control++);
-        }
-
-        vd %= 11;
-
-        if (vd == 10) {
-            vd = 0;
-        } else if (vd == 0 && (federativeUnit == 1 || federativeUnit == 2)) {
-            vd = 1;
-        }
-
-        temp.add(vd);
-
-        return utils.extractVerificationDigits(temp);
-    }
-
-    @Override
-    public String format(String document) {
-        document = Optional.ofNullable(document)
-                           .map(utils::removeNonDigits)
-                           .map(utils::removeTrailingDigits)
-                           .map(utils::insertLeadingZeros)
-                           .orElseThrow(NullDocumentException::new);
-
-        return new StringBuilder(document)
-                .insert(4, ' ')
-                .insert(9, ' ')
-                .insert(12, ' ')
-                .toString();
+        return remainder;
     }
 
-    @Override
-    public String generate() {
-        List<Integer> digits = utils.generateRandomDigits(length - verificationDigitsLength);
-        digits.addAll(calculateVerificationDigits(digits));
-
-        String document = utils.joinDigits(digits);
-
-        return isValid(document)
-               ? format(document)
-               : generate();
-    }
-
-    @Override
-    public boolean isValid(String document) {
-        List<Integer> digits = Optional.ofNullable(document)
-                                       .map(utils::extractDigits)
-                                       .orElseThrow(NullDocumentException::new);
-
-
-        if (digits.size() != length) return false;
-        if (invalids(length).contains(digits)) return false;
-
-
-        int federativeUnit = getFederativeUnit(digits);
-
-        if (federativeUnit < 1) return false;
-        if (federativeUnit > 28) return false;
-
-
-        List<Integer> calculatedVD = calculateVerificationDigits(digits);
+    /**
+     * <p style="text-align:justify">
+     * Checks if the federative unit is one of the 28 known codes.
+     * </p>
+     *
+     * @param packed Document packed one digit per 4 bits.
+     *
+     * @return TRUE if the federative unit is valid.
+     *
+     * @since 1.4.0
+     */
+    private static boolean hasValidFederativeUnit(long packed) {
+        int federativeUnit = getFederativeUnit(packed >>> 8);
 
-        return utils.extractVerificationDigits(digits)
-                    .equals(calculatedVD);
+        return federativeUnit >= 1 &&
+               federativeUnit <= 28;
     }
 }
@@ -0,0 +1,220 @@
+package aslib.security.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * <p style="text-align:justify">
+ * Pure Java implementation of the <a href="https://www.rfc-editor.org/rfc/rfc7693">BLAKE2b</a>
+ * hash function, unkeyed and producing the 512 bits output.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Get its instance through the {@link Generator#createMessageDigest(String)}
+ * method, using the {@value #ALGORITHM} algorithm name.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class Blake2bDigest extends MessageDigest {
+
+    static final String ALGORITHM = "BLAKE2b-512";
+
+    private static final int OUT_LENGTH   = 64;
+    private static final int BLOCK_LENGTH = 128;
+
+    private static final long[] IV = {
+            0x6A09E667F3BCC908L, 0xBB67AE8584CAA73BL, 0x3C6EF372FE94F82BL, 0xA54FF53A5F1D36F1L,
+            0x510E527FADE682D1L, 0x9B05688C2B3E6C1FL, 0x1F83D9ABFB41BD6BL, 0x5BE0CD19137E2179L
+    };
+
+    private static final int[][] SIGMA = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3},
+            {11, 8, 12, 0, 5, 2, 15, 13, 10, 14, 3, 6, 7, 1, 9, 4},
+            {7, 9, 3, 1, 13, 12, 11, 14, 2, 6, 5, 10, 4, 0, 15, 8},
+            {9, 0, 5, 7, 2, 4, 10, 15, 14, 1, 11, 12, 6, 8, 3, 13},
+            {2, 12, 6, 10, 0, 11, 8, 3, 4, 13, 7, 5, 15, 14, 1, 9},
+            {12, 5, 1, 15, 14, 13, 4, 10, 0, 7, 6, 3, 9, 2, 8, 11},
+            {13, 11, 7, 14, 12, 1, 3, 9, 5, 0, 15, 4, 8, 6, 2, 10},
+            {6, 15, 14, 9, 11, 3, 0, 8, 12, 2, 13, 7, 1, 4, 10, 5},
+            {10, 2, 8, 4, 7, 6, 1, 5, 15, 11, 9, 14, 3, 12, 13, 0},
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+            {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3}
+    };
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long[] h      = new long[8];
+    private final long[] m      = new long[16];
+    private final byte[] buffer = new byte[BLOCK_LENGTH];
+    private       int    bufferLength;
+    private       long   counterLow;
+    private       long   counterHigh;
+
+    private final byte[] oneByte = new byte[1];
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link Blake2bDigest} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    Blake2bDigest() {
+        super(ALGORITHM);
+        engineReset();
+    }
+
+
+    @Override
+    protected int engineGetDigestLength() {
+        return OUT_LENGTH;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        oneByte[0] = input;
+        engineUpdate(oneByte, 0, 1);
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int length) {
+        while (length > 0) {
+            // The block is only compressed when more input arrives, as the last one is flagged
+            if (bufferLength == BLOCK_LENGTH) {
+                incrementCounter(BLOCK_LENGTH);
+                compress(buffer, 0, false);
+                bufferLength = 0;
+            }
+
+            if (bufferLength == 0) {
+                while (length > BLOCK_LENGTH) {
+                    incrementCounter(BLOCK_LENGTH);
+                    compress(input, offset, false);
+
+                    offset += BLOCK_LENGTH;
+                    length -= BLOCK_LENGTH;
+                }
+            }
+
+            int take = Math.min(BLOCK_LENGTH - bufferLength, length);
+            System.arraycopy(input, offset, buffer, bufferLength, take);
+
+            bufferLength += take;
+            offset += take;
+            length -= take;
+        }
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        incrementCounter(bufferLength);
+        Arrays.fill(buffer, bufferLength, BLOCK_LENGTH, (byte) 0);
+        compress(buffer, 0, true);
+
+        byte[] digest = new byte[OUT_LENGTH];
+        for (int i = 0; i < 8; i++) {
+            LONG.set(digest, i << 3, h[i]);
+        }
+
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        System.arraycopy(IV, 0, h, 0, 8);
+
+        // Parameter block: digest length, no key, fanout and depth of 1
+        h[0] ^= 0x01010000L ^ OUT_LENGTH;
+
+        bufferLength = 0;
+        counterLow   = 0;
+        counterHigh  = 0;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Runs the BLAKE2b compression function over a block, updating the state.
+     * </p>
+     *
+     * @param block  Array holding the block.
+     * @param offset Position of the block in the array.
+     * @param last   TRUE if it is the last block of the input.
+     *
+     * @since 1.0.0
+     */
+    private void compress(byte[] block, int offset, boolean last) {
+        for (int i = 0; i < 16; i++) {
+            m[i] = (long) LONG.get(block, offset + (i << 3));
+        }
+
+        long v0  = h[0];
+        long v1  = h[1];
+        long v2  = h[2];
+        long v3  = h[3];
+        long v4  = h[4];
+        long v5  = h[5];
+        long v6  = h[6];
+        long v7  = h[7];
+        long v8  = IV[0];
+        long v9  = IV[1];
+        long v10 = IV[2];
+        long v11 = IV[3];
+        long v12 = IV[4] ^ counterLow;
+        long v13 = IV[5] ^ counterHigh;
+        long v14 = last ? ~IV[6] : IV[6];
+        long v15 = IV[7];
+
+        for (int[] s : SIGMA) {
+            v0 += v4 + m[s[0]]; v12 = Long.rotateRight(v12 ^ v0, 32); v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 24);
+            v0 += v4 + m[s[1]]; v12 = Long.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Long.rotateRight(v4 ^ v8, 63);
+            v1 += v5 + m[s[2]]; v13 = Long.rotateRight(v13 ^ v1, 32); v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 24);
+            v1 += v5 + m[s[3]]; v13 = Long.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Long.rotateRight(v5 ^ v9, 63);
+            v2 += v6 + m[s[4]]; v14 = Long.rotateRight(v14 ^ v2, 32); v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 24);
+            v2 += v6 + m[s[5]]; v14 = Long.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Long.rotateRight(v6 ^ v10, 63);
+            v3 += v7 + m[s[6]]; v15 = Long.rotateRight(v15 ^ v3, 32); v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 24);
+            v3 += v7 + m[s[7]]; v15 = Long.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Long.rotateRight(v7 ^ v11, 63);
+
+            v0 += v5 + m[s[8]]; v15 = Long.rotateRight(v15 ^ v0, 32); v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 24);
+            v0 += v5 + m[s[9]]; v15 = Long.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Long.rotateRight(v5 ^ v10, 63);
+            v1 += v6 + m[s[10]]; v12 = Long.rotateRight(v12 ^ v1, 32); v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 24);
+            v1 += v6 + m[s[11]]; v12 = Long.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Long.rotateRight(v6 ^ v11, 63);
+            v2 += v7 + m[s[12]]; v13 = Long.rotateRight(v13 ^ v2, 32); v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 24);
+            v2 += v7 + m[s[13]]; v13 = Long.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Long.rotateRight(v7 ^ v8, 63);
+            v3 += v4 + m[s[14]]; v14 = Long.rotateRight(v14 ^ v3, 32); v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 24);
+            v3 += v4 + m[s[15]]; v14 = Long.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Long.rotateRight(v4 ^ v9, 63);
+        }
+
+        h[0] ^= v0 ^ v8;
+        h[1] ^= v1 ^ v9;
+        h[2] ^= v2 ^ v10;
+        h[3] ^= v3 ^ v11;
+        h[4] ^= v4 ^ v12;
+        h[5] ^= v5 ^ v13;
+        h[6] ^= v6 ^ v14;
+        h[7] ^= v7 ^ v15;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Increments the 128 bits counter of processed bytes.
+     * </p>
+     *
+     * @param bytes Amount of bytes processed.
+     *
+     * @since 1.0.0
+     */
+    private void incrementCounter(int bytes) {
+        counterLow += bytes;
+        if (Long.compareUnsigned(counterLow, bytes) < 0) counterHigh++;
+    }
+}
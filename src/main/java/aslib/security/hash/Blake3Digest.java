@@ -0,0 +1,549 @@
+package aslib.security.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * <p style="text-align:justify">
+ * Pure Java implementation of the <a href="https://github.com/BLAKE3-team/BLAKE3-specs">BLAKE3</a>
+ * hash function, producing the default 256 bits output.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The input is split into chunks of 1 KiB that are the leaves of a binary
+ * tree. When a large amount of data is provided at once, the chunks are
+ * hashed in parallel and their chaining values are merged afterwards. The
+ * compression function works over reusable scratch arrays, so the streaming
+ * path does not allocate.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Get its instance through the {@link Generator#createMessageDigest(String)}
+ * method, using the {@value #ALGORITHM} algorithm name.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class Blake3Digest extends MessageDigest {
+
+    static final String ALGORITHM = "BLAKE3";
+
+    private static final int OUT_LENGTH   = 32;
+    private static final int BLOCK_LENGTH = 64;
+    private static final int CHUNK_LENGTH = 1024;
+
+    private static final int CHUNK_START = 1;
+    private static final int CHUNK_END   = 2;
+    private static final int PARENT      = 4;
+    private static final int ROOT        = 8;
+
+    static final int PARALLEL_THRESHOLD = 128 * 1024;
+
+    private static final int CHUNKS_PER_TASK = 16;
+    private static final int TRANSFER_LENGTH = 1024 * 1024;
+
+    private static final int[] IV = {
+            0x6A09E667, 0xBB67AE85, 0x3C6EF372, 0xA54FF53A,
+            0x510E527F, 0x9B05688C, 0x1F83D9AB, 0x5BE0CD19
+    };
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int[]  chunkCv = new int[8];
+    private final byte[] block   = new byte[BLOCK_LENGTH];
+    private       int    blockLength;
+    private       int    blocksCompressed;
+    private       long   chunkCounter;
+
+    // 54 levels are enough for 2^64 bytes of input
+    private final int[] cvStack = new int[54 * 8];
+    private       int   cvStackSize;
+
+    private final int[]  words   = new int[16];
+    private final int[]  cv      = new int[8];
+    private final int[]  output  = new int[8];
+    private final byte[] oneByte = new byte[1];
+    private       byte[] transfer;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link Blake3Digest} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    Blake3Digest() {
+        super(ALGORITHM);
+        engineReset();
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Runs the BLAKE3 compression function. The chaining value is read before
+     * anything is written, so the output may overwrite it.
+     * </p>
+     *
+     * @param chainingValue Array holding the input chaining value.
+     * @param cvOffset      Position of the chaining value in the array.
+     * @param m             Message words of the block.
+     * @param counter       Chunk counter of the block.
+     * @param blockLength   Amount of bytes of the block.
+     * @param flags         Domain separation flags.
+     * @param out           Array where the output chaining value will be
+     *                      written.
+     * @param outOffset     Position where the output will be written.
+     *
+     * @since 1.0.0
+     */
+    private static void compress(int[] chainingValue, int cvOffset, int[] m, long counter, int blockLength, int flags,
+                                 int[] out, int outOffset) {
+        int v0  = chainingValue[cvOffset];
+        int v1  = chainingValue[cvOffset + 1];
+        int v2  = chainingValue[cvOffset + 2];
+        int v3  = chainingValue[cvOffset + 3];
+        int v4  = chainingValue[cvOffset + 4];
+        int v5  = chainingValue[cvOffset + 5];
+        int v6  = chainingValue[cvOffset + 6];
+        int v7  = chainingValue[cvOffset + 7];
+        int v8  = IV[0];
+        int v9  = IV[1];
+        int v10 = IV[2];
+        int v11 = IV[3];
+        int v12 = (int) counter;
+        int v13 = (int) (counter >>> 32);
+        int v14 = blockLength;
+        int v15 = flags;
+
+        int m0  = m[0];
+        int m1  = m[1];
+        int m2  = m[2];
+        int m3  = m[3];
+        int m4  = m[4];
+        int m5  = m[5];
+        int m6  = m[6];
+        int m7  = m[7];
+        int m8  = m[8];
+        int m9  = m[9];
+        int m10 = m[10];
+        int m11 = m[11];
+        int m12 = m[12];
+        int m13 = m[13];
+        int m14 = m[14];
+        int m15 = m[15];
+
+        // Round 1
+        v0 += v4 + m0; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m1; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m2; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m3; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m4; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m5; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m6; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m7; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m8; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m9; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m10; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m11; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m12; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m13; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m14; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m15; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 2
+        v0 += v4 + m2; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m6; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m3; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m10; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m7; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m0; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m4; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m13; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m1; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m11; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m12; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m5; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m9; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m14; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m15; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m8; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 3
+        v0 += v4 + m3; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m4; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m10; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m12; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m13; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m2; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m7; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m14; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m6; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m5; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m9; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m0; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m11; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m15; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m8; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m1; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 4
+        v0 += v4 + m10; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m7; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m12; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m9; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m14; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m3; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m13; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m15; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m4; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m0; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m11; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m2; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m5; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m8; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m1; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m6; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 5
+        v0 += v4 + m12; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m13; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m9; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m11; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m15; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m10; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m14; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m8; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m7; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m2; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m5; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m3; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m0; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m1; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m6; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m4; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 6
+        v0 += v4 + m9; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m14; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m11; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m5; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m8; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m12; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m15; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m1; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m13; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m3; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m0; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m10; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m2; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m6; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m4; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m7; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        // Round 7
+        v0 += v4 + m11; v12 = Integer.rotateRight(v12 ^ v0, 16); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 12);
+        v0 += v4 + m15; v12 = Integer.rotateRight(v12 ^ v0, 8); v8 += v12; v4 = Integer.rotateRight(v4 ^ v8, 7);
+        v1 += v5 + m5; v13 = Integer.rotateRight(v13 ^ v1, 16); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 12);
+        v1 += v5 + m0; v13 = Integer.rotateRight(v13 ^ v1, 8); v9 += v13; v5 = Integer.rotateRight(v5 ^ v9, 7);
+        v2 += v6 + m1; v14 = Integer.rotateRight(v14 ^ v2, 16); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 12);
+        v2 += v6 + m9; v14 = Integer.rotateRight(v14 ^ v2, 8); v10 += v14; v6 = Integer.rotateRight(v6 ^ v10, 7);
+        v3 += v7 + m8; v15 = Integer.rotateRight(v15 ^ v3, 16); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 12);
+        v3 += v7 + m6; v15 = Integer.rotateRight(v15 ^ v3, 8); v11 += v15; v7 = Integer.rotateRight(v7 ^ v11, 7);
+        v0 += v5 + m14; v15 = Integer.rotateRight(v15 ^ v0, 16); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 12);
+        v0 += v5 + m10; v15 = Integer.rotateRight(v15 ^ v0, 8); v10 += v15; v5 = Integer.rotateRight(v5 ^ v10, 7);
+        v1 += v6 + m2; v12 = Integer.rotateRight(v12 ^ v1, 16); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 12);
+        v1 += v6 + m12; v12 = Integer.rotateRight(v12 ^ v1, 8); v11 += v12; v6 = Integer.rotateRight(v6 ^ v11, 7);
+        v2 += v7 + m3; v13 = Integer.rotateRight(v13 ^ v2, 16); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 12);
+        v2 += v7 + m4; v13 = Integer.rotateRight(v13 ^ v2, 8); v8 += v13; v7 = Integer.rotateRight(v7 ^ v8, 7);
+        v3 += v4 + m7; v14 = Integer.rotateRight(v14 ^ v3, 16); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 12);
+        v3 += v4 + m13; v14 = Integer.rotateRight(v14 ^ v3, 8); v9 += v14; v4 = Integer.rotateRight(v4 ^ v9, 7);
+
+        out[outOffset]     = v0 ^ v8;
+        out[outOffset + 1] = v1 ^ v9;
+        out[outOffset + 2] = v2 ^ v10;
+        out[outOffset + 3] = v3 ^ v11;
+        out[outOffset + 4] = v4 ^ v12;
+        out[outOffset + 5] = v5 ^ v13;
+        out[outOffset + 6] = v6 ^ v14;
+        out[outOffset + 7] = v7 ^ v15;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Computes the chaining value of a complete chunk read straight from the
+     * input array.
+     * </p>
+     *
+     * @param input     Array holding the chunk.
+     * @param offset    Position of the chunk in the array.
+     * @param counter   Index of the chunk in the whole input.
+     * @param m         Scratch array for the message words.
+     * @param out       Array where the chaining value will be written.
+     * @param outOffset Position where the chaining value will be written.
+     *
+     * @since 1.0.0
+     */
+    private static void hashChunk(byte[] input, int offset, long counter, int[] m, int[] out, int outOffset) {
+        System.arraycopy(IV, 0, out, outOffset, 8);
+
+        for (int b = 0; b < CHUNK_LENGTH / BLOCK_LENGTH; b++) {
+            loadWords(input, offset + b * BLOCK_LENGTH, m);
+
+            int flags = b == 0 ? CHUNK_START : 0;
+            if (b == CHUNK_LENGTH / BLOCK_LENGTH - 1) flags |= CHUNK_END;
+
+            compress(out, outOffset, m, counter, BLOCK_LENGTH, flags, out, outOffset);
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Reads the sixteen little endian message words of a block.
+     * </p>
+     *
+     * @param input  Array holding the block.
+     * @param offset Position of the block in the array.
+     * @param m      Array where the words will be written.
+     *
+     * @since 1.0.0
+     */
+    private static void loadWords(byte[] input, int offset, int[] m) {
+        for (int i = 0; i < 16; i++) {
+            m[i] = (int) INT.get(input, offset + (i << 2));
+        }
+    }
+
+
+    @Override
+    protected int engineGetDigestLength() {
+        return OUT_LENGTH;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        oneByte[0] = input;
+        engineUpdate(oneByte, 0, 1);
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int length) {
+        while (length > 0) {
+            // The chunk is only closed when more input arrives, as the last one may be the root
+            if (chunkLength() == CHUNK_LENGTH) finishChunk();
+
+            if (chunkLength() == 0 && length > CHUNK_LENGTH) {
+                // Keeps at least one byte out, so the last chunk stays open
+                int chunks = (length - 1) / CHUNK_LENGTH;
+                hashChunks(input, offset, chunks);
+
+                offset += chunks * CHUNK_LENGTH;
+                length -= chunks * CHUNK_LENGTH;
+                continue;
+            }
+
+            if (blockLength == BLOCK_LENGTH) {
+                loadWords(block, 0, words);
+                compress(chunkCv, 0, words, chunkCounter, BLOCK_LENGTH, startFlag(), chunkCv, 0);
+
+                blocksCompressed++;
+                blockLength = 0;
+            }
+
+            int take = Math.min(BLOCK_LENGTH - blockLength, length);
+            System.arraycopy(input, offset, block, blockLength, take);
+
+            blockLength += take;
+            offset += take;
+            length -= take;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(ByteBuffer input) {
+        if (input.hasArray()) {
+            super.engineUpdate(input);
+            return;
+        }
+
+        /*
+         * The default implementation copies direct buffers in small pieces,
+         * which would never reach the parallel path.
+         */
+        if (transfer == null) transfer = new byte[TRANSFER_LENGTH];
+
+        while (input.hasRemaining()) {
+            int length = Math.min(input.remaining(), transfer.length);
+            input.get(transfer, 0, length);
+            engineUpdate(transfer, 0, length);
+        }
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        Arrays.fill(block, blockLength, BLOCK_LENGTH, (byte) 0);
+        loadWords(block, 0, words);
+
+        int[] inputCv = chunkCv;
+        long  counter = chunkCounter;
+        int   length  = blockLength;
+        int   flags   = startFlag() | CHUNK_END;
+
+        // Merges the open chunk with the pending subtrees, from the right to the left
+        for (int i = cvStackSize - 1; i >= 0; i--) {
+            compress(inputCv, 0, words, counter, length, flags, cv, 0);
+
+            System.arraycopy(cvStack, i * 8, words, 0, 8);
+            System.arraycopy(cv, 0, words, 8, 8);
+
+            inputCv = IV;
+            counter = 0;
+            length  = BLOCK_LENGTH;
+            flags   = PARENT;
+        }
+
+        compress(inputCv, 0, words, 0, length, flags | ROOT, output, 0);
+
+        byte[] digest = new byte[OUT_LENGTH];
+        for (int i = 0; i < 8; i++) {
+            INT.set(digest, i << 2, output[i]);
+        }
+
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        System.arraycopy(IV, 0, chunkCv, 0, 8);
+        blockLength      = 0;
+        blocksCompressed = 0;
+        chunkCounter     = 0;
+        cvStackSize      = 0;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Pushes the chaining value of a completed chunk onto the stack, merging
+     * the subtrees that became complete with it.
+     * </p>
+     *
+     * @param chainingValue Array holding the chaining value.
+     * @param offset        Position of the chaining value in the array.
+     * @param totalChunks   Amount of chunks completed so far.
+     *
+     * @since 1.0.0
+     */
+    private void addChunkChainingValue(int[] chainingValue, int offset, long totalChunks) {
+        System.arraycopy(chainingValue, offset, cvStack, cvStackSize * 8, 8);
+        cvStackSize++;
+
+        while ((totalChunks & 1) == 0) {
+            int left = (cvStackSize - 2) * 8;
+
+            System.arraycopy(cvStack, left, words, 0, 16);
+            compress(IV, 0, words, 0, BLOCK_LENGTH, PARENT, cvStack, left);
+
+            cvStackSize--;
+            totalChunks >>= 1;
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the amount of bytes consumed by the open chunk.
+     * </p>
+     *
+     * @return The length of the open chunk.
+     *
+     * @since 1.0.0
+     */
+    private int chunkLength() {
+        return blocksCompressed * BLOCK_LENGTH + blockLength;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Closes the open chunk, which must be full, and starts the next one.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    private void finishChunk() {
+        loadWords(block, 0, words);
+        compress(chunkCv, 0, words, chunkCounter, BLOCK_LENGTH, startFlag() | CHUNK_END, chunkCv, 0);
+
+        chunkCounter++;
+        addChunkChainingValue(chunkCv, 0, chunkCounter);
+
+        System.arraycopy(IV, 0, chunkCv, 0, 8);
+        blockLength      = 0;
+        blocksCompressed = 0;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Hashes complete chunks read straight from the input array. Large inputs
+     * have their chunks hashed in parallel, and the chaining values are then
+     * pushed onto the stack in order.
+     * </p>
+     *
+     * @param input  Array holding the chunks.
+     * @param offset Position of the first chunk in the array.
+     * @param chunks Amount of chunks to hash.
+     *
+     * @since 1.0.0
+     */
+    private void hashChunks(byte[] input, int offset, int chunks) {
+        long firstCounter = chunkCounter;
+
+        if ((long) chunks * CHUNK_LENGTH < PARALLEL_THRESHOLD || Runtime.getRuntime().availableProcessors() < 2) {
+            for (int c = 0; c < chunks; c++) {
+                hashChunk(input, offset + c * CHUNK_LENGTH, firstCounter + c, words, cv, 0);
+                addChunkChainingValue(cv, 0, firstCounter + c + 1);
+            }
+        } else {
+            int[] chainingValues = new int[chunks * 8];
+            int   tasks          = (chunks + CHUNKS_PER_TASK - 1) / CHUNKS_PER_TASK;
+
+            IntStream.range(0, tasks)
+                     .parallel()
+                     .forEach(task -> {
+                         int[] m    = new int[16];
+                         int   from = task * CHUNKS_PER_TASK;
+                         int   to   = Math.min(from + CHUNKS_PER_TASK, chunks);
+
+                         for (int c = from; c < to; c++) {
+                             hashChunk(input, offset + c * CHUNK_LENGTH, firstCounter + c, m, chainingValues, c * 8);
+                         }
+                     });
+
+            for (int c = 0; c < chunks; c++) {
+                addChunkChainingValue(chainingValues, c * 8, firstCounter + c + 1);
+            }
+        }
+
+        chunkCounter += chunks;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the flag of the next block of the open chunk.
+     * </p>
+     *
+     * @return The CHUNK_START flag for the first block, zero otherwise.
+     *
+     * @since 1.0.0
+     */
+    private int startFlag() {
+        return blocksCompressed == 0 ? CHUNK_START : 0;
+    }
+}
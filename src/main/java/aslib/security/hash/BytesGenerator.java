@@ -1,16 +1,37 @@
 package aslib.security.hash;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p style="text-align:justify">
  * Handles the hash checksum generation from a bytes array.
  * </p>
  *
+ * <p style="text-align:justify">
+ * Many arrays can be hashed at once, reusing a single {@link MessageDigest}
+ * for all of them.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * When the system property {@code aslib.security.hash.vector} is
+ * {@code true}, SHA-256 batches are hashed by the {@link MultiBufferDigest}
+ * of the Java 17 layer, several arrays per SIMD register. It is faster only
+ * on processors without the SHA extensions, where the platform digest falls
+ * back to scalar code, so it is disabled by default. The loop over the
+ * {@link MessageDigest} is still used when the Vector API is not available.
+ * </p>
+ *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.2.0
  * @since 12.0.0
  */
 class BytesGenerator implements Generator<byte[]> {
 
+    private static final boolean VECTOR = Boolean.getBoolean("aslib.security.hash.vector");
+
+
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link BytesGenerator} class.
@@ -29,4 +50,44 @@ class BytesGenerator implements Generator<byte[]> {
         byte[] digest = createMessageDigest(algorithm).digest(input);
         return convertHexadecimalToString(digest);
     }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of every array.
+     * </p>
+     *
+     * @param algorithm Algorithm used to generate the hashes.
+     * @param inputs    Arrays from which the hashes will be generated.
+     *
+     * @return A list with the hash checksums, in the same order of the
+     * arrays.
+     *
+     * @throws NullPointerException If any parameters or arrays is null.
+     * @since 1.1.0
+     */
+    public List<String> generateAll(String algorithm, List<byte[]> inputs)
+    throws NullPointerException {
+        if (algorithm == null) throw new NullPointerException("Algorithm cannot be null.");
+        if (inputs == null) throw new NullPointerException("Input cannot be null.");
+
+        List<String> hashes = new ArrayList<>(inputs.size());
+
+        if (VECTOR && MultiBufferDigest.SHA_256 != null && "SHA-256".equalsIgnoreCase(algorithm)) {
+            for (byte[] digest : MultiBufferDigest.SHA_256.digest(inputs)) {
+                hashes.add(convertHexadecimalToString(digest));
+            }
+
+            return hashes;
+        }
+
+        MessageDigest messageDigest = createMessageDigest(algorithm);
+
+        for (byte[] input : inputs) {
+            if (input == null) throw new NullPointerException("Input cannot be null.");
+
+            hashes.add(convertHexadecimalToString(messageDigest.digest(input)));
+        }
+
+        return hashes;
+    }
 }
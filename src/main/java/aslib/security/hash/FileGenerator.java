@@ -8,11 +8,14 @@ import java.io.File;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.1.0
  * @since 12.0.0
  */
 class FileGenerator implements Generator<File> {
 
+    private final boolean directIO;
+
+
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link FileGenerator} class.
@@ -20,7 +23,22 @@ class FileGenerator implements Generator<File> {
      *
      * @since 1.0.0
      */
-    FileGenerator() {}
+    FileGenerator() {
+        this(false);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link FileGenerator} class.
+     * </p>
+     *
+     * @param directIO TRUE to read the files bypassing the page cache.
+     *
+     * @since 1.1.0
+     */
+    FileGenerator(boolean directIO) {
+        this.directIO = directIO;
+    }
 
 
     @Override
@@ -28,6 +46,6 @@ class FileGenerator implements Generator<File> {
         if (algorithm == null) throw new NullPointerException("Algorithm cannot be null.");
         if (input == null) throw new NullPointerException("Input cannot be null.");
 
-        return new PathGenerator().generate(algorithm, input.toPath());
+        return new PathGenerator(directIO).generate(algorithm, input.toPath());
     }
 }
@@ -0,0 +1,111 @@
+package aslib.security.hash;
+
+import java.util.Objects;
+
+/**
+ * <p style="text-align:justify">
+ * Represents a contiguous range of bytes of a file, such as a part of a
+ * resumable upload or a segment inside a container file.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Get its instance through the {@link FileRange#of(long, long)} method.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+public final class FileRange {
+
+    private final long offset;
+    private final long length;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link FileRange} class.
+     * </p>
+     *
+     * @param offset Position of the first byte of the range.
+     * @param length Amount of bytes of the range.
+     *
+     * @since 1.0.0
+     */
+    private FileRange(long offset, long length) {
+        this.offset = offset;
+        this.length = length;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link FileRange} with the provided bounds.
+     * </p>
+     *
+     * @param offset Position of the first byte of the range.
+     * @param length Amount of bytes of the range.
+     *
+     * @return An instance of FileRange.
+     *
+     * @throws IllegalArgumentException If any parameters is negative or if the
+     *                                  range ends beyond {@link Long#MAX_VALUE}.
+     * @since 1.0.0
+     */
+    public static FileRange of(long offset, long length)
+    throws IllegalArgumentException {
+        if (offset < 0) throw new IllegalArgumentException("Offset cannot be negative: '" + offset + '\'');
+        if (length < 0) throw new IllegalArgumentException("Length cannot be negative: '" + length + '\'');
+        if (offset > Long.MAX_VALUE - length) throw new IllegalArgumentException("Range is too large.");
+
+        return new FileRange(offset, length);
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the position of the first byte of the range.
+     * </p>
+     *
+     * @return The offset of the range.
+     *
+     * @since 1.0.0
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the amount of bytes of the range.
+     * </p>
+     *
+     * @return The length of the range.
+     *
+     * @since 1.0.0
+     */
+    public long length() {
+        return length;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FileRange)) return false;
+
+        FileRange range = (FileRange) o;
+        return offset == range.offset &&
+               length == range.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, length);
+    }
+
+    @Override
+    public String toString() {
+        return "FileRange[offset=" + offset + ", length=" + length + ']';
+    }
+}
@@ -2,8 +2,6 @@ package aslib.security.hash;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * <p style="text-align:justify">
@@ -13,7 +11,7 @@ import java.util.stream.Stream;
  * @param <T> Type of the object that will generate the hash.
  *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.2.0
  * @since 12.0.0
  */
 public interface Generator<T> {
@@ -35,16 +33,22 @@ public interface Generator<T> {
     throws NullPointerException {
         if (bytes == null) throw new NullPointerException("Array cannot be null.");
 
-        return Stream.iterate(0, i -> i < bytes.length, i -> ++i)
-                     .map(i -> bytes[i])
-                     .map(i -> String.format("%02x", i))
-                     .map(String::toLowerCase)
-                     .collect(Collectors.joining());
+        String digits = "0123456789abcdef";
+        char[] chars  = new char[bytes.length * 2];
+
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2]     = digits.charAt((bytes[i] >>> 4) & 0xf);
+            chars[i * 2 + 1] = digits.charAt(bytes[i] & 0xf);
+        }
+
+        return new String(chars);
     }
 
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link MessageDigest} using the provided algorithm.
+     * Besides the algorithms of the installed providers, the pure Java
+     * implementations of BLAKE3 and BLAKE2b-512 are supported.
      * </p>
      *
      * @param algorithm Algorithm used by the message digest.
@@ -57,6 +61,9 @@ public interface Generator<T> {
     default MessageDigest createMessageDigest(String algorithm)
     throws AlgorithmNotFoundException {
         try {
+            if (Blake3Digest.ALGORITHM.equalsIgnoreCase(algorithm)) return new Blake3Digest();
+            if (Blake2bDigest.ALGORITHM.equalsIgnoreCase(algorithm)) return new Blake2bDigest();
+
             return MessageDigest.getInstance(algorithm);
         } catch (NoSuchAlgorithmException | NullPointerException e) {
             throw new AlgorithmNotFoundException(e.getMessage(), e.getCause());
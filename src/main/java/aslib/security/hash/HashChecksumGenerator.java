@@ -3,6 +3,7 @@ package aslib.security.hash;
 import java.io.File;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.util.List;
 
 /**
  * <p style="text-align:justify">
@@ -29,12 +30,13 @@ import java.security.MessageDigest;
  * </pre>
  *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.4.0
  * @since 12.0.0
  */
 public class HashChecksumGenerator {
 
-    private String algorithm;
+    private String  algorithm;
+    private boolean directIO;
 
 
     /**
@@ -87,6 +89,39 @@ public class HashChecksumGenerator {
         }
     }
 
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link HashChecksumGenerator} that uses a pure
+     * Java implementation of the
+     * <a href="https://en.wikipedia.org/wiki/BLAKE_(hash_function)#BLAKE2">BLAKE2b</a>
+     * algorithm, with 512 bits output.
+     * </p>
+     *
+     * @return An instance of HashChecksumGenerator.
+     *
+     * @since 1.3.0
+     */
+    public static HashChecksumGenerator blake2b() {
+        return new HashChecksumGenerator(Blake2bDigest.ALGORITHM);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link HashChecksumGenerator} that uses a pure
+     * Java implementation of the
+     * <a href="https://en.wikipedia.org/wiki/BLAKE_(hash_function)#BLAKE3">BLAKE3</a>
+     * algorithm, with 256 bits output. Large inputs are hashed on multiple
+     * cores through the BLAKE3 chunk tree.
+     * </p>
+     *
+     * @return An instance of HashChecksumGenerator.
+     *
+     * @since 1.3.0
+     */
+    public static HashChecksumGenerator blake3() {
+        return new HashChecksumGenerator(Blake3Digest.ALGORITHM);
+    }
+
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link HashChecksumGenerator} that uses the
@@ -178,6 +213,27 @@ public class HashChecksumGenerator {
     }
 
 
+    /**
+     * <p style="text-align:justify">
+     * Enables or disables the direct I/O mode of the file based generators.
+     * When enabled, the files are read bypassing the operating system page
+     * cache, so bulk verifications do not evict the cached pages of other
+     * processes. If the file system does not support direct I/O, the files
+     * are read through the regular buffered stream.
+     * </p>
+     *
+     * @param directIO TRUE to enable the direct I/O mode.
+     *
+     * @return This instance of HashChecksumGenerator.
+     *
+     * @since 1.1.0
+     */
+    public HashChecksumGenerator directIO(boolean directIO) {
+        this.directIO = directIO;
+        return this;
+    }
+
+
     /**
      * <p style="text-align:justify">
      * Generates the hash checksum of the input object.
@@ -207,7 +263,7 @@ public class HashChecksumGenerator {
      * @since 1.0.0
      */
     public String generate(File input) {
-        return new FileGenerator().generate(algorithm, input);
+        return new FileGenerator(directIO).generate(algorithm, input);
     }
 
     /**
@@ -223,7 +279,48 @@ public class HashChecksumGenerator {
      * @since 1.0.0
      */
     public String generate(Path input) {
-        return new PathGenerator().generate(algorithm, input);
+        return new PathGenerator(directIO).generate(algorithm, input);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of a byte range of the input file, reading
+     * only the bytes of the range. The bytes beyond the end of the file are
+     * ignored.
+     * </p>
+     *
+     * @param input  File from which the hash will be generated.
+     * @param offset Position of the first byte of the range.
+     * @param length Amount of bytes of the range.
+     *
+     * @return The hash checksum in lower case.
+     *
+     * @throws IllegalArgumentException If the offset or the length is negative.
+     * @see FileRange
+     * @since 1.2.0
+     */
+    public String generate(Path input, long offset, long length)
+    throws IllegalArgumentException {
+        return new PathGenerator().generate(algorithm, input, FileRange.of(offset, length));
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksums of many byte ranges of the input file. The
+     * ranges are hashed concurrently through positional reads over a single
+     * open channel.
+     * </p>
+     *
+     * @param input  File from which the hashes will be generated.
+     * @param ranges Ranges of the file that will be hashed.
+     *
+     * @return A list with the hash checksums in lower case, in the same order
+     * of the ranges.
+     *
+     * @since 1.2.0
+     */
+    public List<String> generate(Path input, List<FileRange> ranges) {
+        return new PathGenerator().generate(algorithm, input, ranges);
     }
 
     /**
@@ -241,4 +338,24 @@ public class HashChecksumGenerator {
     public String generate(byte[] input) {
         return new BytesGenerator().generate(algorithm, input);
     }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of every input array. A single message
+     * digest is reused for all of them. With the system property
+     * {@code aslib.security.hash.vector} set to {@code true}, SHA-256 arrays
+     * are hashed several at once over the Vector API, when the
+     * {@code jdk.incubator.vector} module is resolved.
+     * </p>
+     *
+     * @param inputs Arrays from which the hashes will be generated.
+     *
+     * @return A list with the hash checksums in lower case, in the same order
+     * of the arrays.
+     *
+     * @since 1.4.0
+     */
+    public List<String> generate(List<byte[]> inputs) {
+        return new BytesGenerator().generateAll(algorithm, inputs);
+    }
 }
@@ -0,0 +1,74 @@
+package aslib.security.hash;
+
+import java.util.List;
+
+/**
+ * <p style="text-align:justify">
+ * Hashes many independent messages at once, one message per lane of the SIMD
+ * registers of the processor.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The implementations use the incubating Vector API, so they live in the
+ * Java 17 layer of the multi-release jar and are looked up by reflection.
+ * They are only available when the {@code jdk.incubator.vector} module is
+ * resolved, such as with {@code --add-modules jdk.incubator.vector}.
+ * Otherwise the lookup gives null, and the callers hash the messages one by
+ * one with the {@link java.security.MessageDigest} of the platform.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+interface MultiBufferDigest {
+
+    /**
+     * <p style="text-align:justify">
+     * SHA-256 engine of the Java 17 layer, or null if it is not available.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    MultiBufferDigest SHA_256 = find("aslib.security.hash.VectorSha256");
+
+
+    /**
+     * <p style="text-align:justify">
+     * Calculates the digest of every message.
+     * </p>
+     *
+     * @param messages Messages that will be hashed.
+     *
+     * @return An array with the digests, in the same order of the messages.
+     *
+     * @throws NullPointerException If any message is null.
+     * @since 1.0.0
+     */
+    byte[][] digest(List<byte[]> messages)
+    throws NullPointerException;
+
+
+    /**
+     * <p style="text-align:justify">
+     * Looks up an implementation of the Java 17 layer.
+     * </p>
+     *
+     * @param name Name of the class of the implementation.
+     *
+     * @return An instance of the implementation, or null if the platform
+     * does not provide the Vector API.
+     *
+     * @since 1.0.0
+     */
+    private static MultiBufferDigest find(String name) {
+        try {
+            return (MultiBufferDigest) Class.forName(name)
+                                            .getDeclaredConstructor()
+                                            .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException ignored) {
+            // The callers fall back to the message digest of the platform
+            return null;
+        }
+    }
+}
@@ -1,22 +1,59 @@
 package aslib.security.hash;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * <p style="text-align:justify">
  * Handles the hash checksum generation from a {@link Path}.
  * </p>
  *
+ * <p style="text-align:justify">
+ * When the direct I/O mode is enabled, the file is opened with the
+ * {@code com.sun.nio.file.ExtendedOpenOption.DIRECT} option and read through
+ * block aligned direct buffers, bypassing the operating system page cache.
+ * The option is looked up by reflection, as it is not part of the standard
+ * API, so the {@code jdk.unsupported} module must be resolved, such as with
+ * {@code --add-modules jdk.unsupported} on the module path. If the platform
+ * does not provide it, or the file system does not support it, the file is
+ * read through the regular buffered stream.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * Byte ranges of a file are hashed with positional reads, so several ranges
+ * can be hashed concurrently over the same {@link FileChannel}. The ranged
+ * reads always use the regular buffered mode.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * BLAKE3 only hashes its chunks on many cores when it receives large pieces
+ * of input at once, so the files larger than its parallel threshold are read
+ * for it with the buffer size of the direct I/O.
+ * </p>
+ *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.2.0
  * @since 12.0.0
  */
 class PathGenerator implements Generator<Path> {
 
+    private static final int DIRECT_BUFFER_SIZE = 1024 * 1024;
+    private static final int RANGE_BUFFER_SIZE  = 64 * 1024;
+
+    private static final OpenOption DIRECT = findDirectOption();
+
+    private final boolean directIO;
+
+
     /**
      * <p style="text-align:justify">
      * Creates an instance of {@link PathGenerator} class.
@@ -24,7 +61,22 @@ class PathGenerator implements Generator<Path> {
      *
      * @since 1.0.0
      */
-    PathGenerator() {}
+    PathGenerator() {
+        this(false);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link PathGenerator} class.
+     * </p>
+     *
+     * @param directIO TRUE to read the files bypassing the page cache.
+     *
+     * @since 1.1.0
+     */
+    PathGenerator(boolean directIO) {
+        this.directIO = directIO;
+    }
 
 
     @Override
@@ -34,14 +86,96 @@ class PathGenerator implements Generator<Path> {
 
         MessageDigest messageDigest = createMessageDigest(algorithm);
 
-        try (InputStream stream = Files.newInputStream(input)) {
-            int    read;
-            int    size   = 1024;
-            byte[] buffer = new byte[size];
+        if (!directIO || !updateDirect(messageDigest, input)) {
+            messageDigest.reset();
+            updateBuffered(messageDigest, input);
+        }
 
-            while ((read = stream.read(buffer)) > -1) {
-                messageDigest.update(buffer, 0, read);
-            }
+        byte[] digest = messageDigest.digest();
+        return convertHexadecimalToString(digest);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of a byte range of the file. The bytes
+     * beyond the end of the file are ignored.
+     * </p>
+     *
+     * @param algorithm Algorithm used to generate the hash.
+     * @param input     File from which the hash will be generated.
+     * @param range     Range of the file that will be hashed.
+     *
+     * @return The hash checksum of the range.
+     *
+     * @throws NullPointerException If any parameters is null.
+     * @since 1.2.0
+     */
+    public String generate(String algorithm, Path input, FileRange range)
+    throws NullPointerException {
+        return generate(algorithm, input, Collections.singletonList(range)).get(0);
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of many byte ranges of the same file. The
+     * ranges are hashed concurrently, sharing a single {@link FileChannel}
+     * through positional reads. The bytes beyond the end of the file are
+     * ignored.
+     * </p>
+     *
+     * @param algorithm Algorithm used to generate the hashes.
+     * @param input     File from which the hashes will be generated.
+     * @param ranges    Ranges of the file that will be hashed.
+     *
+     * @return A list with the hash checksums in the same order of the ranges.
+     * If the file cannot be read, each range has the hash checksum of no
+     * bytes, as in {@link #generate(String, Path)}.
+     *
+     * @throws NullPointerException If any parameters is null.
+     * @since 1.2.0
+     */
+    public List<String> generate(String algorithm, Path input, List<FileRange> ranges)
+    throws NullPointerException {
+        if (algorithm == null) throw new NullPointerException("Algorithm cannot be null.");
+        if (input == null) throw new NullPointerException("Input cannot be null.");
+        if (ranges == null) throw new NullPointerException("Ranges cannot be null.");
+
+        // Fails before opening the file if the algorithm is not found
+        MessageDigest messageDigest = createMessageDigest(algorithm);
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            return ranges.parallelStream()
+                         .map(range -> generate(algorithm, channel, range))
+                         .collect(Collectors.toList());
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            String empty = convertHexadecimalToString(messageDigest.digest());
+            return Collections.nCopies(ranges.size(), empty);
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Generates the hash checksum of a byte range read from the channel.
+     * </p>
+     *
+     * @param algorithm Algorithm used to generate the hash.
+     * @param channel   Channel from which the range will be read.
+     * @param range     Range of the channel that will be hashed.
+     *
+     * @return The hash checksum of the range.
+     *
+     * @since 1.2.0
+     */
+    private String generate(String algorithm, FileChannel channel, FileRange range) {
+        if (range == null) throw new NullPointerException("Range cannot be null.");
+
+        MessageDigest messageDigest = createMessageDigest(algorithm);
+
+        try {
+            update(messageDigest, channel, range.offset(), range.length());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -49,4 +183,161 @@ class PathGenerator implements Generator<Path> {
         byte[] digest = messageDigest.digest();
         return convertHexadecimalToString(digest);
     }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Updates the message digest with the content of the file, reading it
+     * through the regular buffered reads.
+     * </p>
+     *
+     * @param messageDigest Message digest that will be updated.
+     * @param input         File that will be read.
+     *
+     * @since 1.1.0
+     */
+    private void updateBuffered(MessageDigest messageDigest, Path input) {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            update(messageDigest, channel, 0, Long.MAX_VALUE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Updates the message digest with a byte range read from the channel,
+     * with positional reads that do not move the position of the channel.
+     * The reading stops at the end of the range or of the file.
+     * </p>
+     *
+     * @param messageDigest Message digest that will be updated.
+     * @param channel       Channel from which the range will be read.
+     * @param offset        Position of the first byte of the range.
+     * @param length        Amount of bytes of the range.
+     *
+     * @throws IOException If the channel cannot be read.
+     * @since 1.2.0
+     */
+    void update(MessageDigest messageDigest, FileChannel channel, long offset, long length)
+    throws IOException {
+        int        size   = bufferSize(messageDigest, channel.size() - offset);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Math.max(1, length)));
+
+        long position = offset;
+        long end      = length > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + length;
+
+        while (position < end) {
+            buffer.clear()
+                  .limit((int) Math.min(buffer.capacity(), end - position));
+
+            int read = channel.read(buffer, position);
+            if (read < 0) break;
+
+            buffer.flip();
+            messageDigest.update(buffer);
+
+            position += read;
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Updates the message digest with the content of the file, reading it
+     * with direct I/O. The reads are made through a direct buffer aligned to
+     * the block size of the file store, as required by the operating system.
+     * </p>
+     *
+     * @param messageDigest Message digest that will be updated.
+     * @param input         File that will be read.
+     *
+     * @return FALSE if the direct I/O is not supported, in which case the
+     * message digest must be reset before reading the file again.
+     *
+     * @since 1.1.0
+     */
+    private boolean updateDirect(MessageDigest messageDigest, Path input) {
+        if (DIRECT == null) return false;
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ, DIRECT)) {
+            int blockSize = Math.toIntExact(Files.getFileStore(input).getBlockSize());
+            int size      = Math.max(blockSize, DIRECT_BUFFER_SIZE / blockSize * blockSize);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(size + blockSize)
+                                          .alignedSlice(blockSize);
+            buffer.limit(size);
+
+            /*
+             * The channel position must stay aligned to the block size, so the
+             * loop stops at the expected file size instead of issuing another
+             * read after the last partial block.
+             */
+            long remaining = channel.size();
+
+            while (remaining > 0) {
+                int read = channel.read(buffer);
+                if (read < 0) break;
+
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear().limit(size);
+
+                remaining -= read;
+            }
+
+            return true;
+        } catch (IOException | UnsupportedOperationException | ArithmeticException ignored) {
+            /*
+             * Thrown when the file system or the platform does not support
+             * direct I/O. The caller falls back to the buffered read, which
+             * reports the real I/O errors, if any.
+             */
+            return false;
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the size of the buffer of the positional reads. The BLAKE3 digest
+     * gets a buffer above its parallel threshold when the bytes available
+     * reach it, and the other algorithms get the regular buffer.
+     * </p>
+     *
+     * @param messageDigest Message digest that will be updated.
+     * @param available     Amount of bytes from the offset to the end of the
+     *                      file.
+     *
+     * @return The size of the buffer.
+     *
+     * @since 1.2.0
+     */
+    private static int bufferSize(MessageDigest messageDigest, long available) {
+        return messageDigest instanceof Blake3Digest && available >= Blake3Digest.PARALLEL_THRESHOLD
+               ? DIRECT_BUFFER_SIZE
+               : RANGE_BUFFER_SIZE;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Looks up the option of the direct I/O, which is only provided by some
+     * platforms.
+     * </p>
+     *
+     * @return The option, or null if the platform does not provide it.
+     *
+     * @since 1.1.0
+     */
+    private static OpenOption findDirectOption() {
+        try {
+            Class<?> options = Class.forName("com.sun.nio.file.ExtendedOpenOption");
+
+            for (Object option : options.getEnumConstants()) {
+                if (((Enum<?>) option).name().equals("DIRECT")) return (OpenOption) option;
+            }
+        } catch (ClassNotFoundException | LinkageError | ClassCastException ignored) {
+            // The caller falls back to the buffered read
+        }
+
+        return null;
+    }
 }
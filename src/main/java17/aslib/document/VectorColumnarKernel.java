@@ -0,0 +1,75 @@
+package aslib.document;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * Implementation of the {@link ColumnarKernel} over the Vector API. The digits
+ * of a group of rows are loaded as bytes, widened to an {@link IntVector} of
+ * the preferred size of the processor, such as 16 lanes with AVX-512, and
+ * multiplied and added to the sums at once. The rows past the last whole
+ * group run in a plain loop.
+ * </p>
+ *
+ * <p>
+ * The {@code jdk.incubator.vector} module must be resolved. The class fails to
+ * initialize otherwise, and {@link ColumnarKernel} falls back to the plain
+ * loop of the validator.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class VectorColumnarKernel implements ColumnarKernel {
+
+    private static final VectorSpecies<Integer> INTS;
+    private static final VectorSpecies<Byte>    BYTES;
+    private static final int                    LANES;
+
+    static {
+        // The module is only resolved on demand, and a named module must read it
+        Module vector = ModuleLayer.boot()
+                                   .findModule("jdk.incubator.vector")
+                                   .orElseThrow(() -> new UnsupportedOperationException("Vector API is not available."));
+        VectorColumnarKernel.class.getModule().addReads(vector);
+
+        INTS  = IntVector.SPECIES_PREFERRED;
+        BYTES = VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.vectorBitSize() / 4));
+        LANES = INTS.length();
+    }
+
+
+    /**
+     * <p>
+     * Creates an instance of {@link VectorColumnarKernel} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    VectorColumnarKernel() {}
+
+
+    @Override
+    public void multiplyAdd(byte[] column, int start, int weight, int[] sums, int size) {
+        int bound = size - size % LANES;
+        int r     = 0;
+
+        for (; r < bound; r += LANES) {
+            IntVector digits = (IntVector) ByteVector.fromArray(BYTES, column, start + r)
+                                                     .convertShape(VectorOperators.B2I, INTS, 0);
+
+            IntVector.fromArray(INTS, sums, r)
+                     .add(digits.mul(weight))
+                     .intoArray(sums, r);
+        }
+
+        for (; r < size; r++) {
+            sums[r] += column[start + r] * weight;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package aslib.security.hash;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p style="text-align:justify">
+ * Multi-buffer implementation of the SHA-256 algorithm over the Vector API.
+ * Each message is processed in a lane of an {@link IntVector} of the
+ * preferred size of the processor, such as 16 lanes with AVX-512, so every
+ * step of the compression function hashes a whole group of messages.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The messages are grouped by their amount of blocks before being assigned to
+ * the lanes, so lanes seldom idle while waiting for longer messages. The lanes
+ * whose message already ended are masked out of the state updates.
+ * </p>
+ *
+ * <p style="text-align:justify">
+ * The {@code jdk.incubator.vector} module must be resolved. The class fails to
+ * initialize otherwise, and {@link MultiBufferDigest} falls back to the
+ * message digest of the platform.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+final class VectorSha256 implements MultiBufferDigest {
+
+    private static final VectorSpecies<Integer> SPECIES;
+    private static final int                    LANES;
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final int[] H0 = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a,
+            0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+    };
+
+    private static final int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+    };
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        // The module is only resolved on demand, and a named module must read it
+        Module vector = ModuleLayer.boot()
+                                   .findModule("jdk.incubator.vector")
+                                   .orElseThrow(() -> new UnsupportedOperationException("Vector API is not available."));
+        VectorSha256.class.getModule().addReads(vector);
+
+        SPECIES = IntVector.SPECIES_PREFERRED;
+        LANES   = SPECIES.length();
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Creates an instance of {@link VectorSha256} class.
+     * </p>
+     *
+     * @since 1.0.0
+     */
+    VectorSha256() {}
+
+
+    /**
+     * <p style="text-align:justify">
+     * Gets the amount of 64 bytes blocks of the padded message.
+     * </p>
+     *
+     * @param length Length of the message.
+     *
+     * @return The amount of blocks.
+     *
+     * @since 1.0.0
+     */
+    private static int blocks(int length) {
+        return (length + 9 + 63) >>> 6;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Reads a big endian word of the padded message, producing the padding
+     * bytes past the end of the message.
+     * </p>
+     *
+     * @param message  Message being hashed.
+     * @param position Position of the word in the padded message.
+     * @param blocks   Amount of blocks of the padded message.
+     *
+     * @return The word of the padded message.
+     *
+     * @since 1.0.0
+     */
+    private static int word(byte[] message, int position, int blocks) {
+        int length = message.length;
+
+        if (position + 4 <= length) return (int) INT.get(message, position);
+
+        int  padded = blocks << 6;
+        long bits   = (long) length << 3;
+        int  word   = 0;
+
+        for (int i = position; i < position + 4; i++) {
+            int value;
+
+            if (i < length) value = message[i] & 0xff;
+            else if (i == length) value = 0x80;
+            else if (i >= padded - 8) value = (int) (bits >>> ((padded - 1 - i) << 3)) & 0xff;
+            else value = 0;
+
+            word = (word << 8) | value;
+        }
+
+        return word;
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Rotates the bits of every lane to the right.
+     * </p>
+     *
+     * @param vector   Vector that will be rotated.
+     * @param distance Distance of the rotation.
+     *
+     * @return The rotated vector.
+     *
+     * @since 1.0.0
+     */
+    private static IntVector ror(IntVector vector, int distance) {
+        return vector.lanewise(VectorOperators.LSHR, distance).or(vector.lanewise(VectorOperators.LSHL, 32 - distance));
+    }
+
+
+    @Override
+    public byte[][] digest(List<byte[]> messages)
+    throws NullPointerException {
+        int      count   = messages.size();
+        byte[][] digests = new byte[count][];
+
+        // Sorts the messages by block count, keeping the original index in the lower bits
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            byte[] message = messages.get(i);
+            if (message == null) throw new NullPointerException("Input cannot be null.");
+
+            order[i] = ((long) blocks(message.length) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        byte[][] group   = new byte[LANES][];
+        int[]    blocks  = new int[LANES];
+        int[]    indexes = new int[LANES];
+        int[]    w       = new int[64 * LANES];
+        int[]    state   = new int[8 * LANES];
+        int[]    as      = new int[68 * LANES];
+        int[]    es      = new int[68 * LANES];
+
+        for (int first = 0; first < count; first += LANES) {
+            int lanes = Math.min(LANES, count - first);
+
+            Arrays.fill(blocks, 0);
+            for (int l = 0; l < lanes; l++) {
+                indexes[l] = (int) order[first + l];
+                group[l]   = messages.get(indexes[l]);
+                blocks[l]  = blocks(group[l].length);
+            }
+
+            digestGroup(group, blocks, w, state, as, es);
+
+            for (int l = 0; l < lanes; l++) {
+                byte[] digest = new byte[DIGEST_LENGTH];
+                for (int i = 0; i < 8; i++) {
+                    INT.set(digest, i << 2, state[i * LANES + l]);
+                }
+                digests[indexes[l]] = digest;
+            }
+        }
+
+        return digests;
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * Hashes a group of messages, one per lane. The lanes without a message
+     * have no blocks. The final state of each lane is left in the state
+     * array, one vector per word.
+     * </p>
+     *
+     * @param group  Messages of the group.
+     * @param blocks Amount of blocks of the message of each lane.
+     * @param w      Scratch array of the message schedule.
+     * @param state  Receives the final state.
+     * @param as     Scratch array of the history of {@code a}.
+     * @param es     Scratch array of the history of {@code e}.
+     *
+     * @since 1.0.0
+     */
+    private void digestGroup(byte[][] group, int[] blocks, int[] w, int[] state, int[] as, int[] es) {
+        int maxBlocks = IntVector.fromArray(SPECIES, blocks, 0).reduceLanes(VectorOperators.MAX);
+
+        for (int i = 0; i < 8; i++) {
+            Arrays.fill(state, i * LANES, (i + 1) * LANES, H0[i]);
+        }
+
+        for (int block = 0; block < maxBlocks; block++) {
+            for (int l = 0; l < LANES; l++) {
+                if (block >= blocks[l]) {
+                    for (int t = 0; t < 16; t++) w[t * LANES + l] = 0;
+                    continue;
+                }
+
+                for (int t = 0; t < 16; t++) {
+                    w[t * LANES + l] = word(group[l], (block << 6) + (t << 2), blocks[l]);
+                }
+            }
+
+            schedule(w);
+            compress(w, state, as, es);
+
+            // Lanes whose message already ended keep the final state
+            VectorMask<Integer> active = IntVector.fromArray(SPECIES, blocks, 0).compare(VectorOperators.GT, block);
+
+            for (int i = 0; i < 4; i++) {
+                IntVector.fromArray(SPECIES, state, i * LANES)
+                         .add(IntVector.fromArray(SPECIES, as, (67 - i) * LANES), active)
+                         .intoArray(state, i * LANES);
+                IntVector.fromArray(SPECIES, state, (i + 4) * LANES)
+                         .add(IntVector.fromArray(SPECIES, es, (67 - i) * LANES), active)
+                         .intoArray(state, (i + 4) * LANES);
+            }
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Runs the 64 rounds of the compression function over the state of every
+     * lane. The working variables {@code b}, {@code c} and {@code d} are the
+     * previous values of {@code a}, as {@code f}, {@code g} and {@code h} are
+     * of {@code e}, so each round reads them from the history of {@code a}
+     * and {@code e} and writes only the new values. The vectors do not cross
+     * the iterations of the loop, which keeps them in registers.
+     * </p>
+     *
+     * @param w     Message schedule of every lane.
+     * @param state State of every lane.
+     * @param as    History of {@code a}, starting with {@code d}, {@code c},
+     *              {@code b} and {@code a} of the state.
+     * @param es    History of {@code e}, starting with {@code h}, {@code g},
+     *              {@code f} and {@code e} of the state.
+     *
+     * @since 1.0.0
+     */
+    private void compress(int[] w, int[] state, int[] as, int[] es) {
+        for (int i = 0; i < 4; i++) {
+            System.arraycopy(state, i * LANES, as, (3 - i) * LANES, LANES);
+            System.arraycopy(state, (i + 4) * LANES, es, (3 - i) * LANES, LANES);
+        }
+
+        for (int t = 0; t < 64; t++) {
+            IntVector a = IntVector.fromArray(SPECIES, as, (t + 3) * LANES);
+            IntVector b = IntVector.fromArray(SPECIES, as, (t + 2) * LANES);
+            IntVector c = IntVector.fromArray(SPECIES, as, (t + 1) * LANES);
+            IntVector d = IntVector.fromArray(SPECIES, as, t * LANES);
+            IntVector e = IntVector.fromArray(SPECIES, es, (t + 3) * LANES);
+            IntVector f = IntVector.fromArray(SPECIES, es, (t + 2) * LANES);
+            IntVector g = IntVector.fromArray(SPECIES, es, (t + 1) * LANES);
+            IntVector h = IntVector.fromArray(SPECIES, es, t * LANES);
+
+            IntVector s1  = ror(e, 6).lanewise(VectorOperators.XOR, ror(e, 11)).lanewise(VectorOperators.XOR, ror(e, 25));
+            IntVector ch  = e.and(f).lanewise(VectorOperators.XOR, e.not().and(g));
+            IntVector t1  = h.add(s1).add(ch).add(K[t]).add(IntVector.fromArray(SPECIES, w, t * LANES));
+            IntVector s0  = ror(a, 2).lanewise(VectorOperators.XOR, ror(a, 13)).lanewise(VectorOperators.XOR, ror(a, 22));
+            IntVector maj = a.and(b).lanewise(VectorOperators.XOR, a.and(c)).lanewise(VectorOperators.XOR, b.and(c));
+
+            t1.add(s0).add(maj).intoArray(as, (t + 4) * LANES);
+            d.add(t1).intoArray(es, (t + 4) * LANES);
+        }
+    }
+
+    /**
+     * <p style="text-align:justify">
+     * Expands the 16 words of the block of every lane into the 64 words of
+     * the message schedule.
+     * </p>
+     *
+     * @param w Message schedule, with the words of the block in the first 16
+     *          positions of every lane.
+     *
+     * @since 1.0.0
+     */
+    private void schedule(int[] w) {
+        for (int t = 16; t < 64; t++) {
+            IntVector w2  = IntVector.fromArray(SPECIES, w, (t - 2) * LANES);
+            IntVector w7  = IntVector.fromArray(SPECIES, w, (t - 7) * LANES);
+            IntVector w15 = IntVector.fromArray(SPECIES, w, (t - 15) * LANES);
+            IntVector w16 = IntVector.fromArray(SPECIES, w, (t - 16) * LANES);
+
+            IntVector s0 = ror(w15, 7).lanewise(VectorOperators.XOR, ror(w15, 18))
+                                      .lanewise(VectorOperators.XOR, w15.lanewise(VectorOperators.LSHR, 3));
+            IntVector s1 = ror(w2, 17).lanewise(VectorOperators.XOR, ror(w2, 19))
+                                      .lanewise(VectorOperators.XOR, w2.lanewise(VectorOperators.LSHR, 10));
+
+            s1.add(w7).add(s0).add(w16).intoArray(w, t * LANES);
+        }
+    }
+}
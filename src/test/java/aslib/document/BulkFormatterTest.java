@@ -0,0 +1,92 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BulkFormatter} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BulkFormatterTest {
+
+    private final KeyedDocument document  = BrazilianDocument.cpf();
+    private final BulkFormatter formatter = BulkFormatter.of(document);
+
+
+    // Large enough to be formatted in parallel
+    private List<String> createDocuments() {
+        return document.generate(10_000, 1L)
+                       .stream()
+                       .map(value -> value.replaceAll("\\D", ""))
+                       .collect(Collectors.toList());
+    }
+
+
+    @Test
+    @DisplayName("Format: Returns the documents formatted in the same order when value is an array")
+    void format_0() {
+        String[] documents = createDocuments().toArray(new String[0]);
+        String[] expected  = Arrays.stream(documents).map(document::format).toArray(String[]::new);
+
+        assertArrayEquals(expected, formatter.format(documents));
+    }
+
+    @Test
+    @DisplayName("Format: Returns the documents formatted in the same order when value is a linked list")
+    void format_1() {
+        List<String> documents = new LinkedList<>(createDocuments());
+        String[]     expected  = documents.stream().map(document::format).toArray(String[]::new);
+
+        assertArrayEquals(expected, formatter.format(documents));
+    }
+
+    @Test
+    @DisplayName("Format: Throws 'NullDocumentException' when any document is null")
+    void format_2() {
+        assertThrows(NullDocumentException.class, () -> formatter.format(new CharSequence[]{"10669419206", null}));
+    }
+
+    @Test
+    @DisplayName("FormatTo: Writes one formatted document per line")
+    void formatTo_0()
+    throws IOException {
+        List<String> documents = createDocuments();
+        StringWriter writer    = new StringWriter();
+
+        assertEquals(documents.size(), formatter.formatTo(documents, writer));
+        assertEquals(documents.stream().map(document::format).collect(Collectors.joining("\n", "", "\n")), writer.toString());
+    }
+
+    @Test
+    @DisplayName("FormatTo: Writes nothing when there are no documents")
+    void formatTo_1()
+    throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        assertEquals(0, formatter.formatTo(List.of(), builder));
+        assertEquals(0, builder.length());
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when document is null")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> BulkFormatter.of(null));
+    }
+}
@@ -0,0 +1,113 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BulkValidator} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BulkValidatorTest {
+
+    private final Document      document  = BrazilianDocument.cpf();
+    private final BulkValidator validator = BulkValidator.of(document);
+
+
+    // Large enough to be validated in parallel
+    private List<String> createDocuments() {
+        return IntStream.range(0, 10_000)
+                        .mapToObj(i -> i % 3 == 0 ? "106.694.192/07" : document.generate())
+                        .collect(Collectors.toList());
+    }
+
+    private BitSet expected(List<String> documents) {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < documents.size(); i++) {
+            if (document.isValid(documents.get(i))) expected.set(i);
+        }
+        return expected;
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when document is null")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> BulkValidator.of(null));
+    }
+
+
+    @Test
+    @DisplayName("Validate: Returns bits of the valid documents when value is an array")
+    void validate_0() {
+        BitSet expected = new BitSet();
+        expected.set(1);
+
+        assertEquals(expected, validator.validate(new String[]{"106.694.192/07", "106.694.192/06", ""}));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns bits of the valid documents when value is a large array")
+    void validate_1() {
+        List<String> documents = createDocuments();
+
+        assertEquals(expected(documents), validator.validate(documents.toArray(new String[0])));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns bits of the valid documents when value is a large list")
+    void validate_2() {
+        List<String> documents = createDocuments();
+
+        assertEquals(expected(documents), validator.validate(documents));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns bits of the valid documents when value is a list without random access")
+    void validate_3() {
+        List<String> documents = createDocuments();
+
+        assertEquals(expected(documents), validator.validate(new LinkedList<>(documents)));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns bits of the valid documents when value is a parallel stream")
+    void validate_4() {
+        List<String> documents = createDocuments();
+
+        assertEquals(expected(documents), validator.validate(documents.parallelStream()));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns empty BitSet when value is empty")
+    void validate_5() {
+        assertEquals(new BitSet(), validator.validate(Stream.empty()));
+    }
+
+    @Test
+    @DisplayName("Validate: Throws 'NullDocumentException' when any document is null")
+    void validate_6() {
+        assertThrows(NullDocumentException.class, () -> validator.validate(new String[]{"106.694.192/06", null}));
+    }
+
+    @Test
+    @DisplayName("Validate: Throws 'NullPointerException' when value is null")
+    void validate_7() {
+        assertThrows(NullPointerException.class, () -> validator.validate((String[]) null));
+    }
+}
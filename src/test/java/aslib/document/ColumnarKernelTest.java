@@ -0,0 +1,65 @@
+package aslib.document;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link ColumnarKernel} interface. The implementation is only
+ * tested when the {@code jdk.incubator.vector} module is resolved.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class ColumnarKernelTest {
+
+    private static boolean vector;
+
+
+    @BeforeAll
+    static void findVector() {
+        vector = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+
+    @Test
+    @DisplayName("Vector: Is available when the Vector API is resolved")
+    void vector_0() {
+        assumeTrue(vector);
+        assertNotNull(ColumnarKernel.VECTOR);
+    }
+
+    @Test
+    @DisplayName("MultiplyAdd: Returns the same sums of the plain loop for every size")
+    void multiplyAdd_0() {
+        assumeTrue(vector);
+
+        Random random = new Random(50);
+        byte[] column = new byte[200];
+        random.nextBytes(column);
+
+        // Sizes around the amount of lanes, from an unaligned start
+        for (int size = 0; size <= 130; size++) {
+            int[] expected = new int[size];
+            int[] sums     = new int[size];
+
+            for (int r = 0; r < size; r++) {
+                expected[r] = r + column[3 + r] * 7;
+                sums[r]     = r;
+            }
+
+            ColumnarKernel.VECTOR.multiplyAdd(column, 3, 7, sums, size);
+
+            assertArrayEquals(expected, sums, "Size " + size);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link ColumnarValidator} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class ColumnarValidatorTest {
+
+    private static final List<KeyedDocument> documents = List.of(BrazilianDocument.cpf(), BrazilianDocument.cnpj(),
+                                                                 BrazilianDocument.pis(), BrazilianDocument.rg(),
+                                                                 BrazilianDocument.voterTitle());
+
+
+    private static byte[][] columns(int length, long[] keys) {
+        byte[][] columns = new byte[length][keys.length];
+
+        for (int row = 0; row < keys.length; row++) {
+            for (int position = 0; position < length; position++) {
+                columns[position][row] = (byte) (keys[row] >>> ((length - 1 - position) << 2) & 0xF);
+            }
+        }
+
+        return columns;
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws exceptions when the document is not supported")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> ColumnarValidator.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarValidator.of(BrazilianDocument.alphanumericCnpj()));
+    }
+
+    @Test
+    @DisplayName("Calculate: Writes the same verification digits as the documents generated")
+    void calculate_0() {
+        for (KeyedDocument document : documents) {
+            int      length   = ((CompiledDocument) document).length();
+            int      digits   = length - ((CompiledDocument) document).verificationDigits();
+            long[]   keys     = document.generate(10_000, 1L).stream().mapToLong(document::parseKey).toArray();
+            byte[][] expected = columns(length, keys);
+            byte[][] columns  = columns(length, keys);
+
+            for (int position = digits; position < length; position++) {
+                Arrays.fill(columns[position], (byte) 0);
+            }
+
+            ColumnarValidator.of(document).calculate(columns, 0, keys.length);
+
+            assertArrayEquals(expected, columns);
+        }
+    }
+
+    @Test
+    @DisplayName("Calculate: Throws 'IllegalArgumentException' when a digit is not from 0 to 9")
+    void calculate_1() {
+        ColumnarValidator validator = ColumnarValidator.of(BrazilianDocument.cpf());
+        byte[][]          columns   = new byte[11][3];
+
+        columns[4][2] = 10;
+
+        assertThrows(IllegalArgumentException.class, () -> validator.calculate(columns, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> validator.calculate(new byte[10][3], 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.calculate(columns, 1, 3));
+        assertThrows(NullPointerException.class, () -> validator.calculate(null, 0, 3));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns the same result as the validation of each key")
+    void validate_0() {
+        for (KeyedDocument document : documents) {
+            int    length = ((CompiledDocument) document).length();
+            long[] keys   = document.generate(10_000, 2L).stream().mapToLong(document::parseKey).toArray();
+
+            // Every third document gets a digit changed
+            for (int row = 0; row < keys.length; row += 3) {
+                keys[row] ^= 1L << ((row % length) << 2);
+            }
+
+            BitSet expected = new BitSet();
+            for (int row = 0; row < keys.length; row++) {
+                if (document.isValidKey(keys[row])) expected.set(row);
+            }
+
+            assertEquals(expected, ColumnarValidator.of(document).validate(columns(length, keys), 0, keys.length));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate: Sets the bits from the first row of the range")
+    void validate_1() {
+        KeyedDocument document = BrazilianDocument.cpf();
+        long[]        keys     = {document.parseKey("106.694.192/07"), document.parseKey("106.694.192/06"), 0x11111111111L};
+        BitSet        result   = ColumnarValidator.of(document).validate(columns(11, keys), 1, 2);
+
+        assertEquals(BitSet.valueOf(new long[]{1}), result);
+    }
+
+    @Test
+    @DisplayName("Validate: Returns false for the rows with values that are not digits")
+    void validate_2() {
+        KeyedDocument document = BrazilianDocument.cpf();
+        long          valid    = document.parseKey("106.694.192/06");
+        long[]        keys     = new long[8];
+
+        Arrays.fill(keys, valid);
+
+        byte[][] columns = columns(11, keys);
+        columns[0][0]  = -1;
+        columns[4][1]  = 10;
+        columns[8][2]  = Byte.MIN_VALUE;
+        columns[9][3]  = -1;
+        columns[9][4]  = 12;
+        columns[10][5] = -7;
+        columns[10][6] = Byte.MAX_VALUE;
+
+        assertEquals(BitSet.valueOf(new long[]{1L << 7}), ColumnarValidator.of(document).validate(columns, 0, keys.length));
+    }
+}
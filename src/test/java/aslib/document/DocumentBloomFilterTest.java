@@ -0,0 +1,161 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentBloomFilter} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentBloomFilterTest {
+
+    private static final KeyedDocument cpf  = BrazilianDocument.cpf();
+    private static final KeyedDocument cnpj = BrazilianDocument.cnpj();
+
+    private static Path path;
+
+
+    @BeforeAll
+    static void createFile() {
+        try {
+            path = Files.createTempFile("aslib_", "_tempfile");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @AfterAll
+    static void deleteFile() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Add: Returns 'true' the first time and 'false' the next times a document is added")
+    void add_0() {
+        DocumentBloomFilter filter = DocumentBloomFilter.of(1000, 0.01, cpf);
+
+        assertTrue(filter.add("106.694.192/06"));
+        assertFalse(filter.add("10669419206"));
+    }
+
+    @Test
+    @DisplayName("Add: Returns 'false' when the document is not valid")
+    void add_1() {
+        DocumentBloomFilter filter = DocumentBloomFilter.of(1000, 0.01, cpf);
+
+        assertFalse(filter.add("106.694.192/07"));
+        assertFalse(filter.mightContain("106.694.192/07"));
+    }
+
+    @Test
+    @DisplayName("MightContain: Returns 'true' for every document added by many threads")
+    void mightContain_0() {
+        DocumentBloomFilter filter    = DocumentBloomFilter.of(100_000, 0.01, cpf, cnpj);
+        List<String>        documents = cpf.generate(50_000, 1L);
+        documents.addAll(cnpj.generate(50_000, 2L));
+
+        documents.parallelStream().forEach(filter::add);
+
+        assertTrue(documents.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    @DisplayName("MightContain: Returns 'true' for at most the false positive rate of the documents not added")
+    void mightContain_1() {
+        DocumentBloomFilter filter = DocumentBloomFilter.of(100_000, 0.01, cpf);
+        Set<String>         added  = new HashSet<>(cpf.generate(100_000, 3L));
+        added.forEach(filter::add);
+
+        long falsePositives = cpf.generate(100_000, 4L)
+                                 .stream()
+                                 .filter(document -> !added.contains(document))
+                                 .filter(filter::mightContain)
+                                 .count();
+
+        // 1% of the documents, with room for the sampling error only
+        assertTrue(falsePositives < 1100, "False positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("MightContain: Returns 'true' when the region of the text is an added document")
+    void mightContain_2() {
+        DocumentBloomFilter filter = DocumentBloomFilter.of(1000, 0.01, cpf);
+        filter.add("106.694.192/06");
+
+        assertTrue(filter.mightContain("id;106.694.192/06;end", 3, 14));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the false positive rate is not between 0 and 1")
+    void of_0() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentBloomFilter.of(1000, 0, cpf));
+        assertThrows(IllegalArgumentException.class, () -> DocumentBloomFilter.of(1000, 1, cpf));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the expected amount is not positive")
+    void of_1() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentBloomFilter.of(0, 0.01, cpf));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the alphanumeric CNPJ is mixed with other documents")
+    void of_2() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentBloomFilter.of(1000, 0.01, BrazilianDocument.alphanumericCnpj(), cpf));
+    }
+
+    @Test
+    @DisplayName("Read: Returns the same filter that was written")
+    void read_0() {
+        DocumentBloomFilter filter    = DocumentBloomFilter.of(10_000, 0.01, cpf);
+        List<String>        documents = cpf.generate(10_000, 5L);
+        documents.forEach(filter::add);
+
+        filter.write(path);
+        Optional<DocumentBloomFilter> read = DocumentBloomFilter.read(path, cpf);
+
+        assertTrue(read.isPresent());
+        assertEquals(filter.size(), read.get().size());
+        assertTrue(documents.stream().allMatch(read.get()::mightContain));
+    }
+
+    @Test
+    @DisplayName("Read: Returns an empty Optional when the amount of documents does not match")
+    void read_1() {
+        DocumentBloomFilter.of(1000, 0.01, cpf).write(path);
+
+        assertTrue(DocumentBloomFilter.read(path, cpf, cnpj).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read: Returns an empty Optional when the file does not exist")
+    void read_2() {
+        assertTrue(DocumentBloomFilter.read(Path.of("missing_file"), cpf).isEmpty());
+    }
+}
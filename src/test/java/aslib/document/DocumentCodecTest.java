@@ -0,0 +1,138 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentCodec} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentCodecTest {
+
+    private static final KeyedDocument cpf  = BrazilianDocument.cpf();
+    private static final KeyedDocument cnpj = BrazilianDocument.cnpj();
+    private static final KeyedDocument rg   = BrazilianDocument.rg();
+
+
+    @Test
+    @DisplayName("Decode: Returns the documents formatted in the order they were encoded")
+    void decode_0() {
+        for (KeyedDocument document : List.of(cpf, cnpj, rg, BrazilianDocument.pis(), BrazilianDocument.voterTitle())) {
+            DocumentCodec codec     = DocumentCodec.of(document);
+            List<String>  documents = document.generate(1000, 1L);
+            ByteBuffer    buffer    = ByteBuffer.allocate(documents.size() * codec.width());
+
+            codec.encode(documents, buffer);
+
+            assertEquals(documents, codec.decode(buffer.flip()));
+        }
+    }
+
+    @Test
+    @DisplayName("Decode: Does not read the bytes after the last complete document")
+    void decode_1() {
+        DocumentCodec codec  = DocumentCodec.of(cpf);
+        ByteBuffer    buffer = ByteBuffer.allocate(10);
+
+        codec.encode("106.694.192/06", buffer);
+        buffer.put((byte) 1).flip();
+
+        assertEquals(List.of("106.694.192/06"), codec.decode(buffer));
+        assertEquals(1, buffer.remaining());
+    }
+
+    @Test
+    @DisplayName("Decode: Throws 'IllegalArgumentException' when the bytes are not a valid document")
+    void decode_2() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x01, 0x06, 0x69, 0x41, (byte) 0x92, 0x07});
+
+        assertThrows(IllegalArgumentException.class, () -> DocumentCodec.of(cpf).decode(buffer));
+    }
+
+    @Test
+    @DisplayName("DecodeKey: Returns the key, or '-1' when the bytes are not a valid key")
+    void decodeKey_0() {
+        DocumentCodec codec  = DocumentCodec.of(cpf);
+        ByteBuffer    buffer = ByteBuffer.wrap(new byte[]{0x01, 0x06, 0x69, 0x41, (byte) 0x92, 0x06, 0x0A, 0x06, 0x69, 0x41, (byte) 0x92, 0x06});
+
+        assertEquals(0x106_694_192_06L, codec.decodeKey(buffer));
+        assertEquals(-1, codec.decodeKey(buffer));
+        assertThrows(BufferUnderflowException.class, () -> codec.decodeKey(buffer));
+    }
+
+    @Test
+    @DisplayName("Encode: Writes one digit per nibble, first digit first, in any byte order")
+    void encode_0() {
+        ByteBuffer buffer = ByteBuffer.allocate(7).order(ByteOrder.LITTLE_ENDIAN);
+
+        DocumentCodec.of(cnpj).encode("11.444.777/0001-61", buffer);
+
+        assertArrayEquals(new byte[]{0x11, 0x44, 0x47, 0x77, 0x00, 0x01, 0x61}, buffer.array());
+    }
+
+    @Test
+    @DisplayName("Encode: Writes the symbol for ten as the nibble 10")
+    void encode_1() {
+        DocumentCodec codec  = DocumentCodec.of(rg);
+        ByteBuffer    buffer = ByteBuffer.allocate(codec.width());
+
+        codec.encode("10.000.006-X", buffer);
+
+        assertEquals(5, codec.width());
+        assertArrayEquals(new byte[]{0x01, 0x00, 0x00, 0x00, 0x6A}, buffer.array());
+        assertEquals(List.of("10.000.006-X"), codec.decode(buffer.flip()));
+    }
+
+    @Test
+    @DisplayName("Encode: Leaves the buffer untouched when any of the documents is not valid")
+    void encode_2() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> DocumentCodec.of(cpf).encode(List.of("106.694.192/06", "106.694.192/07"), buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    @DisplayName("Encode: Throws 'BufferOverflowException' when the buffer has no room for the documents")
+    void encode_3() {
+        assertThrows(BufferOverflowException.class,
+                     () -> DocumentCodec.of(cpf).encode(List.of("106.694.192/06", "10669419206"), ByteBuffer.allocate(11)));
+    }
+
+    @Test
+    @DisplayName("Width: Returns half the amount of digits, rounded up")
+    void width_0() {
+        assertEquals(6, DocumentCodec.of(cpf).width());
+        assertEquals(7, DocumentCodec.of(cnpj).width());
+        assertEquals(6, DocumentCodec.of(BrazilianDocument.voterTitle()).width());
+    }
+
+    @Test
+    @DisplayName("Width: Returns the bytes of the keys of the documents that are not compiled")
+    void width_1() {
+        DocumentCodec codec  = DocumentCodec.of(BrazilianDocument.alphanumericCnpj());
+        ByteBuffer    buffer = ByteBuffer.allocate(codec.width());
+
+        codec.encode(List.of("8R.C4Y.P56/OMIU-76"), buffer);
+
+        assertEquals(8, codec.width());
+        assertEquals(List.of("8R.C4Y.P56/OMIU-76"), codec.decode(buffer.flip()));
+    }
+}
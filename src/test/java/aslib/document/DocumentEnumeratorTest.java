@@ -0,0 +1,123 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentEnumerator} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentEnumeratorTest {
+
+    private static final List<KeyedDocument> documents = List.of(BrazilianDocument.cpf(), BrazilianDocument.cnpj(),
+                                                                 BrazilianDocument.pis(), BrazilianDocument.rg(),
+                                                                 BrazilianDocument.voterTitle());
+
+
+    private static long[] expected(KeyedDocument document, long from, long to) {
+        CompiledDocument compiled = (CompiledDocument) document;
+        int              digits   = compiled.length() - compiled.verificationDigits();
+
+        return LongStream.range(from, to)
+                         .map(number -> compiled.complete(CompiledDocument.pack(number, digits)))
+                         .filter(compiled::isValid)
+                         .toArray();
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws exceptions when the document is not supported")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> DocumentEnumerator.of(null));
+        assertThrows(IllegalArgumentException.class, () -> DocumentEnumerator.of(BrazilianDocument.alphanumericCnpj()));
+    }
+
+    @Test
+    @DisplayName("Keys: Returns the same keys as the validation of each base, in ascending order")
+    void keys_0() {
+        for (KeyedDocument document : documents) {
+            // The range crosses many carries of the digits
+            long[] keys = DocumentEnumerator.of(document).range(9_990_000L, 10_010_000L).keys().toArray();
+
+            assertArrayEquals(expected(document, 9_990_000L, 10_010_000L), keys);
+            assertTrue(LongStream.of(keys).allMatch(document::isValidKey));
+        }
+    }
+
+    @Test
+    @DisplayName("Keys: Returns the same keys in parallel streams")
+    void keys_1() {
+        for (KeyedDocument document : documents) {
+            DocumentEnumerator enumerator = DocumentEnumerator.of(document).range(5_000_000L, 5_200_000L);
+
+            assertArrayEquals(expected(document, 5_000_000L, 5_200_000L), enumerator.keys().parallel().toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Keys: Returns nothing when the range is empty or out of the bases")
+    void keys_2() {
+        DocumentEnumerator enumerator = DocumentEnumerator.of(BrazilianDocument.cpf());
+
+        assertEquals(0, enumerator.range(10, 10).keys().count());
+        assertEquals(0, enumerator.range(1_000_000_000L, 2_000_000_000L).keys().count());
+        assertEquals(0, enumerator.range(0, 100).range(200, 300).keys().count());
+        assertThrows(IllegalArgumentException.class, () -> enumerator.range(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> enumerator.range(10, 9));
+    }
+
+    @Test
+    @DisplayName("Prefix: Returns the documents of a CNPJ root")
+    void prefix_0() {
+        KeyedDocument cnpj      = BrazilianDocument.cnpj();
+        List<String>  documents = DocumentEnumerator.of(cnpj).prefix("11.222.333").documents().collect(Collectors.toList());
+
+        assertEquals(10_000, documents.size());
+        assertEquals("11.222.333/0001-81", documents.get(1));
+        assertTrue(documents.stream().allMatch(document -> document.startsWith("11.222.333/") && cnpj.isValid(document)));
+        assertThrows(IllegalArgumentException.class, () -> DocumentEnumerator.of(cnpj).prefix("11a"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentEnumerator.of(cnpj).prefix("112223330001"));
+    }
+
+    @Test
+    @DisplayName("Prefix: Returns nothing when the prefix is out of the range")
+    void prefix_1() {
+        DocumentEnumerator range = DocumentEnumerator.of(BrazilianDocument.cpf()).range(500_000_000L, 600_000_000L);
+
+        assertEquals(0, range.prefix("1").spliterator().estimateSize());
+        assertEquals(0, range.prefix("1").keys().count());
+        assertEquals(0, range.prefix("7").spliterator().estimateSize());
+        assertEquals(10_000_000, range.prefix("55").spliterator().estimateSize());
+    }
+
+    @Test
+    @DisplayName("Spliterator: Splits the range in halves until they are small")
+    void spliterator_0() {
+        Spliterator.OfLong suffix = DocumentEnumerator.of(BrazilianDocument.cpf()).range(0, 4096).spliterator();
+        Spliterator.OfLong prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(2048, prefix.estimateSize());
+        assertEquals(2048, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT));
+        assertNull(DocumentEnumerator.of(BrazilianDocument.cpf()).range(0, 100).spliterator().trySplit());
+    }
+}
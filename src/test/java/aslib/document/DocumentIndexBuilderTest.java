@@ -0,0 +1,151 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentIndexBuilder} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentIndexBuilderTest {
+
+    private static final KeyedDocument cpf  = BrazilianDocument.cpf();
+    private static final KeyedDocument cnpj = BrazilianDocument.cnpj();
+
+    private static Path directory;
+    private static Path input;
+    private static Path output;
+
+
+    @BeforeAll
+    static void createFiles() {
+        StringBuilder content = new StringBuilder();
+
+        for (String document : cpf.generate(1000, 1L)) content.append(document).append('\n');
+        for (String document : cnpj.generate(1000, 2L)) content.append(document).append("\r\n");
+
+        content.append("106.694.192/07\n\n106.694.192/06\n10669419206");
+
+        try {
+            directory = Files.createTempDirectory("aslib_");
+            input     = Files.createTempFile("aslib_", "_tempfile");
+            output    = Files.createTempFile("aslib_", "_tempfile");
+
+            Files.writeString(input, content, StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @AfterAll
+    static void deleteFiles() {
+        try {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Add: Returns 'false' when the document is not valid for any type")
+    void add_0() {
+        DocumentIndexBuilder builder = DocumentIndexBuilder.of(cpf, cnpj);
+
+        assertTrue(builder.add("106.694.192/06"));
+        assertFalse(builder.add("106.694.192/07"));
+        assertThrows(NullDocumentException.class, () -> builder.add(null));
+    }
+
+    @Test
+    @DisplayName("Build: Writes every document once when they are merged from many runs")
+    void build_0() {
+        List<String> documents = cpf.generate(20_000, 3L);
+
+        DocumentIndexBuilder builder = DocumentIndexBuilder.of(cpf)
+                                                           .temporaryDirectory(directory)
+                                                           .runSize(1000);
+
+        // Each document twice, in different runs
+        Stream.concat(documents.stream(), documents.stream()).forEach(builder::add);
+
+        assertTrue(builder.build(output));
+
+        DocumentIndex index = DocumentIndex.open(output, cpf).orElseThrow();
+
+        assertEquals(documents.stream().distinct().count(), index.size());
+        assertTrue(documents.stream().allMatch(index::contains));
+    }
+
+    @Test
+    @DisplayName("Build: Removes the temporary files of the runs")
+    void build_1()
+    throws IOException {
+        DocumentIndexBuilder builder = DocumentIndexBuilder.of(cpf)
+                                                           .temporaryDirectory(directory)
+                                                           .runSize(100);
+
+        cpf.generate(1000, 4L).forEach(builder::add);
+        builder.build(output);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Build: Writes an empty index when no document was added")
+    void build_2() {
+        assertTrue(DocumentIndexBuilder.of(cpf).build(output));
+        assertEquals(0, DocumentIndex.open(output, cpf).orElseThrow().size());
+        assertFalse(DocumentIndex.open(output, cpf).orElseThrow().contains("106.694.192/06"));
+    }
+
+    @Test
+    @DisplayName("Load: Returns the amount of valid documents of the file")
+    void load_0() {
+        DocumentIndexBuilder builder = DocumentIndexBuilder.of(cpf, cnpj).runSize(300);
+
+        assertEquals(2002, builder.load(input));
+        assertTrue(builder.build(output));
+
+        DocumentIndex index = DocumentIndex.open(output, cpf, cnpj).orElseThrow();
+
+        assertTrue(index.contains("10669419206"));
+        assertTrue(cnpj.generate(1000, 2L).stream().allMatch(index::contains));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when a document is null")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> DocumentIndexBuilder.of(cpf, null));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the alphanumeric CNPJ is mixed with other documents")
+    void of_1() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentIndexBuilder.of(BrazilianDocument.alphanumericCnpj(), cpf));
+    }
+}
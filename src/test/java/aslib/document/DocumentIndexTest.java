@@ -0,0 +1,137 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentIndex} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentIndexTest {
+
+    private static final KeyedDocument cpf  = BrazilianDocument.cpf();
+    private static final KeyedDocument cnpj = BrazilianDocument.cnpj();
+
+    private static final List<String> cpfs  = cpf.generate(5000, 1L);
+    private static final List<String> cnpjs = cnpj.generate(5000, 2L);
+
+    private static Path path;
+
+
+    @BeforeAll
+    static void createFile() {
+        DocumentIndexBuilder builder = DocumentIndexBuilder.of(cpf, cnpj);
+
+        cpfs.forEach(builder::add);
+        cnpjs.forEach(builder::add);
+
+        try {
+            path = Files.createTempFile("aslib_", "_tempfile");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        builder.build(path);
+    }
+
+    @AfterAll
+    static void deleteFile() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Contains: Returns 'true' for every document of the index")
+    void contains_0() {
+        DocumentIndex index = DocumentIndex.open(path, cpf, cnpj).orElseThrow();
+
+        assertTrue(cpfs.stream().allMatch(index::contains));
+        assertTrue(cnpjs.stream().allMatch(index::contains));
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'false' when the document is not in the index")
+    void contains_1() {
+        DocumentIndex index = DocumentIndex.open(path, cpf, cnpj).orElseThrow();
+
+        assertFalse(cpf.generate(1000, 3L).stream().filter(document -> !cpfs.contains(document)).anyMatch(index::contains));
+        assertFalse(index.contains("106.694.192/07"));
+        assertFalse(index.contains(""));
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'true' when the region of the text is a document of the index")
+    void contains_2() {
+        DocumentIndex index    = DocumentIndex.open(path, cpf, cnpj).orElseThrow();
+        String        document = cnpjs.get(0);
+
+        assertTrue(index.contains("id;" + document + ";end", 3, document.length()));
+    }
+
+    @Test
+    @DisplayName("Contains: Throws 'NullDocumentException' when the document is null")
+    void contains_3() {
+        DocumentIndex index = DocumentIndex.open(path, cpf, cnpj).orElseThrow();
+
+        assertThrows(NullDocumentException.class, () -> index.contains(null));
+    }
+
+    @Test
+    @DisplayName("Open: Returns an empty Optional when the file does not exist")
+    void open_0() {
+        assertTrue(DocumentIndex.open(path.resolveSibling(path.getFileName() + "_missing"), cpf).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Open: Returns an empty Optional when the amount of documents is not the one of the file")
+    void open_1() {
+        assertTrue(DocumentIndex.open(path, cpf).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Open: Throws 'IllegalArgumentException' when there are more than 8 documents")
+    void open_2() {
+        KeyedDocument[] documents = new KeyedDocument[9];
+        Arrays.fill(documents, cpf);
+
+        assertThrows(IllegalArgumentException.class, () -> DocumentIndex.open(path, documents));
+    }
+
+    @Test
+    @DisplayName("Open: Throws 'IllegalArgumentException' when the alphanumeric CNPJ is mixed with other documents")
+    void open_3() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentIndex.open(path, BrazilianDocument.alphanumericCnpj(), cpf));
+    }
+
+    @Test
+    @DisplayName("Size: Returns the amount of distinct documents of the index")
+    void size_0() {
+        DocumentIndex index    = DocumentIndex.open(path, cpf, cnpj).orElseThrow();
+        long          expected = cpfs.stream().distinct().count() + cnpjs.stream().distinct().count();
+
+        assertEquals(expected, index.size());
+    }
+}
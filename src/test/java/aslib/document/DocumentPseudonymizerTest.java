@@ -0,0 +1,135 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentPseudonymizer} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentPseudonymizerTest {
+
+    private static final byte[] key      = "0123456789abcdef".getBytes();
+    private static final byte[] otherKey = "fedcba9876543210".getBytes();
+
+    private static final List<KeyedDocument> documents = List.of(BrazilianDocument.cpf(), BrazilianDocument.cnpj(),
+                                                                 BrazilianDocument.pis(), BrazilianDocument.rg(),
+                                                                 BrazilianDocument.voterTitle());
+
+
+    @Test
+    @DisplayName("Of: Throws exceptions when the document or the key are not supported")
+    void of_0() {
+        KeyedDocument document = BrazilianDocument.cpf();
+
+        assertThrows(NullPointerException.class, () -> DocumentPseudonymizer.of(null, key));
+        assertThrows(NullPointerException.class, () -> DocumentPseudonymizer.of(document, null));
+        assertThrows(IllegalArgumentException.class, () -> DocumentPseudonymizer.of(document, new byte[15]));
+        assertThrows(IllegalArgumentException.class, () -> DocumentPseudonymizer.of(BrazilianDocument.alphanumericCnpj(), key));
+    }
+
+    @Test
+    @DisplayName("Pseudonymize: Returns a different valid document that depends on the key")
+    void pseudonymize_0() {
+        for (KeyedDocument document : documents) {
+            DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(document, key);
+            DocumentPseudonymizer other         = DocumentPseudonymizer.of(document, otherKey);
+
+            for (String value : document.generate(200, 1L)) {
+                String pseudonym = pseudonymizer.pseudonymize(value);
+
+                assertTrue(document.isValid(pseudonym), pseudonym);
+                assertNotEquals(value, pseudonym);
+                assertEquals(pseudonym, DocumentPseudonymizer.of(document, key).pseudonymize(value));
+                assertNotEquals(pseudonym, other.pseudonymize(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pseudonymize: Gives distinct pseudonyms to distinct documents")
+    void pseudonymize_1() {
+        for (KeyedDocument document : documents) {
+            DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(document, key);
+            long[]                keys          = document.generate(20_000, 2L).stream().mapToLong(document::parseKey).distinct().toArray();
+
+            pseudonymizer.pseudonymize(keys, 0, keys.length);
+
+            assertEquals(keys.length, Arrays.stream(keys).distinct().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Pseudonymize: Replaces the keys of the region in place, and the invalid keys with -1")
+    void pseudonymize_2() {
+        KeyedDocument         document      = BrazilianDocument.cpf();
+        DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(document, key);
+        long                  valid         = document.parseKey("106.694.192/06");
+        long[]                keys          = {7, valid, 0x11111111111L, 0x10669419207L, 7};
+
+        assertEquals(1, pseudonymizer.pseudonymize(keys, 1, 3));
+        assertArrayEquals(new long[]{7, pseudonymizer.pseudonymizeKey(valid), -1, -1, 7}, keys);
+        assertThrows(IndexOutOfBoundsException.class, () -> pseudonymizer.pseudonymize(keys, 3, 3));
+        assertThrows(NullPointerException.class, () -> pseudonymizer.pseudonymize(null, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Pseudonymize: Throws 'IllegalArgumentException' when the document is not valid")
+    void pseudonymize_3() {
+        DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(BrazilianDocument.cpf(), key);
+
+        assertThrows(IllegalArgumentException.class, () -> pseudonymizer.pseudonymize("106.694.192/07"));
+        assertThrows(NullDocumentException.class, () -> pseudonymizer.pseudonymize((CharSequence) null));
+        assertEquals(-1, pseudonymizer.pseudonymizeKey(0x11111111111L));
+    }
+
+    @Test
+    @DisplayName("Pseudonymize: Returns the same pseudonyms as each key when the region spans many blocks")
+    void pseudonymize_4() {
+        KeyedDocument         document      = BrazilianDocument.cnpj();
+        DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(document, key);
+        long[]                original      = document.generate(10_000, 4L).stream().mapToLong(document::parseKey).toArray();
+        long[]                keys          = original.clone();
+
+        assertEquals(keys.length - 1, pseudonymizer.pseudonymize(keys, 1, keys.length - 1));
+        assertEquals(original[0], keys[0]);
+
+        for (int i = 1; i < keys.length; i++) {
+            assertEquals(pseudonymizer.pseudonymizeKey(original[i]), keys[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Restore: Returns the original documents from their pseudonyms")
+    void restore_0() {
+        for (KeyedDocument document : documents) {
+            DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(document, key);
+            long[]                original      = document.generate(20_000, 3L).stream().mapToLong(document::parseKey).toArray();
+            long[]                keys          = original.clone();
+
+            assertEquals(keys.length, pseudonymizer.pseudonymize(keys, 0, keys.length));
+            assertEquals(keys.length, pseudonymizer.restore(keys, 0, keys.length));
+            assertArrayEquals(original, keys);
+        }
+
+        DocumentPseudonymizer pseudonymizer = DocumentPseudonymizer.of(BrazilianDocument.cpf(), key);
+
+        assertEquals("106.694.192/06", pseudonymizer.restore(pseudonymizer.pseudonymize("10669419206")));
+        assertThrows(IllegalArgumentException.class, () -> pseudonymizer.restore("106.694.192/07"));
+    }
+}
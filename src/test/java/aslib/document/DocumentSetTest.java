@@ -0,0 +1,194 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentSet} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentSetTest {
+
+    private static final KeyedDocument cpf  = BrazilianDocument.cpf();
+    private static final KeyedDocument cnpj = BrazilianDocument.cnpj();
+
+    private static Path path;
+
+
+    @BeforeAll
+    static void createFile() {
+        StringBuilder content = new StringBuilder();
+
+        for (String document : cpf.generate(1000, 1L)) content.append(document).append('\n');
+        for (String document : cnpj.generate(1000, 2L)) content.append(document).append("\r\n");
+
+        // Invalid, empty, duplicated and longer than the buffer
+        content.append("106.694.192/07\n\n106.694.192/06\n")
+               .append("1".repeat(100_000)).append('\n')
+               .append("10669419206");
+
+        try {
+            path = Files.createTempFile("aslib_", "_tempfile");
+            Files.writeString(path, content, StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @AfterAll
+    static void deleteFile() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Add: Returns 'true' only the first time a valid document is added")
+    void add_0() {
+        DocumentSet set = DocumentSet.of(cpf);
+
+        assertTrue(set.add("106.694.192/06"));
+        assertFalse(set.add("10669419206"));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Add: Returns 'false' when the document is not valid for any type")
+    void add_1() {
+        DocumentSet set = DocumentSet.of(cpf, cnpj);
+
+        assertFalse(set.add("106.694.192/07"));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'true' for every added document after many resizes")
+    void contains_0() {
+        DocumentSet  set       = DocumentSet.of(cpf);
+        List<String> documents = cpf.generate(50_000, 3L);
+
+        documents.forEach(set::add);
+
+        assertTrue(documents.stream().allMatch(set::contains));
+        assertEquals(documents.stream().distinct().count(), set.size());
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'false' when the document was not added")
+    void contains_1() {
+        DocumentSet set = DocumentSet.of(cpf);
+        cpf.generate(1000, 4L).forEach(set::add);
+
+        assertFalse(set.contains("106.694.192/06"));
+        assertFalse(set.contains("106.694.192/07"));
+    }
+
+    @Test
+    @DisplayName("Contains: Does not mix documents of different types with equal keys")
+    void contains_2() {
+        DocumentSet set = DocumentSet.of(cnpj, cpf);
+        set.add("106.694.192/06");
+
+        assertTrue(set.contains("10669419206"));
+        assertFalse(DocumentSet.of(cnpj).contains("10669419206"));
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'true' when the region of the text is an added document")
+    void contains_3() {
+        DocumentSet set = DocumentSet.of(cpf);
+        set.add("106.694.192/06");
+
+        assertTrue(set.contains("id;106.694.192/06;end", 3, 14));
+    }
+
+    @Test
+    @DisplayName("Contains: Throws 'NullDocumentException' when the document is null")
+    void contains_4() {
+        assertThrows(NullDocumentException.class, () -> DocumentSet.of(cpf).contains(null));
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'true' only for the added alphanumeric CNPJ when it is the only document")
+    void contains_5() {
+        DocumentSet set = DocumentSet.of(BrazilianDocument.alphanumericCnpj());
+        set.add("8R.C4Y.P56/OMIU-76");
+
+        assertTrue(set.contains("8R.C4Y.P56/OMIU-76"));
+        assertFalse(set.contains("106.694.192/06"));
+    }
+
+    @Test
+    @DisplayName("Freeze: Returns a copy with the same documents that is not changed by the set")
+    void freeze_0() {
+        DocumentSet set = DocumentSet.of(cpf);
+        set.add("106.694.192/06");
+
+        FrozenDocumentSet frozen = set.freeze();
+        set.add(cpf.generate());
+
+        assertEquals(1, frozen.size());
+        assertTrue(frozen.contains("106.694.192/06"));
+    }
+
+    @Test
+    @DisplayName("Load: Returns the amount of valid and distinct documents of the file")
+    void load_0() {
+        DocumentSet set   = DocumentSet.of(cpf, cnpj);
+        long        added = set.load(path);
+
+        assertEquals(2001, added);
+        assertEquals(2001, set.size());
+        assertTrue(cpf.generate(1000, 1L).stream().allMatch(set::contains));
+        assertTrue(cnpj.generate(1000, 2L).stream().allMatch(set::contains));
+        assertTrue(set.contains("106.694.192/06"));
+    }
+
+    @Test
+    @DisplayName("Load: Returns 0 when the file does not exist")
+    void load_1() {
+        assertEquals(0, DocumentSet.of(cpf).load(Path.of("missing_file")));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when there are no documents")
+    void of_0() {
+        assertThrows(IllegalArgumentException.class, DocumentSet::of);
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when a document is null")
+    void of_1() {
+        assertThrows(NullPointerException.class, () -> DocumentSet.of(cpf, null));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the alphanumeric CNPJ is mixed with other documents")
+    void of_2() {
+        // Its keys use the bits of the type, so they would collide with the CPFs
+        assertThrows(IllegalArgumentException.class, () -> DocumentSet.of(BrazilianDocument.alphanumericCnpj(), cpf));
+        assertThrows(IllegalArgumentException.class, () -> DocumentSet.of(cpf, BrazilianDocument.alphanumericCnpj()));
+    }
+}
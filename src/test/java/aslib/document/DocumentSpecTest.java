@@ -0,0 +1,168 @@
+package aslib.document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link DocumentSpec} class, using the ISBN-10 as the
+ * described document.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class DocumentSpecTest {
+
+    private static final int[] WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+
+    private DocumentSpec isbn() {
+        return DocumentSpec.of("#-###-#####-#")
+                           .checkDigit(11, WEIGHTS, remainder -> (11 - remainder) % 11)
+                           .symbolForTen('X');
+    }
+
+
+    @Test
+    @DisplayName("Blacklist: Returns 'false' when the document is blacklisted")
+    void blacklist_0() {
+        Document document = isbn().blacklist("0306406152").compile();
+
+        assertFalse(document.isValid("0-306-40615-2"));
+        assertTrue(document.isValid("0-8044-2957-X"));
+    }
+
+    @Test
+    @DisplayName("CheckDigit: Throws 'IllegalArgumentException' when the modulus is lower than 2")
+    void checkDigit_0() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentSpec.of("##").checkDigit(1, new int[]{1}, r -> r));
+    }
+
+    @Test
+    @DisplayName("CheckDigit: Throws 'NullPointerException' when the weights are null")
+    void checkDigit_1() {
+        assertThrows(NullPointerException.class, () -> DocumentSpec.of("##").checkDigit(11, null, r -> r));
+    }
+
+    @Test
+    @DisplayName("CheckDigit: Returns 'true' when the mapping depends on the other digits")
+    void checkDigit_2() {
+        Document document = DocumentSpec.of("##-#")
+                                        .checkDigit(2, new int[]{1, 1}, (remainder, digits) -> (int) (digits & 0xF))
+                                        .compile();
+
+        assertTrue(document.isValid("12-2"));
+        assertFalse(document.isValid("12-1"));
+    }
+
+    @Test
+    @DisplayName("Compile: Returns 'true' when the document is valid")
+    void compile_0() {
+        Document document = isbn().compile();
+
+        assertTrue(document.isValid("0-306-40615-2"));
+        assertTrue(document.isValid("0-8044-2957-X"));
+        assertTrue(document.isValid("080442957x"));
+    }
+
+    @Test
+    @DisplayName("Compile: Returns 'false' when the verification digit is wrong")
+    void compile_1() {
+        assertFalse(isbn().compile().isValid("0-306-40615-3"));
+    }
+
+    @Test
+    @DisplayName("Compile: Returns the document formatted by the mask")
+    void compile_2() {
+        Document document = isbn().compile();
+
+        assertEquals("0-306-40615-2", document.format("0306406152"));
+        assertEquals("0-804-42957-X", document.format("080442957x"));
+    }
+
+    @Test
+    @DisplayName("Compile: Returns new valid documents when the seed is provided")
+    void compile_3() {
+        KeyedDocument document  = isbn().compile();
+        List<String>  documents = document.generate(500, 42L);
+
+        assertEquals(500, documents.size());
+        assertTrue(documents.stream().allMatch(document::isValid));
+    }
+
+    @Test
+    @DisplayName("Compile: Throws 'IllegalStateException' when there is no verification digit")
+    void compile_4() {
+        assertThrows(IllegalStateException.class, () -> DocumentSpec.of("###").compile());
+    }
+
+    @Test
+    @DisplayName("Compile: Throws 'IllegalStateException' when the amount of weights is wrong")
+    void compile_5() {
+        assertThrows(IllegalStateException.class, () -> DocumentSpec.of("####")
+                                                                    .checkDigit(11, WEIGHTS, r -> 0)
+                                                                    .compile());
+    }
+
+    @Test
+    @DisplayName("Compile: Throws 'IllegalStateException' when the mapping gives 10 without its symbol")
+    void compile_6() {
+        assertThrows(IllegalStateException.class, () -> DocumentSpec.of("#-###-#####-#")
+                                                                    .checkDigit(11, WEIGHTS, r -> 11 - r)
+                                                                    .compile());
+    }
+
+    @Test
+    @DisplayName("Compile: Throws 'IllegalStateException' when a blacklisted document has a wrong length")
+    void compile_7() {
+        assertThrows(IllegalStateException.class, () -> isbn().blacklist("123").compile());
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when the mask is null")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> DocumentSpec.of(null));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the mask has no digits")
+    void of_1() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentSpec.of("-"));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the mask has more than 15 digits")
+    void of_2() {
+        assertThrows(IllegalArgumentException.class, () -> DocumentSpec.of("################"));
+    }
+
+    @Test
+    @DisplayName("RepeatedDigits: Returns 'true' for repeated digits only when they are accepted")
+    void repeatedDigits_0() {
+        assertFalse(isbn().compile().isValid("0-000-00000-0"));
+        assertTrue(isbn().repeatedDigits(true).compile().isValid("0-000-00000-0"));
+    }
+
+    @Test
+    @DisplayName("Rule: Returns 'false' when the document breaks a rule")
+    void rule_0() {
+        Document document = isbn().rule(packed -> (packed >>> 36) != 0).compile();
+
+        assertFalse(document.isValid("0-306-40615-2"));
+    }
+
+    @Test
+    @DisplayName("SymbolForTen: Throws 'IllegalArgumentException' when the symbol is not a letter")
+    void symbolForTen_0() {
+        assertThrows(IllegalArgumentException.class, () -> isbn().symbolForTen('1'));
+    }
+}
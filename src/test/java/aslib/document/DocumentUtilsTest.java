@@ -3,11 +3,15 @@ package aslib.document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * <p style="text-align:justify">
@@ -15,7 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.2.0
  * @since 12.0.0
  */
 class DocumentUtilsTest {
@@ -23,6 +27,32 @@ class DocumentUtilsTest {
     private final DocumentUtils documentUtils = new DocumentUtils(5, 1);
 
 
+    @Test
+    @DisplayName("DigitAt: Returns the digit when successful")
+    void digitAt_0() {
+        assertEquals(4, documentUtils.digitAt(0x12345L, 3));
+    }
+
+    @Test
+    @DisplayName("DigitAt: Returns the first digit when it is zero")
+    void digitAt_1() {
+        assertEquals(0, documentUtils.digitAt(0x01234L, 0));
+    }
+
+
+    @Test
+    @DisplayName("DigitValue: Returns the value when character is a digit")
+    void digitValue_0() {
+        assertEquals(7, documentUtils.digitValue('7'));
+    }
+
+    @Test
+    @DisplayName("DigitValue: Returns -1 when character is not a digit")
+    void digitValue_1() {
+        assertEquals(-1, documentUtils.digitValue('x'));
+    }
+
+
     @Test
     @DisplayName("ExtractDigits: Returns list of integer when successful")
     void extractDigits_0() {
@@ -106,6 +136,25 @@ class DocumentUtilsTest {
     }
 
 
+    @Test
+    @DisplayName("IsRepeatedDigit: Returns 'true' when all digits are the same")
+    void isRepeatedDigit_0() {
+        assertTrue(documentUtils.isRepeatedDigit(0x77777L));
+    }
+
+    @Test
+    @DisplayName("IsRepeatedDigit: Returns 'true' when all digits are zero")
+    void isRepeatedDigit_1() {
+        assertTrue(documentUtils.isRepeatedDigit(0L));
+    }
+
+    @Test
+    @DisplayName("IsRepeatedDigit: Returns 'false' when digits are different")
+    void isRepeatedDigit_2() {
+        assertFalse(documentUtils.isRepeatedDigit(0x77778L));
+    }
+
+
     @Test
     @DisplayName("JoinDigits: Returns string containing the digits when successful")
     void joinDigits_0() {
@@ -126,6 +175,40 @@ class DocumentUtilsTest {
     }
 
 
+    @Test
+    @DisplayName("PackDigits: Returns packed digits when successful")
+    void packDigits_0() {
+        assertEquals(0x12345L, documentUtils.packDigits("id:1-2.345;", 3, 7));
+    }
+
+    @Test
+    @DisplayName("PackDigits: Returns -1 when region has less digits than the length")
+    void packDigits_1() {
+        assertEquals(-1L, documentUtils.packDigits("1-2.345", 0, 6));
+    }
+
+    @Test
+    @DisplayName("PackDigits: Returns -1 when region has more digits than the length")
+    void packDigits_2() {
+        assertEquals(-1L, documentUtils.packDigits("123456", 0, 6));
+    }
+
+    @Test
+    @DisplayName("PackDigits: Returns packed digits when value is a region of a byte array")
+    void packDigits_3() {
+        assertEquals(0x12345L, documentUtils.packDigits("id:1-2.345;".getBytes(StandardCharsets.US_ASCII), 3, 7));
+    }
+
+    @Test
+    @DisplayName("PackDigits: Returns packed digits when value is a region of a byte buffer")
+    void packDigits_4() {
+        ByteBuffer buffer = ByteBuffer.wrap("id:1-2.345;".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(0x12345L, documentUtils.packDigits(buffer, 3, 7));
+        assertEquals(0, buffer.position());
+    }
+
+
     @Test
     @DisplayName("RemoveNonDigits: Returns '111' when value is '111abc'")
     void removeNonDigits_0() {
@@ -0,0 +1,65 @@
+package aslib.document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link FileValidationReport} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class FileValidationReportTest {
+
+    private final FileValidationReport report = new FileValidationReport(3, 2, new long[]{10, 20});
+
+
+    @Test
+    @DisplayName("InvalidOffsets: Returns a copy of the offsets when successful")
+    void invalidOffsets_0() {
+        report.invalidOffsets()[0] = 99;
+
+        assertArrayEquals(new long[]{10, 20}, report.invalidOffsets());
+    }
+
+
+    @Test
+    @DisplayName("Total: Returns the sum of valid and invalid records when successful")
+    void total_0() {
+        assertEquals(5, report.total());
+    }
+
+
+    @Test
+    @DisplayName("Write: Writes the counts and offsets to the file when successful")
+    void write_0()
+    throws IOException {
+        Path output = Files.createTempFile("aslib_", "_tempfile");
+
+        try {
+            report.write(output);
+
+            assertEquals(List.of("valid=3", "invalid=2", "10", "20"), Files.readAllLines(output));
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    @Test
+    @DisplayName("Write: Throws 'NullPointerException' when value is null")
+    void write_1() {
+        assertThrows(NullPointerException.class, () -> report.write(null));
+    }
+}
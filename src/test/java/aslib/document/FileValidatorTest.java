@@ -0,0 +1,164 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link FileValidator} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class FileValidatorTest {
+
+    private static final Document document = BrazilianDocument.cpf();
+
+    private static Path       path;
+    private static long       valid;
+    private static List<Long> invalidOffsets;
+
+
+    @BeforeAll
+    static void createFile() {
+        StringBuilder content = new StringBuilder("id;cpf;name\n");
+        invalidOffsets = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            long offset = content.length();
+
+            switch (i % 5) {
+                case 0:
+                    content.append(i).append(";106.694.192/07;Invalid\n");
+                    invalidOffsets.add(offset);
+                    break;
+                case 1:
+                    content.append(i).append(";\"").append(document.generate()).append("\";\"Quoted; name\"\r\n");
+                    valid++;
+                    break;
+                case 2:
+                    content.append(i).append('\n');
+                    invalidOffsets.add(offset);
+                    break;
+                case 3:
+                    content.append('\n');
+                    break;
+                default:
+                    content.append(i).append(';').append(document.generate()).append(";Valid\n");
+                    valid++;
+            }
+        }
+
+        // Last line without line break
+        content.append("last;10669419206");
+        valid++;
+
+        try {
+            path = Files.createTempFile("aslib_", "_tempfile");
+            Files.writeString(path, content, StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @AfterAll
+    static void deleteFile()
+    throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+
+    @Test
+    @DisplayName("Column: Throws 'IllegalArgumentException' when value is negative")
+    void column_0() {
+        assertThrows(IllegalArgumentException.class, () -> FileValidator.of(document).column(-1));
+    }
+
+
+    @Test
+    @DisplayName("Delimiter: Throws 'IllegalArgumentException' when value is a double quote")
+    void delimiter_0() {
+        assertThrows(IllegalArgumentException.class, () -> FileValidator.of(document).delimiter('"'));
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws 'NullPointerException' when document is null")
+    void of_0() {
+        assertThrows(NullPointerException.class, () -> FileValidator.of(null));
+    }
+
+
+    @Test
+    @DisplayName("Validate: Returns the counts and offsets of the invalid records when successful")
+    void validate_0() {
+        FileValidationReport report = FileValidator.of(document)
+                                                   .column(1)
+                                                   .delimiter(';')
+                                                   .skipHeader(true)
+                                                   .validate(path)
+                                                   .orElseThrow();
+
+        assertEquals(valid, report.valid());
+        assertEquals(invalidOffsets.size(), report.invalid());
+        assertArrayEquals(invalidOffsets.stream().mapToLong(Long::longValue).toArray(), report.invalidOffsets());
+    }
+
+    @Test
+    @DisplayName("Validate: Returns the same report when the file is split in many segments")
+    void validate_1() {
+        FileValidator validator = FileValidator.of(document)
+                                               .column(1)
+                                               .delimiter(';')
+                                               .skipHeader(true);
+
+        FileValidationReport expected = validator.validate(path).orElseThrow();
+
+        assertEquals(expected, validator.segmentSize(100).validate(path).orElseThrow());
+        assertEquals(expected, validator.segmentSize(7).validate(path).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Validate: Counts the header as invalid when it is not skipped")
+    void validate_2() {
+        FileValidationReport report = FileValidator.of(document)
+                                                   .column(1)
+                                                   .delimiter(';')
+                                                   .validate(path)
+                                                   .orElseThrow();
+
+        assertEquals(invalidOffsets.size() + 1, report.invalid());
+        assertEquals(0, report.invalidOffsets()[0]);
+    }
+
+    @Test
+    @DisplayName("Validate: Throws 'NullPointerException' when value is null")
+    void validate_3() {
+        assertThrows(NullPointerException.class, () -> FileValidator.of(document).validate(null));
+    }
+
+    @Test
+    @DisplayName("Validate: Returns an empty Optional when the file does not exist")
+    void validate_4() {
+        Path missing = path.resolveSibling(path.getFileName() + "_missing");
+
+        assertTrue(FileValidator.of(document).validate(missing).isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package aslib.document;
+
+import aslib.document.bra.BrazilianDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link FrozenDocumentSet} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class FrozenDocumentSetTest {
+
+    private final KeyedDocument document  = BrazilianDocument.cpf();
+    private final List<String>  documents = document.generate(20_000, 5L);
+
+
+    private FrozenDocumentSet createSet() {
+        DocumentSet set = DocumentSet.of(document);
+        documents.forEach(set::add);
+
+        return set.freeze();
+    }
+
+
+    @Test
+    @DisplayName("Contains: Returns 'true' for every document when checked by many threads")
+    void contains_0() {
+        FrozenDocumentSet set = createSet();
+
+        assertTrue(documents.parallelStream().allMatch(set::contains));
+    }
+
+    @Test
+    @DisplayName("Contains: Returns 'false' when the document is not in the set")
+    void contains_1() {
+        FrozenDocumentSet set = createSet();
+
+        assertFalse(set.contains("106.694.192/07"));
+        assertFalse(set.contains(""));
+    }
+
+    @Test
+    @DisplayName("Contains: Throws 'NullDocumentException' when the document is null")
+    void contains_2() {
+        assertThrows(NullDocumentException.class, () -> createSet().contains(null));
+    }
+
+    @Test
+    @DisplayName("Size: Returns the amount of distinct documents")
+    void size_0() {
+        assertEquals(documents.stream().distinct().count(), createSet().size());
+    }
+}
@@ -0,0 +1,140 @@
+package aslib.document.bra;
+
+import aslib.document.DocumentInternal;
+import aslib.document.KeyedDocument;
+import aslib.document.NullDocumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link AlphanumericCNPJ} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class AlphanumericCNPJTest {
+
+    private final KeyedDocument document = BrazilianDocument.alphanumericCnpj();
+
+
+    @Test
+    @DisplayName("CalculateVerificationDigits: Returns [3, 5] when the values are the ones of '12ABC34501DE'")
+    void calculateVerificationDigits_0() {
+        List<Integer> values = List.of(1, 2, 17, 18, 19, 3, 4, 5, 0, 1, 20, 21);
+
+        assertEquals(List.of(3, 5), ((DocumentInternal) document).calculateVerificationDigits(values));
+    }
+
+    @Test
+    @DisplayName("Format: Returns '12.ABC.345/01DE-35' when value is '12abc34501de35'")
+    void format_0() {
+        assertEquals("12.ABC.345/01DE-35", document.format("12abc34501de35"));
+    }
+
+    @Test
+    @DisplayName("Format: Returns '01.111.111/1111-11' when value is '11.111.111/1111-1'")
+    void format_1() {
+        assertEquals("01.111.111/1111-11", document.format("11.111.111/1111-1"));
+    }
+
+    @Test
+    @DisplayName("Format: Throws 'NullDocumentException' when value is null")
+    void format_2() {
+        assertThrows(NullDocumentException.class, () -> document.format(null));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Returns '12.ABC.345/01DE-35' when the key is '12ABC34501DE' in base 36")
+    void formatKey_0() {
+        assertEquals("12.ABC.345/01DE-35", document.formatKey(Long.parseLong("12ABC34501DE", 36)));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Throws 'IllegalArgumentException' when the key is out of the range or of a repeated digit")
+    void formatKey_1() {
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(-1));
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(0));
+    }
+
+    @Test
+    @DisplayName("Generate: Returns new valid documents with letters")
+    void generate_0() {
+        List<String> documents = document.generate(1000, 1L);
+
+        assertTrue(documents.stream().allMatch(document::isValid));
+        assertTrue(documents.stream().anyMatch(value -> value.chars().anyMatch(Character::isLetter)));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is '12.ABC.345/01DE-35', in any case")
+    void isValid_0() {
+        assertTrue(document.isValid("12.ABC.345/01DE-35"));
+        assertTrue(document.isValid("12ABC34501DE35"));
+        assertTrue(document.isValid("12abc34501de35"));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns the same as the numeric CNPJ when the documents have only digits")
+    void isValid_1() {
+        KeyedDocument numeric = BrazilianDocument.cnpj();
+
+        assertTrue(numeric.generate(1000, 4L).stream().allMatch(document::isValid));
+        assertFalse(document.isValid("11.872.623/0001-71"));
+        assertFalse(document.isValid("00.000.000/0000-00"));
+        assertFalse(document.isValid("11.111.111/1111-11"));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the verification digits are wrong or are letters")
+    void isValid_2() {
+        assertFalse(document.isValid("12.ABC.345/01DE-36"));
+        assertFalse(document.isValid("12.ABC.345/01DE-3A"));
+        assertFalse(document.isValid("12.ABC.345/01DE-355"));
+        assertFalse(document.isValid("12.ABC.345/01DE"));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when the region of the array or of the buffer is '12.ABC.345/01DE-35'")
+    void isValid_3() {
+        byte[] line = "id;12.ABC.345/01DE-35;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(document.isValid(line, 3, 18));
+        assertTrue(document.isValid(ByteBuffer.wrap(line), 3, 18));
+        assertFalse(document.isValid(line, 3, 17));
+    }
+
+    @Test
+    @DisplayName("IsValid: Throws 'NullDocumentException' when value is null")
+    void isValid_4() {
+        assertThrows(NullDocumentException.class, () -> document.isValid((CharSequence) null));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'false' when the key is out of the range or of a repeated digit")
+    void isValidKey_0() {
+        assertTrue(document.isValidKey(Long.parseLong("12ABC34501DE", 36)));
+        assertTrue(document.isValidKey(Long.parseLong("ZZZZZZZZZZZZ", 36)));
+        assertFalse(document.isValidKey(Long.parseLong("ZZZZZZZZZZZZ", 36) + 1));
+        assertFalse(document.isValidKey(0));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns '12ABC34501DE' in base 36 when value is '12.ABC.345/01DE-35'")
+    void parseKey_0() {
+        assertEquals(Long.parseLong("12ABC34501DE", 36), document.parseKey("12.ABC.345/01DE-35"));
+        assertEquals(-1, document.parseKey("12.ABC.345/01DE-36"));
+    }
+}
@@ -0,0 +1,92 @@
+package aslib.document.bra;
+
+import aslib.document.NullDocumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BrazilianDocumentDetector} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BrazilianDocumentDetectorTest {
+
+    @Test
+    @DisplayName("Detect: Returns the type of each generated document")
+    void detect_0() {
+        for (BrazilianDocumentType type : BrazilianDocumentType.values()) {
+            for (String document : type.getDocument().generate(1000, 1L)) {
+                assertTrue(BrazilianDocumentDetector.detect(document).contains(type));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Detect: Returns the same types as 'isValid' of each implementation")
+    void detect_1() {
+        SplittableRandom random = new SplittableRandom(2L);
+        String           chars  = "0123456789.-/ Xx";
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = random.nextInt(20); j > 0; j--) text.append(chars.charAt(random.nextInt(chars.length())));
+
+            // Mostly documents, so the valid branches are also covered
+            String value = random.nextBoolean()
+                           ? text.toString()
+                           : BrazilianDocumentType.values()[random.nextInt(5)].getDocument().generate();
+
+            Set<BrazilianDocumentType> expected = EnumSet.noneOf(BrazilianDocumentType.class);
+            for (BrazilianDocumentType type : BrazilianDocumentType.values()) {
+                if (type.getDocument().isValid(value)) expected.add(type);
+            }
+
+            assertEquals(expected, BrazilianDocumentDetector.detect(value), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Detect: Returns both types when the document is a valid CPF and PIS")
+    void detect_2() {
+        String document = BrazilianDocument.cpf()
+                                           .generateStream(100_000, 3L)
+                                           .filter(BrazilianDocument.pis()::isValid)
+                                           .findFirst()
+                                           .orElseThrow();
+
+        assertEquals(EnumSet.of(BrazilianDocumentType.CPF, BrazilianDocumentType.PIS), BrazilianDocumentDetector.detect(document));
+    }
+
+    @Test
+    @DisplayName("Detect: Returns an empty set when the text is not a valid document")
+    void detect_3() {
+        for (String value : List.of("", "abc", "106.694.192/07", "1".repeat(100))) {
+            assertTrue(BrazilianDocumentDetector.detect(value).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Detect: Returns 'RG' when the region of the text is an RG ended by 'X'")
+    void detect_4() {
+        assertEquals(EnumSet.of(BrazilianDocumentType.RG), BrazilianDocumentDetector.detect("id;10.000.006-x;end", 3, 12));
+    }
+
+    @Test
+    @DisplayName("Detect: Throws 'NullDocumentException' when the document is null")
+    void detect_5() {
+        assertThrows(NullDocumentException.class, () -> BrazilianDocumentDetector.detect(null));
+    }
+}
@@ -0,0 +1,206 @@
+package aslib.document.bra;
+
+import aslib.document.NullDocumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BrazilianDocumentRedactor} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BrazilianDocumentRedactorTest {
+
+    private final BrazilianDocumentRedactor redactor = BrazilianDocumentRedactor.of('*');
+
+
+    private static String text(long seed) {
+        SplittableRandom random    = new SplittableRandom(seed);
+        StringBuilder    builder   = new StringBuilder();
+        List<String>     documents = BrazilianDocument.cpf().generate(100, seed);
+        List<String>     cnpjs     = BrazilianDocument.cnpj().generate(100, seed);
+
+        for (int i = 0; i < 100; i++) {
+            builder.append("cliente ").append(random.nextInt(1000)).append(' ');
+            builder.append(random.nextBoolean() ? documents.get(i) : cnpjs.get(i).replaceAll("\\D", ""));
+            builder.append(random.nextBoolean() ? ", " : "\n");
+        }
+
+        return builder.toString();
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the mask is a digit or a separator")
+    void of_0() {
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocumentRedactor.of('0'));
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocumentRedactor.of('.'));
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocumentRedactor.of(' '));
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocumentRedactor.of('*', BrazilianDocumentType.RG));
+    }
+
+    @Test
+    @DisplayName("Redact: Masks the first 3 and the verification digits, keeping the rest of the text")
+    void redact_0() {
+        assertEquals("cpf ***.694.192-**.", redactor.redact("cpf 106.694.192-06."));
+        assertEquals("[***694192**]", redactor.redact("[10669419206]"));
+        assertEquals("x10669419206 106.694.192-07", redactor.redact("x10669419206 106.694.192-07"));
+        assertEquals("cpf ###.694.192-##", BrazilianDocumentRedactor.of('#').redact("cpf 106.694.192-06"));
+        assertThrows(NullDocumentException.class, () -> redactor.redact((CharSequence) null));
+    }
+
+    @Test
+    @DisplayName("Redact: Masks only the region of the array, in place")
+    void redact_1() {
+        char[] text = "10669419206 10669419206".toCharArray();
+
+        assertEquals(1, redactor.redact(text, 12, 11));
+        assertEquals("10669419206 ***694192**", new String(text));
+        assertThrows(IndexOutOfBoundsException.class, () -> redactor.redact(text, 20, 11));
+    }
+
+    @Test
+    @DisplayName("Wrap: Reads the same text as the redact method, even with documents split between reads")
+    void wrap_0()
+    throws IOException {
+        for (long seed = 0; seed < 5; seed++) {
+            String        text   = text(seed);
+            StringBuilder masked = new StringBuilder();
+            char[]        buffer = new char[1 + (int) seed * 3];
+            int           read;
+
+            // A reader that returns a few characters at a time splits the documents
+            Reader source = new StringReader(text) {
+                @Override
+                public int read(char[] destination, int offset, int length)
+                throws IOException {
+                    return super.read(destination, offset, Math.min(length, 7));
+                }
+            };
+
+            try (Reader reader = redactor.wrap(source)) {
+                while ((read = reader.read(buffer, 0, buffer.length)) >= 0) masked.append(buffer, 0, read);
+            }
+
+            assertEquals(redactor.redact(text), masked.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Wrap: Writes the same text as the redact method, even with documents split between writes")
+    void wrap_1()
+    throws IOException {
+        for (long seed = 0; seed < 5; seed++) {
+            String           text   = text(seed);
+            StringWriter     output = new StringWriter();
+            SplittableRandom random = new SplittableRandom(seed);
+
+            try (Writer writer = redactor.wrap(output)) {
+                for (int i = 0; i < text.length(); ) {
+                    int end = Math.min(text.length(), i + 1 + random.nextInt(10));
+
+                    writer.write(text, i, end - i);
+                    i = end;
+                }
+            }
+
+            assertEquals(redactor.redact(text), output.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Session: Masks the same bytes as the redact method through a small reused buffer")
+    void session_0() {
+        for (long seed = 0; seed < 5; seed++) {
+            String                                text    = text(seed);
+            byte[]                                input   = text.getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer                            output  = ByteBuffer.allocate(input.length);
+            ByteBuffer                            buffer  = ByteBuffer.allocate(48);
+            BrazilianDocumentRedactor.ByteSession session = redactor.session();
+            int                                   offset  = 0;
+
+            while (offset < input.length) {
+                int amount = Math.min(buffer.remaining(), input.length - offset);
+
+                buffer.put(input, offset, amount);
+                offset += amount;
+                buffer.flip();
+
+                int end = session.redact(buffer);
+
+                output.put(buffer.duplicate().limit(end));
+                buffer.position(end).compact();
+            }
+
+            buffer.flip();
+            session.finish(buffer);
+            output.put(buffer);
+
+            assertEquals(redactor.redact(text), new String(output.array(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("Session: Throws 'IllegalArgumentException' when the bytes that were not final are missing")
+    void session_1() {
+        BrazilianDocumentRedactor.ByteSession session = redactor.session();
+        ByteBuffer                            buffer  = ByteBuffer.wrap("cpf 106.694".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(4, session.redact(buffer));
+        assertThrows(IllegalArgumentException.class, () -> session.redact(ByteBuffer.allocate(3)));
+        assertThrows(NullPointerException.class, () -> session.redact(null));
+    }
+
+    @Test
+    @DisplayName("Session: Masks the same bytes as the redact method when skipping long runs without digits")
+    void session_2() {
+        String cpf  = BrazilianDocument.cpf().generate(1, 47L).get(0);
+        String text = "registro sem números: é ação, tudo certo/ok;" + cpf + " conferido\n"
+                      + "palavraçãocolada" + cpf.replaceAll("\\D", "") + "x e mais texto sem nada: "
+                      + cpf + '\u00B9' + " fim/:" + cpf.replaceAll("\\D", "") + ":ok";
+        byte[] input = text.getBytes(StandardCharsets.ISO_8859_1);
+
+        for (int size = 16; size <= input.length + 8; size += 7) {
+            ByteBuffer                            output  = ByteBuffer.allocate(input.length);
+            ByteBuffer                            buffer  = ByteBuffer.allocate(size);
+            BrazilianDocumentRedactor.ByteSession session = redactor.session();
+            int                                   offset  = 0;
+
+            while (offset < input.length) {
+                int amount = Math.min(buffer.remaining(), input.length - offset);
+
+                buffer.put(input, offset, amount);
+                offset += amount;
+                buffer.flip();
+
+                int end = session.redact(buffer);
+
+                output.put(buffer.duplicate().limit(end));
+                buffer.position(end).compact();
+            }
+
+            buffer.flip();
+            session.finish(buffer);
+            output.put(buffer);
+
+            assertEquals(redactor.redact(text), new String(output.array(), StandardCharsets.ISO_8859_1), "Size " + size);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package aslib.document.bra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BrazilianDocumentScanner} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BrazilianDocumentScannerTest {
+
+    private final BrazilianDocumentScanner scanner = BrazilianDocumentScanner.of();
+
+
+    private List<String> scan(String text) {
+        List<String> found = new ArrayList<>();
+        scanner.scan(text, (type, start, end, key) -> found.add(type + ":" + text.substring((int) start, (int) end)));
+
+        return found;
+    }
+
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when the type is the RG")
+    void of_0() {
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocumentScanner.of(BrazilianDocumentType.RG));
+        assertThrows(NullPointerException.class, () -> BrazilianDocumentScanner.of((BrazilianDocumentType) null));
+    }
+
+    @Test
+    @DisplayName("Scan: Finds the documents of each type, formatted or not, with their positions")
+    void scan_0() {
+        for (BrazilianDocumentType type : List.of(BrazilianDocumentType.CNPJ, BrazilianDocumentType.CPF,
+                                                  BrazilianDocumentType.PIS, BrazilianDocumentType.VOTER_TITLE)) {
+            for (String document : type.getDocument().generate(200, 1L)) {
+                String bare = document.replaceAll("\\D", "");
+
+                assertTrue(scan("id=" + document + ", ok").contains(type + ":" + document), document);
+                assertTrue(scan("[" + bare + "]").contains(type + ":" + bare), bare);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Scan: Finds a CPF after a date and before the end of a sentence")
+    void scan_1() {
+        assertEquals(List.of("CPF:106.694.192-06"), scan("12/03/2024 106.694.192-06."));
+        assertEquals(List.of("CPF:10669419206"), scan("10669419206"));
+    }
+
+    @Test
+    @DisplayName("Scan: Does not find documents glued to words or longer numbers, or with wrong verification digits")
+    void scan_2() {
+        assertEquals(List.of(), scan("x10669419206 10669419206y 9910669419206 106.694.192-07 106.694.192--06"));
+        assertEquals(List.of(), scan("1106694192061 1 2 3 4 5 6 7 8 9 10"));
+    }
+
+    @Test
+    @DisplayName("Scan: Finds only the provided types")
+    void scan_3() {
+        String     text  = "cpf 106.694.192-06 cnpj " + BrazilianDocument.cnpj().generate();
+        List<Long> found = new ArrayList<>();
+
+        BrazilianDocumentScanner.of(BrazilianDocumentType.CNPJ).scan(text, (type, start, end, key) -> found.add(key));
+
+        assertEquals(1, found.size());
+        assertTrue(BrazilianDocument.cnpj().isValidKey(found.get(0)));
+    }
+
+    @Test
+    @DisplayName("Scan: Returns the same documents from a text, a reader and a byte buffer")
+    void scan_4()
+    throws IOException {
+        SplittableRandom random = new SplittableRandom(2L);
+        StringBuilder    text   = new StringBuilder();
+        List<String>     words  = List.of("user", "=", " ", "\n", "-", "12/03/2024", "42", ". ", "a1");
+
+        int planted = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextInt(10) == 0) {
+                text.append(' ').append(BrazilianDocument.cpf().generate()).append(' ');
+                planted++;
+            } else {
+                text.append(words.get(random.nextInt(words.size())));
+            }
+        }
+
+        String     value      = text.toString();
+        List<Long> fromText   = new ArrayList<>();
+        List<Long> fromReader = new ArrayList<>();
+        List<Long> fromBuffer = new ArrayList<>();
+
+        scanner.scan(value, (type, start, end, key) -> fromText.add(start));
+        scanner.scan(new StringReader(value), (type, start, end, key) -> fromReader.add(start));
+        scanner.scan(ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII)), (type, start, end, key) -> fromBuffer.add(start));
+
+        assertTrue(fromText.stream().distinct().count() >= planted);
+        assertEquals(fromText, fromReader);
+        assertEquals(fromText, fromBuffer);
+    }
+}
@@ -1,17 +1,31 @@
 package aslib.document.bra;
 
+import aslib.document.KeyedDocument;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * <p style="text-align:justify">
- * Tests for the {@link BrazilianDocument} class.
+ * Tests for the {@link BrazilianDocument} class, and for the behavior that
+ * all its implementations share.
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.0
+ * @version 1.2.0
  * @since 12.0.0
  */
 class BrazilianDocumentTest {
@@ -19,6 +33,22 @@ class BrazilianDocumentTest {
     private final BrazilianDocument document = new BrazilianDocument();
 
 
+    static Stream<Named<KeyedDocument>> documents() {
+        return Stream.of(Named.of("AlphanumericCNPJ", BrazilianDocument.alphanumericCnpj()),
+                         Named.of("CNPJ", BrazilianDocument.cnpj()),
+                         Named.of("CPF", BrazilianDocument.cpf()),
+                         Named.of("PIS", BrazilianDocument.pis()),
+                         Named.of("RG", BrazilianDocument.rg()),
+                         Named.of("VoterTitle", BrazilianDocument.voterTitle()));
+    }
+
+
+    @Test
+    @DisplayName("AlphanumericCNPJ: Returns instance of 'AlphanumericCNPJ' when successful")
+    void alphanumericCnpj() {
+        assertInstanceOf(AlphanumericCNPJ.class, document.alphanumericCnpj());
+    }
+
     @Test
     @DisplayName("CNPJ: Returns instance of 'CNPJ' when successful")
     void cnpj() {
@@ -48,4 +78,113 @@ class BrazilianDocumentTest {
     void voterTitle() {
         assertInstanceOf(VoterTitle.class, document.voterTitle());
     }
+
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("FormatTo: Writes the same as 'format' at the offset of the array")
+    void formatTo_0(KeyedDocument document) {
+        char[] destination = new char[32];
+
+        for (String value : document.generate(1000, 5L)) {
+            String unformatted = value.replaceAll("[^0-9A-Z]", "");
+            String formatted   = document.format(unformatted);
+
+            assertEquals(formatted.length(), document.formatTo(unformatted, destination, 2));
+            assertEquals(formatted, new String(destination, 2, formatted.length()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("Generate: Returns the amount of new valid documents when amount is provided")
+    void generate_0(KeyedDocument document) {
+        List<String> documents = document.generate(1000);
+
+        assertEquals(1000, documents.size());
+        assertTrue(documents.stream().allMatch(document::isValid));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("Generate: Returns new valid documents when the stream is consumed in parallel")
+    void generate_1(KeyedDocument document) {
+        assertTrue(document.generateStream()
+                           .limit(1000)
+                           .parallel()
+                           .allMatch(document::isValid));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("Generate: Returns the same valid documents for the same seed whatever the thread count")
+    void generate_2(KeyedDocument document)
+    throws Exception {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many   = new ForkJoinPool(4);
+
+        try {
+            List<String> first  = single.submit(() -> document.generate(5000, 42L)).get();
+            List<String> second = many.submit(() -> document.generate(5000, 42L)).get();
+
+            assertEquals(5000, first.size());
+            assertEquals(first, second);
+            assertTrue(first.stream().allMatch(document::isValid));
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("Generate: Returns different documents when the seeds are different")
+    void generate_3(KeyedDocument document) {
+        assertNotEquals(document.generate(100, 1L), document.generate(100, 2L));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("Generate: Throws 'IllegalArgumentException' when the amount is negative")
+    void generate_4(KeyedDocument document) {
+        assertThrows(IllegalArgumentException.class, () -> document.generate(-1, 42L));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("GenerateStream: Returns the same documents sequentially and in parallel when the seed is provided")
+    void generateStream_0(KeyedDocument document) {
+        List<String> sequential = document.generateStream(3000, 42L).collect(Collectors.toList());
+        List<String> parallel   = document.generateStream(3000, 42L).parallel().collect(Collectors.toList());
+
+        assertEquals(document.generate(3000, 42L), sequential);
+        assertEquals(sequential, parallel);
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("GenerateTo: Writes a new valid document to the array when successful")
+    void generateTo_0(KeyedDocument document) {
+        char[] destination = new char[32];
+        int    written     = document.generateTo(destination, 5);
+
+        assertTrue(document.isValid(new String(destination, 5, written)));
+        assertEquals(document.format(new String(destination, 5, written)), new String(destination, 5, written));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("GenerateTo: Throws 'IndexOutOfBoundsException' when the document does not fit in the array")
+    void generateTo_1(KeyedDocument document) {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.generateTo(new char[32], 30));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    @DisplayName("ParseKey: Returns the same document when the key is formatted back")
+    void parseKey_0(KeyedDocument document) {
+        for (String generated : document.generate(1000, 6L)) {
+            assertEquals(generated, document.formatKey(document.parseKey(generated)));
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package aslib.document.bra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link BrazilianDocumentType} enum.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class BrazilianDocumentTypeTest {
+
+    @Test
+    @DisplayName("GetDocument: Returns the same instances of 'BrazilianDocument'")
+    void getDocument_0() {
+        assertSame(BrazilianDocument.cnpj(), BrazilianDocumentType.CNPJ.getDocument());
+        assertSame(BrazilianDocument.cpf(), BrazilianDocumentType.CPF.getDocument());
+        assertSame(BrazilianDocument.pis(), BrazilianDocumentType.PIS.getDocument());
+        assertSame(BrazilianDocument.rg(), BrazilianDocumentType.RG.getDocument());
+        assertSame(BrazilianDocument.voterTitle(), BrazilianDocumentType.VOTER_TITLE.getDocument());
+    }
+
+    @Test
+    @DisplayName("GetLength: Returns the amount of digits of the generated documents")
+    void getLength_0() {
+        for (BrazilianDocumentType type : BrazilianDocumentType.values()) {
+            String digits = type.getDocument().generate().replaceAll("[^0-9X]", "");
+
+            assertEquals(type.getLength(), digits.length());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package aslib.document.bra;
 
-import aslib.document.Document;
+import aslib.document.KeyedDocument;
 import aslib.document.NullDocumentException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,12 +20,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.5.0
  * @since 12.0.0
  */
 class CNPJTest {
 
-    private final Document document = BrazilianDocument.cnpj();
+    private final KeyedDocument document = BrazilianDocument.cnpj();
 
     @Test
     @DisplayName("Format: Returns '01.111.111/1111-11' when value is '11.111.111/1111-1'")
@@ -47,6 +51,50 @@ class CNPJTest {
         assertThrows(NullDocumentException.class, () -> document.format(null));
     }
 
+    @Test
+    @DisplayName("Format: Returns '11.872.623/0001-70' when value is a region of a byte array")
+    void format_4() {
+        byte[] line = "id;11872623000170;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("11.872.623/0001-70", document.format(line, 3, 14));
+    }
+
+    @Test
+    @DisplayName("Format: Returns '11.872.623/0001-70' when value is a region of a byte buffer")
+    void format_5() {
+        ByteBuffer line = ByteBuffer.wrap("id;11872623000170;end".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("11.872.623/0001-70", document.format(line, 3, 14));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Returns '11.872.623/0001-70' when the key is 0x11_872_623_0001_70L")
+    void formatKey_0() {
+        assertEquals("11.872.623/0001-70", document.formatKey(0x11_872_623_0001_70L));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Throws 'IllegalArgumentException' when the key is not valid")
+    void formatKey_1() {
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(0x11_872_623_0001_71L));
+    }
+
+    @Test
+    @DisplayName("FormatTo: Appends '01.111.111/1111-11' when value is '11.111.111/1111-1'")
+    void formatTo_0()
+    throws IOException {
+        StringBuilder builder = new StringBuilder("id;");
+
+        assertEquals(18, document.formatTo("11.111.111/1111-1", builder));
+        assertEquals("id;01.111.111/1111-11", builder.toString());
+    }
+
+    @Test
+    @DisplayName("FormatTo: Throws 'IndexOutOfBoundsException' when the document does not fit in the array")
+    void formatTo_1() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.formatTo("11.111.111/1111-1", new char[18], 1));
+    }
+
     @Test
     @DisplayName("Generate: Returns new valid document when successful")
     void generate_0() {
@@ -70,4 +118,77 @@ class CNPJTest {
     void isValid_2() {
         assertThrows(NullDocumentException.class, () -> document.isValid(null));
     }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when the region of the text is '11.872.623/0001-70'")
+    void isValid_3() {
+        StringBuilder text = new StringBuilder("id;").append("11.872.623/0001-70").append(";end");
+
+        assertTrue(document.isValid(text, 3, 18));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the text misses the last digit")
+    void isValid_4() {
+        StringBuilder text = new StringBuilder("id;").append("11.872.623/0001-70").append(";end");
+
+        assertFalse(document.isValid(text, 3, 17));
+    }
+
+    @Test
+    @DisplayName("IsValid: Throws 'IndexOutOfBoundsException' when the region is out of the text bounds")
+    void isValid_5() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.isValid("11.872.623/0001-70", 1, 18));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a byte array")
+    void isValid_6() {
+        byte[] line = "id;11.872.623/0001-70;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(document.isValid(line, 3, 18));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a direct byte buffer")
+    void isValid_7() {
+        byte[]     bytes = "id;11.872.623/0001-70;end".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer line  = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        assertTrue(document.isValid(line, 3, 18));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the byte array misses the last digit")
+    void isValid_8() {
+        byte[] line = "id;11.872.623/0001-70;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse(document.isValid(line, 3, 17));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'true' when the key is 0x11_872_623_0001_70L")
+    void isValidKey_0() {
+        assertTrue(document.isValidKey(0x11_872_623_0001_70L));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'false' when the key has a wrong verification digit or a value that is not a digit")
+    void isValidKey_1() {
+        assertFalse(document.isValidKey(0x11_872_623_0001_71L));
+        assertFalse(document.isValidKey(0x11_872_623_0001_70L | 0xF0));
+        assertFalse(document.isValidKey(-1));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns 0x11_872_623_0001_70L when value is '11.872.623/0001-70'")
+    void parseKey_0() {
+        assertEquals(0x11_872_623_0001_70L, document.parseKey("11.872.623/0001-70"));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns -1 when value is '11.872.623/0001-71'")
+    void parseKey_1() {
+        assertEquals(-1, document.parseKey("11.872.623/0001-71"));
+    }
 }
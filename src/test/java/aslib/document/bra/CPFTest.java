@@ -1,10 +1,14 @@
 package aslib.document.bra;
 
-import aslib.document.Document;
+import aslib.document.KeyedDocument;
 import aslib.document.NullDocumentException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,12 +20,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.5.0
  * @since 12.0.0
  */
 class CPFTest {
 
-    private final Document document = BrazilianDocument.cpf();
+    private final KeyedDocument document = BrazilianDocument.cpf();
 
     @Test
     @DisplayName("Format: Returns '011.111.111/11' when value is '111.111.111/1'")
@@ -47,6 +51,50 @@ class CPFTest {
         assertThrows(NullDocumentException.class, () -> document.format(null));
     }
 
+    @Test
+    @DisplayName("Format: Returns '106.694.192/06' when value is a region of a byte array")
+    void format_4() {
+        byte[] line = "id;10669419206;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("106.694.192/06", document.format(line, 3, 11));
+    }
+
+    @Test
+    @DisplayName("Format: Returns '106.694.192/06' when value is a region of a byte buffer")
+    void format_5() {
+        ByteBuffer line = ByteBuffer.wrap("id;10669419206;end".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("106.694.192/06", document.format(line, 3, 11));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Returns '106.694.192/06' when the key is 0x106_694_192_06L")
+    void formatKey_0() {
+        assertEquals("106.694.192/06", document.formatKey(0x106_694_192_06L));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Throws 'IllegalArgumentException' when the key is not valid")
+    void formatKey_1() {
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(0x106_694_192_07L));
+    }
+
+    @Test
+    @DisplayName("FormatTo: Appends '011.111.111/11' when value is '111.111.111/1'")
+    void formatTo_0()
+    throws IOException {
+        StringBuilder builder = new StringBuilder("id;");
+
+        assertEquals(14, document.formatTo("111.111.111/1", builder));
+        assertEquals("id;011.111.111/11", builder.toString());
+    }
+
+    @Test
+    @DisplayName("FormatTo: Throws 'IndexOutOfBoundsException' when the document does not fit in the array")
+    void formatTo_1() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.formatTo("111.111.111/1", new char[14], 1));
+    }
+
     @Test
     @DisplayName("Generate: Returns new valid document when successful")
     void generate_0() {
@@ -70,4 +118,77 @@ class CPFTest {
     void isValid_2() {
         assertThrows(NullDocumentException.class, () -> document.isValid(null));
     }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when the region of the text is '106.694.192/06'")
+    void isValid_3() {
+        StringBuilder text = new StringBuilder("id;").append("106.694.192/06").append(";end");
+
+        assertTrue(document.isValid(text, 3, 14));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the text misses the last digit")
+    void isValid_4() {
+        StringBuilder text = new StringBuilder("id;").append("106.694.192/06").append(";end");
+
+        assertFalse(document.isValid(text, 3, 13));
+    }
+
+    @Test
+    @DisplayName("IsValid: Throws 'IndexOutOfBoundsException' when the region is out of the text bounds")
+    void isValid_5() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.isValid("106.694.192/06", 1, 14));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a byte array")
+    void isValid_6() {
+        byte[] line = "id;106.694.192/06;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(document.isValid(line, 3, 14));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a direct byte buffer")
+    void isValid_7() {
+        byte[]     bytes = "id;106.694.192/06;end".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer line  = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        assertTrue(document.isValid(line, 3, 14));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the byte array misses the last digit")
+    void isValid_8() {
+        byte[] line = "id;106.694.192/06;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse(document.isValid(line, 3, 13));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'true' when the key is 0x106_694_192_06L")
+    void isValidKey_0() {
+        assertTrue(document.isValidKey(0x106_694_192_06L));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'false' when the key has a wrong verification digit or a value that is not a digit")
+    void isValidKey_1() {
+        assertFalse(document.isValidKey(0x106_694_192_07L));
+        assertFalse(document.isValidKey(0x106_694_192_06L | 0xF0));
+        assertFalse(document.isValidKey(-1));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns 0x106_694_192_06L when value is '106.694.192/06'")
+    void parseKey_0() {
+        assertEquals(0x106_694_192_06L, document.parseKey("106.694.192/06"));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns -1 when value is '106.694.192/07'")
+    void parseKey_1() {
+        assertEquals(-1, document.parseKey("106.694.192/07"));
+    }
 }
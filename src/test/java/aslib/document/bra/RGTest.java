@@ -1,10 +1,14 @@
 package aslib.document.bra;
 
-import aslib.document.Document;
+import aslib.document.KeyedDocument;
 import aslib.document.NullDocumentException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,12 +20,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * </p>
  *
  * @author Adriano Siqueira
- * @version 1.0.2
+ * @version 1.5.0
  * @since 12.0.0
  */
 class RGTest {
 
-    private final Document document = BrazilianDocument.rg();
+    private final KeyedDocument document = BrazilianDocument.rg();
 
 
     @Test
@@ -54,6 +58,50 @@ class RGTest {
         assertThrows(NullDocumentException.class, () -> document.format(null));
     }
 
+    @Test
+    @DisplayName("Format: Returns '10.000.006-X' when value is a region of a byte array")
+    void format_5() {
+        byte[] line = "id;10000006X;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("10.000.006-X", document.format(line, 3, 9));
+    }
+
+    @Test
+    @DisplayName("Format: Returns '10.000.006-X' when value is a region of a byte buffer")
+    void format_6() {
+        ByteBuffer line = ByteBuffer.wrap("id;10000006X;end".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("10.000.006-X", document.format(line, 3, 9));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Returns '10.000.006-X' when the key is 0x10_000_006_AL")
+    void formatKey_0() {
+        assertEquals("10.000.006-X", document.formatKey(0x10_000_006_AL));
+    }
+
+    @Test
+    @DisplayName("FormatKey: Throws 'IllegalArgumentException' when the key is not valid")
+    void formatKey_1() {
+        assertThrows(IllegalArgumentException.class, () -> document.formatKey(0x10_000_006_1L));
+    }
+
+    @Test
+    @DisplayName("FormatTo: Appends '01.111.111-1' when value is '11.111.111'")
+    void formatTo_0()
+    throws IOException {
+        StringBuilder builder = new StringBuilder("id;");
+
+        assertEquals(12, document.formatTo("11.111.111", builder));
+        assertEquals("id;01.111.111-1", builder.toString());
+    }
+
+    @Test
+    @DisplayName("FormatTo: Throws 'IndexOutOfBoundsException' when the document does not fit in the array")
+    void formatTo_1() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.formatTo("11.111.111", new char[12], 1));
+    }
+
     @Test
     @DisplayName("Generate: Returns new valid document when successful")
     void generate_0() {
@@ -77,4 +125,77 @@ class RGTest {
     void isValid_2() {
         assertThrows(NullDocumentException.class, () -> document.isValid(null));
     }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when the region of the text is '10.000.006-X'")
+    void isValid_3() {
+        StringBuilder text = new StringBuilder("id;").append("10.000.006-X").append(";end");
+
+        assertTrue(document.isValid(text, 3, 12));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the text misses the last digit")
+    void isValid_4() {
+        StringBuilder text = new StringBuilder("id;").append("10.000.006-X").append(";end");
+
+        assertFalse(document.isValid(text, 3, 11));
+    }
+
+    @Test
+    @DisplayName("IsValid: Throws 'IndexOutOfBoundsException' when the region is out of the text bounds")
+    void isValid_5() {
+        assertThrows(IndexOutOfBoundsException.class, () -> document.isValid("10.000.006-X", 1, 12));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a byte array")
+    void isValid_6() {
+        byte[] line = "id;10.000.006-X;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(document.isValid(line, 3, 12));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'true' when value is a region of a direct byte buffer")
+    void isValid_7() {
+        byte[]     bytes = "id;10.000.006-X;end".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer line  = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        assertTrue(document.isValid(line, 3, 12));
+    }
+
+    @Test
+    @DisplayName("IsValid: Returns 'false' when the region of the byte array misses the last digit")
+    void isValid_8() {
+        byte[] line = "id;10.000.006-X;end".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse(document.isValid(line, 3, 11));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'true' when the key is 0x10_000_006_AL")
+    void isValidKey_0() {
+        assertTrue(document.isValidKey(0x10_000_006_AL));
+    }
+
+    @Test
+    @DisplayName("IsValidKey: Returns 'false' when the key has a wrong verification digit or a value that is not a digit")
+    void isValidKey_1() {
+        assertFalse(document.isValidKey(0x10_000_006_1L));
+        assertFalse(document.isValidKey(0x10_000_006_AL | 0xF0));
+        assertFalse(document.isValidKey(-1));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns 0x10_000_006_AL when value is '10.000.006-X'")
+    void parseKey_0() {
+        assertEquals(0x10_000_006_AL, document.parseKey("10.000.006-X"));
+    }
+
+    @Test
+    @DisplayName("ParseKey: Returns -1 when value is '10.000.006-1'")
+    void parseKey_1() {
+        assertEquals(-1, document.parseKey("10.000.006-1"));
+    }
 }
@@ -0,0 +1,80 @@
+package aslib.security.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link Blake2bDigest} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@SuppressWarnings("SpellCheckingInspection")
+class Blake2bDigestTest {
+
+    private final Generator<byte[]> generator = new BytesGenerator();
+
+
+    private static byte[] input(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) (i % 251);
+        return bytes;
+    }
+
+
+    @Test
+    @DisplayName("Digest: Returns the hash of an empty input when successful")
+    void digest_0() {
+        assertEquals("786a02f742015903c6c6fd852552d272912f4740e15847618a86e217f71f5419d25e1031afee585313896444934eb04b903a685b1448b755d56f701afe9be2ce",
+                     generator.generate(Blake2bDigest.ALGORITHM, new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of 'abc' when successful")
+    void digest_1() {
+        assertEquals("ba80a53f981c4d0d6a2797b69f12f6e94c212f14685ac4b74b12bb6fdbffa2d17d87c5392aab792dc252d5de4533cc9518d38aa8dbf1925ab92386edd4009923",
+                     generator.generate(Blake2bDigest.ALGORITHM, "abc".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of a single full block when successful")
+    void digest_2() {
+        assertEquals("2319e3789c47e2daa5fe807f61bec2a1a6537fa03f19ff32e87eecbfd64b7e0e8ccff439ac333b040f19b0c4ddd11a61e24ac1fe0f10a039806c5dcc0da3d115",
+                     generator.generate(Blake2bDigest.ALGORITHM, input(128)));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of a block plus one byte when successful")
+    void digest_3() {
+        assertEquals("f59711d44a031d5f97a9413c065d1e614c417ede998590325f49bad2fd444d3e4418be19aec4e11449ac1a57207898bc57d76a1bcf3566292c20c683a5c4648f",
+                     generator.generate(Blake2bDigest.ALGORITHM, input(129)));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the same hash when the input is provided in pieces")
+    void digest_4() {
+        byte[]        bytes  = input(1000000);
+        MessageDigest digest = new Blake2bDigest();
+
+        int offset = 0;
+        int piece  = 1;
+
+        while (offset < bytes.length) {
+            int length = Math.min(piece, bytes.length - offset);
+            digest.update(bytes, offset, length);
+
+            offset += length;
+            piece = piece * 3 + 1;
+        }
+
+        assertEquals("0fc0f49b5886b793067c8d54d2dc87a04905e94b0bbc714ed973bdcb2160ebc9655229ab2d977ca5751d558c7fa5508b0d30f548bf959f499174dec615d4915d",
+                     generator.convertHexadecimalToString(digest.digest()));
+    }
+}
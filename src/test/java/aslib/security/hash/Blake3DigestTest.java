@@ -0,0 +1,119 @@
+package aslib.security.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link Blake3Digest} class. The expected values come from the
+ * official BLAKE3 test vectors, whose input is the repeating byte sequence
+ * 0, 1, ..., 250.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+@SuppressWarnings("SpellCheckingInspection")
+class Blake3DigestTest {
+
+    private final Generator<byte[]> generator = new BytesGenerator();
+
+
+    private static byte[] input(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) (i % 251);
+        return bytes;
+    }
+
+    private String hash(int length) {
+        return generator.generate(Blake3Digest.ALGORITHM, input(length));
+    }
+
+
+    @Test
+    @DisplayName("Digest: Returns the hash of an empty input when successful")
+    void digest_0() {
+        assertEquals("af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262", hash(0));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of a single byte when successful")
+    void digest_1() {
+        assertEquals("2d3adedff11b61f14c886e35afa036736dcd87a74d27b5c1510225d0f592e213", hash(1));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of a single full chunk when successful")
+    void digest_2() {
+        assertEquals("42214739f095a406f3fc83deb889744ac00df831c10daa55189b5d121c855af7", hash(1024));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of a chunk plus one byte when successful")
+    void digest_3() {
+        assertEquals("d00278ae47eb27b34faecf67b4fe263f82d5412916c1ffd97c8cb7fb814b8444", hash(1025));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of two full chunks when successful")
+    void digest_4() {
+        assertEquals("e776b6028c7cd22a4d0ba182a8bf62205d2ef576467e838ed6f2529b85fba24a", hash(2048));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the hash of an input hashed in parallel when successful")
+    void digest_5() {
+        assertEquals("a7bb55bed0c04f58879d1fc1cafb27e14e931f4411fe63baf5b2d5a60357bffb", hash(3 * 1024 * 1024 + 5));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the same hash when the input is provided in pieces")
+    void digest_6() {
+        byte[]        bytes  = input(200 * 1024);
+        MessageDigest digest = new Blake3Digest();
+
+        int offset = 0;
+        int piece  = 1;
+
+        while (offset < bytes.length) {
+            int length = Math.min(piece, bytes.length - offset);
+            digest.update(bytes, offset, length);
+
+            offset += length;
+            piece = piece * 3 + 1;
+        }
+
+        assertEquals("3eb0463bd7435847ae07cca18e25efd6424172d55d2a071184bab648b9050258",
+                     generator.convertHexadecimalToString(digest.digest()));
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the same hash when the input is a direct buffer")
+    void digest_7() {
+        byte[]     bytes  = input(200 * 1024);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        MessageDigest digest = new Blake3Digest();
+        digest.update(buffer);
+
+        assertEquals("3eb0463bd7435847ae07cca18e25efd6424172d55d2a071184bab648b9050258",
+                     generator.convertHexadecimalToString(digest.digest()));
+    }
+
+    @Test
+    @DisplayName("Digest: Resets the state after the hash is returned")
+    void digest_8() {
+        MessageDigest digest = new Blake3Digest();
+        digest.update(input(5000));
+        digest.digest();
+
+        assertEquals("af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262",
+                     generator.convertHexadecimalToString(digest.digest()));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -75,4 +77,25 @@ class BytesGeneratorTest {
     void generate_8() {
         assertThrows(NullPointerException.class, () -> generator.generate("", null));
     }
+
+    @Test
+    @DisplayName("GenerateAll: Returns the SHA256 of every array when successful")
+    void generateAll_0() {
+        List<String> expected = List.of("ecf701f727d9e2d77c4aa49ac6fbbcc997278aca010bddeeb961c10cf54d435a",
+                                        "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+
+        assertEquals(expected, new BytesGenerator().generateAll("SHA-256", List.of(bytes, new byte[0])));
+    }
+
+    @Test
+    @DisplayName("GenerateAll: Returns the MD5 of every array when successful")
+    void generateAll_1() {
+        assertEquals(List.of("c897d1410af8f2c74fba11b1db511e9e"), new BytesGenerator().generateAll("MD5", List.of(bytes)));
+    }
+
+    @Test
+    @DisplayName("GenerateAll: Throws 'NullPointerException' when inputs is null")
+    void generateAll_2() {
+        assertThrows(NullPointerException.class, () -> new BytesGenerator().generateAll("MD5", null));
+    }
 }
@@ -0,0 +1,52 @@
+package aslib.security.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link FileRange} class.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class FileRangeTest {
+
+    @Test
+    @DisplayName("Of: Returns a range with the provided bounds when successful")
+    void of_0() {
+        FileRange range = FileRange.of(10, 20);
+
+        assertEquals(10, range.offset());
+        assertEquals(20, range.length());
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when offset is negative")
+    void of_1() {
+        assertThrows(IllegalArgumentException.class, () -> FileRange.of(-1, 20));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when length is negative")
+    void of_2() {
+        assertThrows(IllegalArgumentException.class, () -> FileRange.of(10, -1));
+    }
+
+    @Test
+    @DisplayName("Of: Throws 'IllegalArgumentException' when range ends beyond the maximum long value")
+    void of_3() {
+        assertThrows(IllegalArgumentException.class, () -> FileRange.of(10, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Equals: Returns 'true' when the bounds are the same")
+    void equals_0() {
+        assertEquals(FileRange.of(10, 20), FileRange.of(10, 20));
+    }
+}
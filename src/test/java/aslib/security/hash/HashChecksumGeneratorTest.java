@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -225,6 +226,61 @@ class HashChecksumGeneratorTest {
     }
 
 
+    @Test
+    @DisplayName("Generate: Returns the SHA256 from path with direct I/O when successful")
+    void generate_25() {
+        assertEquals("ecf701f727d9e2d77c4aa49ac6fbbcc997278aca010bddeeb961c10cf54d435a",
+                     HashChecksumGenerator.sha256().directIO(true).generate(path));
+    }
+
+
+    @Test
+    @DisplayName("Generate: Returns the MD5 from a range of the path when successful")
+    void generate_26() {
+        assertEquals("5d41402abc4b2a76b9719d911017c592",
+                     HashChecksumGenerator.md5().generate(path, 0, 5));
+    }
+
+    @Test
+    @DisplayName("Generate: Returns the MD5 from many ranges of the path when successful")
+    void generate_27() {
+        assertEquals(List.of("5d41402abc4b2a76b9719d911017c592", "7d793037a0760186574b0282f2f435e7"),
+                     HashChecksumGenerator.md5().generate(path, List.of(FileRange.of(0, 5), FileRange.of(6, 5))));
+    }
+
+
+    @Test
+    @DisplayName("Generate: Returns the BLAKE2b from string when successful")
+    void generate_28() {
+        assertEquals("fc13029e8a5ce67ad5a70f0cc659a4b30df9d791b125835e434606c6127ee37ebbc8b216389682ddfa84380789db09f2535d2a9837454414ea3ff00ec0801150",
+                     HashChecksumGenerator.blake2b().generate(string));
+    }
+
+    @Test
+    @DisplayName("Generate: Returns the BLAKE3 from path when successful")
+    void generate_29() {
+        assertEquals("023aa505aebebfedf8f10495ee8614efede69fdbd56fce6168ccca11bf799db8",
+                     HashChecksumGenerator.blake3().generate(path));
+    }
+
+
+    @Test
+    @DisplayName("Generate: Returns the SHA256 from many arrays when successful")
+    void generate_30() {
+        assertEquals(List.of("ecf701f727d9e2d77c4aa49ac6fbbcc997278aca010bddeeb961c10cf54d435a"),
+                     HashChecksumGenerator.sha256().generate(List.of(bytes)));
+    }
+
+    @Test
+    @DisplayName("Generate: Returns the same hash as the whole path from a range when the path does not exist")
+    void generate_31() {
+        Path missing = path.resolveSibling(path.getFileName() + "_missing");
+
+        assertEquals(HashChecksumGenerator.md5().generate(missing),
+                     HashChecksumGenerator.md5().generate(missing, 0, 5));
+    }
+
+
     @Test
     @DisplayName("GetByLength: Detects MD5 when successful")
     void getByLength_1() {
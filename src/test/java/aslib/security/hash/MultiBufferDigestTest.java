@@ -0,0 +1,95 @@
+package aslib.security.hash;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <p style="text-align:justify">
+ * Tests for the {@link MultiBufferDigest} interface. The implementations are
+ * only tested when the {@code jdk.incubator.vector} module is resolved.
+ * </p>
+ *
+ * @author Adriano Siqueira
+ * @version 1.0.0
+ * @since 12.0.0
+ */
+class MultiBufferDigestTest {
+
+    private static boolean vector;
+
+
+    @BeforeAll
+    static void findVector() {
+        vector = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+
+    @Test
+    @DisplayName("SHA_256: Is available when the Vector API is resolved")
+    void sha256_0() {
+        assumeTrue(vector);
+        assertNotNull(MultiBufferDigest.SHA_256);
+    }
+
+    @Test
+    @DisplayName("Digest: Returns the same SHA256 of the message digest for every length")
+    void digest_0() throws NoSuchAlgorithmException {
+        assumeTrue(vector);
+
+        Random       random   = new Random(29);
+        List<byte[]> messages = new ArrayList<>();
+
+        // Every length around the padding boundaries, plus some multi-block ones
+        for (int length = 0; length <= 130; length++) {
+            byte[] message = new byte[length];
+            random.nextBytes(message);
+            messages.add(message);
+        }
+        for (int length : new int[]{1000, 4096, 10_000}) {
+            byte[] message = new byte[length];
+            random.nextBytes(message);
+            messages.add(message);
+        }
+
+        // Shuffles so the groups mix lengths and end partially filled
+        List<byte[]> shuffled = new ArrayList<>(messages);
+        Collections.shuffle(shuffled, random);
+
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        byte[][]      digests       = MultiBufferDigest.SHA_256.digest(shuffled);
+
+        assertEquals(shuffled.size(), digests.length);
+        for (int i = 0; i < shuffled.size(); i++) {
+            assertArrayEquals(messageDigest.digest(shuffled.get(i)), digests[i], "Length " + shuffled.get(i).length);
+        }
+    }
+
+    @Test
+    @DisplayName("Digest: Returns an empty array when there are no messages")
+    void digest_1() {
+        assumeTrue(vector);
+        assertEquals(0, MultiBufferDigest.SHA_256.digest(List.of()).length);
+    }
+
+    @Test
+    @DisplayName("Digest: Throws 'NullPointerException' when any message is null")
+    void digest_2() {
+        assumeTrue(vector);
+        assertThrows(NullPointerException.class, () -> MultiBufferDigest.SHA_256.digest(Arrays.asList(new byte[1], null)));
+    }
+}
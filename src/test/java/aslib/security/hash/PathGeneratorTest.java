@@ -6,11 +6,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * <p style="text-align:justify">
@@ -91,4 +96,122 @@ class PathGeneratorTest {
     void generate_8() {
         assertThrows(NullPointerException.class, () -> generator.generate("", null));
     }
+
+    @Test
+    @DisplayName("Generate: Returns the SHA256 with direct I/O when successful")
+    void generate_9() {
+        assertEquals("ecf701f727d9e2d77c4aa49ac6fbbcc997278aca010bddeeb961c10cf54d435a", new PathGenerator(true).generate("SHA-256", path));
+    }
+
+    @Test
+    @DisplayName("Generate: Returns the same hash with and without direct I/O when the file spans many blocks")
+    void generate_10()
+    throws IOException {
+        Path large = Files.createTempFile("aslib_", "_tempfile");
+
+        try {
+            byte[] bytes = new byte[3 * 1024 * 1024 + 123];
+            for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (i * 31);
+            Files.write(large, bytes);
+
+            assertEquals(generator.generate("SHA-256", large), new PathGenerator(true).generate("SHA-256", large));
+        } finally {
+            Files.deleteIfExists(large);
+        }
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Returns the MD5 of the range when successful")
+    void generateRange_0() {
+        assertEquals("5d41402abc4b2a76b9719d911017c592", new PathGenerator().generate("MD5", path, FileRange.of(0, 5)));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Ignores the bytes beyond the end of the file")
+    void generateRange_1() {
+        assertEquals("15296cbd7565d6b3583fcfe1d92246cbe27bd9b7c5862784c78f1176c3b622b0", new PathGenerator().generate("SHA-256", path, FileRange.of(6, 100)));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Returns the hashes in the order of the ranges when successful")
+    void generateRange_2() {
+        List<FileRange> ranges = List.of(FileRange.of(6, 5), FileRange.of(0, 0), FileRange.of(6, 7));
+
+        assertEquals(List.of("486ea46224d1bb4fb680f34f7c9ad96a8f24ec88be73ea8e5a6c65260e9cb8a7",
+                             "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                             "15296cbd7565d6b3583fcfe1d92246cbe27bd9b7c5862784c78f1176c3b622b0"),
+                     new PathGenerator().generate("SHA-256", path, ranges));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Returns the same hash of the whole file when the range covers it")
+    void generateRange_3() {
+        assertEquals(generator.generate("SHA-512", path), new PathGenerator().generate("SHA-512", path, FileRange.of(0, 13)));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Throws 'NullPointerException' when ranges is null")
+    void generateRange_4() {
+        assertThrows(NullPointerException.class, () -> new PathGenerator().generate("MD5", path, (List<FileRange>) null));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Throws 'AlgorithmNotFoundException' when algorithm is not found")
+    void generateRange_5() {
+        assertThrows(AlgorithmNotFoundException.class, () -> new PathGenerator().generate("", path, FileRange.of(0, 1)));
+    }
+
+    @Test
+    @DisplayName("GenerateRange: Returns the hash of no bytes for each range when the file does not exist")
+    void generateRange_6() {
+        Path missing = path.resolveSibling(path.getFileName() + "_missing");
+
+        assertEquals(generator.generate("MD5", missing), new PathGenerator().generate("MD5", missing, FileRange.of(0, 5)));
+        assertEquals(List.of(generator.generate("MD5", missing), generator.generate("MD5", missing)),
+                     new PathGenerator().generate("MD5", missing, List.of(FileRange.of(0, 5), FileRange.of(5, 5))));
+    }
+
+    @Test
+    @DisplayName("Update: Gives BLAKE3 pieces large enough for the parallel path when the file is large")
+    void update_0()
+    throws IOException {
+        Path   large = Files.createTempFile("aslib_", "_tempfile");
+        byte[] bytes = new byte[4 * 1024 * 1024];
+        new Random(1).nextBytes(bytes);
+
+        try {
+            Files.write(large, bytes);
+
+            LargestUpdate digest = new LargestUpdate();
+            try (FileChannel channel = FileChannel.open(large, StandardOpenOption.READ)) {
+                new PathGenerator().update(digest, channel, 0, Long.MAX_VALUE);
+            }
+
+            String expected = new BytesGenerator().generate(Blake3Digest.ALGORITHM, bytes);
+
+            assertTrue(digest.largest >= Blake3Digest.PARALLEL_THRESHOLD);
+            assertEquals(expected, generator.convertHexadecimalToString(digest.digest()));
+            assertEquals(expected, generator.generate(Blake3Digest.ALGORITHM, large));
+        } finally {
+            Files.deleteIfExists(large);
+        }
+    }
+
+
+    /**
+     * <p style="text-align:justify">
+     * BLAKE3 digest that records the largest piece of input it receives.
+     * </p>
+     */
+    private static class LargestUpdate extends Blake3Digest {
+
+        private int largest;
+
+
+        @Override
+        protected void engineUpdate(byte[] input, int offset, int length) {
+            largest = Math.max(largest, length);
+            super.engineUpdate(input, offset, length);
+        }
+    }
 }